@@ -0,0 +1,117 @@
+package com.example.payment.client;
+
+import com.example.payment.config.InicisConfig;
+import com.example.payment.config.InterfaceHistoryWriterConfig;
+import com.example.payment.config.TossConfig;
+import com.example.payment.dto.InicisResponse;
+import com.example.payment.dto.TossPaymentResponse;
+import com.example.payment.metrics.PaymentMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 응답 파싱 벤치마크
+ * 승인/취소 응답마다 호출되는 TossApiClient/InicisApiClient의 parseResponse 비용 측정
+ * - 응답 본문은 WebClient가 넘겨주는 것과 같이 DataBuffer로 전달
+ * - rawResponse: 인터페이스 이력 원문 저장 여부 (true면 응답 원문 바이트 복사 포함)
+ * - 이니시스 NVP 응답은 JSON 파싱 실패 후 key=value 파싱으로 처리되는 경로
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PgResponseParseBenchmark {
+
+    private static final String TOSS_CONFIRM_RESPONSE = """
+            {"mId":"tosspayments","lastTransactionKey":"9C62B18EEF0DE3EB7F4422EB6D14BC6E",\
+            "paymentKey":"5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1","orderId":"ORDER_20241018_000123",\
+            "orderName":"토스 티셔츠 외 2건","taxExemptionAmount":0,"status":"DONE",\
+            "requestedAt":"2024-10-18T12:00:00+09:00","approvedAt":"2024-10-18T12:00:03+09:00",\
+            "useEscrow":false,"cultureExpense":false,\
+            "card":{"issuerCode":"71","acquirerCode":"71","number":"12345678****000*","installmentPlanMonths":0,\
+            "isInterestFree":false,"interestPayer":null,"approveNo":"00000000","useCardPoint":false,\
+            "cardType":"신용","ownerType":"개인","acquireStatus":"READY","amount":15000},\
+            "virtualAccount":null,"transfer":null,"mobilePhone":null,"giftCertificate":null,"cashReceipt":null,\
+            "cashReceipts":null,"discount":null,"cancels":null,"secret":null,"type":"NORMAL",\
+            "easyPay":{"provider":"토스페이","amount":0,"discountAmount":0},"country":"KR","failure":null,\
+            "isPartialCancelable":true,"receipt":{"url":"https://dashboard.tosspayments.com/receipt/redirection"},\
+            "checkout":{"url":"https://api.tosspayments.com/v1/payments/5EnNZRJGvaBX7zk2yd8ydw26Xv/checkout"},\
+            "currency":"KRW","totalAmount":15000,"balanceAmount":15000,"suppliedAmount":13636,"vat":1364,\
+            "taxFreeAmount":0,"method":"카드","version":"2022-11-16"}""";
+
+    private static final String INICIS_APPROVAL_RESPONSE = """
+            {"resultCode":"0000","resultMsg":"정상처리되었습니다.","tid":"StdpayCARDINIpayTest20241018120000123456",\
+            "MOID":"ORDER_20241018_000123","TotPrice":"15000","goodName":"토스 티셔츠 외 2건","payMethod":"Card",\
+            "applDate":"20241018","applTime":"120003","EventCode":"","buyerName":"홍길동",\
+            "buyerTel":"01012345678","buyerEmail":"test@example.com","custEmail":"test@example.com",\
+            "CARD_Num":"12345678****000*","CARD_Interest":"0","CARD_Quota":"00","CARD_Code":"11",\
+            "CARD_BankCode":"11","CARD_PRTC_CODE":"1","CARD_CheckFlag":"0","applNum":"00000000","currency":"WON"}""";
+
+    private static final String INICIS_NVP_RESPONSE =
+            "resultCode=0000&resultMsg=정상처리되었습니다.&tid=StdpayCARDINIpayTest20241018120000123456"
+                    + "&MOID=ORDER_20241018_000123&TotPrice=15000&payMethod=Card&applDate=20241018&applTime=120003";
+
+    private static final byte[] TOSS_CONFIRM_BYTES = TOSS_CONFIRM_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INICIS_APPROVAL_BYTES = INICIS_APPROVAL_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INICIS_NVP_BYTES = INICIS_NVP_RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+    @Param({"true", "false"})
+    private boolean rawResponse;
+
+    private PgWebClientFactory pgWebClientFactory;
+    private TossApiClient tossApiClient;
+    private InicisApiClient inicisApiClient;
+
+    @Setup
+    public void setUp() {
+        pgWebClientFactory = new PgWebClientFactory();
+        PaymentMetrics paymentMetrics = new PaymentMetrics(new SimpleMeterRegistry());
+        InterfaceHistoryWriterConfig historyConfig = new InterfaceHistoryWriterConfig();
+        historyConfig.setRawResponse(rawResponse);
+        // 파싱만 측정하므로 API 호출/이력 저장에 필요한 협력 객체는 생성하지 않음
+        tossApiClient = new TossApiClient(new TossConfig(), null, pgWebClientFactory, null, paymentMetrics, historyConfig);
+        inicisApiClient = new InicisApiClient(new InicisConfig(), null, pgWebClientFactory, null, paymentMetrics, historyConfig);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pgWebClientFactory.destroy();
+    }
+
+    @Benchmark
+    public PgResponseBody<TossPaymentResponse> tossParseResponse() {
+        return tossApiClient.parseResponse(wrap(TOSS_CONFIRM_BYTES));
+    }
+
+    @Benchmark
+    public PgResponseBody<InicisResponse> inicisParseJsonResponse() {
+        return inicisApiClient.parseResponse(wrap(INICIS_APPROVAL_BYTES));
+    }
+
+    @Benchmark
+    public PgResponseBody<InicisResponse> inicisParseNvpResponse() {
+        return inicisApiClient.parseResponse(wrap(INICIS_NVP_BYTES));
+    }
+
+    private static DataBuffer wrap(byte[] body) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(body);
+    }
+}
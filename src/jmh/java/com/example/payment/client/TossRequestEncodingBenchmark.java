@@ -0,0 +1,93 @@
+package com.example.payment.client;
+
+import com.example.payment.config.InterfaceHistoryWriterConfig;
+import com.example.payment.config.TossConfig;
+import com.example.payment.metrics.PaymentMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스 승인 요청 준비 비용 벤치마크 (Authorization 헤더 + 요청 본문 인코딩)
+ * - codec: 요청마다 헤더 Base64 인코딩, HashMap 생성 후 WebClient JSON 코덱(Jackson2JsonEncoder)으로 직렬화
+ * - template: 보관된 헤더 사용, 요청 본문 템플릿에 값만 채워 Netty 풀 버퍼에 기록
+ * 두 경로 모두 Reactor Netty와 같은 풀 버퍼 팩토리를 사용하고 버퍼는 바로 해제
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TossRequestEncodingBenchmark {
+
+    private static final String API_KEY = "test_sk_zXLkKEypNArWmo50nX3lmeaxYG5R";
+    private static final String PAYMENT_KEY = "5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1";
+    private static final String ORDER_ID = "ORDER_20241018_000123";
+    private static final Long AMOUNT = 15000L;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private final Jackson2JsonEncoder jsonEncoder = new Jackson2JsonEncoder();
+
+    private PgWebClientFactory pgWebClientFactory;
+    private TossApiClient tossApiClient;
+
+    @Setup
+    public void setUp() {
+        TossConfig tossConfig = new TossConfig();
+        tossConfig.setApiKey(API_KEY);
+        pgWebClientFactory = new PgWebClientFactory();
+        // 요청 준비만 측정하므로 API 호출/이력 저장에 필요한 협력 객체는 생성하지 않음
+        tossApiClient = new TossApiClient(tossConfig, null, pgWebClientFactory, null,
+                new PaymentMetrics(new SimpleMeterRegistry()), new InterfaceHistoryWriterConfig());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pgWebClientFactory.destroy();
+    }
+
+    @Benchmark
+    public void codecConfirmRequest(Blackhole blackhole) {
+        blackhole.consume(TossApiClient.createAuthorizationHeader(API_KEY));
+
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("paymentKey", PAYMENT_KEY);
+        requestData.put("amount", AMOUNT);
+        requestData.put("orderId", ORDER_ID);
+        DataBuffer body = jsonEncoder.encodeValue(requestData, bufferFactory, ResolvableType.forInstance(requestData),
+                MediaType.APPLICATION_JSON, null);
+        blackhole.consume(body.readableByteCount());
+        DataBufferUtils.release(body);
+    }
+
+    @Benchmark
+    public void templateConfirmRequest(Blackhole blackhole) {
+        blackhole.consume(tossApiClient.authorizationHeader());
+
+        DataBuffer body = new TossRequestBody.Confirm(PAYMENT_KEY, AMOUNT, ORDER_ID).writeTo(bufferFactory);
+        blackhole.consume(body.readableByteCount());
+        DataBufferUtils.release(body);
+    }
+}
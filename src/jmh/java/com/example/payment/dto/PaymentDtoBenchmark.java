@@ -0,0 +1,55 @@
+package com.example.payment.dto;
+
+import com.example.payment.entity.Member;
+import com.example.payment.entity.Payment;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaymentDto 변환 벤치마크
+ * 결제 엔티티(from(Payment))와 조회용 프로젝션(from(PaymentSummary))의 변환 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentDtoBenchmark {
+
+    private Payment payment;
+    private PaymentSummary summary;
+
+    @Setup
+    public void setUp() {
+        Member member = new Member("member01", "홍길동", "test@example.com", "01012345678");
+        payment = new Payment("ORDER_20241018_000123", member, PaymentMethod.CARD, PaymentType.APPROVE,
+                "TOSS", 15000L, "토스 티셔츠", "5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1");
+        payment.setId(1L);
+        summary = new PaymentSummary(1L, "ORDER_20241018_000123", PaymentMethod.CARD, PaymentType.APPROVE,
+                "TOSS", 15000L, LocalDateTime.of(2024, 10, 18, 12, 0), "토스 티셔츠", "member01");
+    }
+
+    @Benchmark
+    public PaymentDto fromPayment() {
+        return PaymentDto.from(payment);
+    }
+
+    @Benchmark
+    public PaymentDto fromSummary() {
+        return PaymentDto.from(summary);
+    }
+}
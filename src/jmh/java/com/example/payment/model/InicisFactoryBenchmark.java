@@ -0,0 +1,47 @@
+package com.example.payment.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InicisFactory 해시 생성 벤치마크
+ * 결제창 호출 정보(inicisPcPayInfo) 생성 시 3회 호출되는 hashSha256, 취소 요청(hashData)의 hashSha512 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InicisFactoryBenchmark {
+
+    private String nvpData;
+    private String cancelHashBase;
+
+    @Setup
+    public void setUp() {
+        nvpData = "oid=ORDER_20241018_000123&price=15000&signKey=SU5JTElURV9UUklQTEVERVNfS0VZU1RS&timestamp=1729240000000";
+        cancelHashBase = "ItEQKi3rY7uvDS8l" + "Refund" + "Card" + "20241018120000" + "127.0.0.1" + "INIpayTest"
+                + "StdpayCARDINIpayTest20241018120000123456";
+    }
+
+    @Benchmark
+    public String hashSha256() {
+        return InicisFactory.hashSha256(nvpData);
+    }
+
+    @Benchmark
+    public String hashSha512() {
+        return InicisFactory.hashSha512(cancelHashBase);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.payment.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인터페이스 이력 JSON 변환 벤치마크
+ * PG API 호출마다 요청/응답 데이터를 이력으로 저장할 때 호출되는 convertToJson 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterfaceHistoryServiceBenchmark {
+
+    private InterfaceHistoryService interfaceHistoryService;
+
+    private Map<String, Object> requestData;
+    private Map<String, Object> responseData;
+
+    @Setup
+    public void setUp() {
+        // JSON 변환만 측정하므로 이력 저장소는 사용하지 않음
+        interfaceHistoryService = new InterfaceHistoryService(null, null);
+
+        requestData = new LinkedHashMap<>();
+        requestData.put("paymentKey", "5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1");
+        requestData.put("orderId", "ORDER_20241018_000123");
+        requestData.put("amount", 15000L);
+
+        Map<String, Object> card = new LinkedHashMap<>();
+        card.put("issuerCode", "71");
+        card.put("number", "12345678****000*");
+        card.put("installmentPlanMonths", 0);
+        card.put("approveNo", "00000000");
+        card.put("cardType", "신용");
+        card.put("amount", 15000);
+
+        responseData = new LinkedHashMap<>();
+        responseData.put("paymentKey", "5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1");
+        responseData.put("orderId", "ORDER_20241018_000123");
+        responseData.put("orderName", "토스 티셔츠 외 2건");
+        responseData.put("status", "DONE");
+        responseData.put("requestedAt", "2024-10-18T12:00:00+09:00");
+        responseData.put("approvedAt", "2024-10-18T12:00:03+09:00");
+        responseData.put("card", card);
+        responseData.put("totalAmount", 15000);
+        responseData.put("balanceAmount", 15000);
+        responseData.put("method", "카드");
+    }
+
+    @Benchmark
+    public String convertRequestToJson() {
+        return interfaceHistoryService.convertToJson(requestData);
+    }
+
+    @Benchmark
+    public String convertResponseToJson() {
+        return interfaceHistoryService.convertToJson(responseData);
+    }
+}
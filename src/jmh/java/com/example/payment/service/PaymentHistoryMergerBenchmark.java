@@ -0,0 +1,164 @@
+package com.example.payment.service;
+
+import com.example.payment.dto.PaymentDto;
+import com.example.payment.dto.PaymentSummary;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 결제내역 병합 벤치마크
+ * 결제내역 조회(회원별/주문별)마다 호출되는 PaymentHistoryMerger.merge 비용을 조회 건수별로 측정
+ * - legacyMerge: 단일 순회 병합 이전의 groupingBy 기반 병합 (비교 기준, 같은 입력 사용)
+ * - 주문마다 카드 승인, 일부 주문은 적립금 승인을 함께 생성하고 약 30%는 취소건을 추가
+ * - 고정 시드로 생성하여 실행마다 같은 입력 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentHistoryMergerBenchmark {
+
+    @Param({"20", "200", "2000"})
+    private int rowCount;
+
+    private final PaymentHistoryMerger paymentHistoryMerger = new PaymentHistoryMerger();
+
+    private List<PaymentSummary> payments;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime baseTime = LocalDateTime.of(2024, 10, 18, 12, 0);
+        List<PaymentSummary> rows = new ArrayList<>(rowCount);
+        long id = 1;
+
+        for (int order = 0; rows.size() < rowCount; order++) {
+            String orderId = "ORDER_" + order;
+            LocalDateTime approvedAt = baseTime.minusMinutes(order * 10L);
+            boolean cancelled = random.nextInt(10) < 3;
+
+            rows.add(summary(id++, orderId, PaymentMethod.CARD, PaymentType.APPROVE, approvedAt));
+            if (random.nextBoolean()) {
+                rows.add(summary(id++, orderId, PaymentMethod.POINTS, PaymentType.APPROVE, approvedAt));
+            }
+            if (cancelled) {
+                rows.add(summary(id++, orderId, PaymentMethod.CARD, PaymentType.CANCEL, approvedAt.plusMinutes(5)));
+            }
+        }
+
+        // 조회 쿼리와 같이 결제일시 내림차순으로 정렬
+        rows.sort(Comparator.comparing(PaymentSummary::getPaymentAt).reversed()
+                .thenComparing(PaymentSummary::getId, Comparator.reverseOrder()));
+        payments = List.copyOf(rows.subList(0, rowCount));
+    }
+
+    @Benchmark
+    public List<PaymentDto> merge() {
+        return paymentHistoryMerger.merge(payments);
+    }
+
+    @Benchmark
+    public List<PaymentDto> legacyMerge() {
+        return LegacyPaymentHistoryMerger.merge(payments);
+    }
+
+    private PaymentSummary summary(long id, String orderId, PaymentMethod method, PaymentType payType,
+                                   LocalDateTime paymentAt) {
+        String pgProvider = method == PaymentMethod.CARD ? "TOSS" : null;
+        return new PaymentSummary(id, orderId, method, payType, pgProvider, 15000L, paymentAt, "토스 티셔츠", "member01");
+    }
+
+    /**
+     * 단일 순회 병합 이전의 병합 로직 (PaymentService.mergePaymentsByOrderIdAndMethod)
+     * 주문번호 + 결제수단 문자열 키로 그룹화 후 그룹마다 승인/취소건을 분류하고, 병합 결과를 다시 정렬하여 DTO로 변환
+     * 이전에는 결제 엔티티에 취소일시 임시 필드를 두고 병합용 복사본을 만들었으므로 복사본 + 취소일시로 대체
+     */
+    private static final class LegacyPaymentHistoryMerger {
+
+        static List<PaymentDto> merge(List<PaymentSummary> payments) {
+            return mergePaymentsByOrderIdAndMethod(payments).stream()
+                    .map(LegacyPaymentHistoryMerger::convertToDto)
+                    .collect(Collectors.toList());
+        }
+
+        private static List<MergedPayment> mergePaymentsByOrderIdAndMethod(List<PaymentSummary> payments) {
+            Map<String, List<PaymentSummary>> paymentGroups = payments.stream()
+                    .collect(Collectors.groupingBy(p -> p.getOrderId() + "_" + p.getPaymentMethod()));
+
+            List<MergedPayment> mergedPayments = new ArrayList<>();
+
+            for (List<PaymentSummary> paymentGroup : paymentGroups.values()) {
+                List<PaymentSummary> approvePayments = paymentGroup.stream()
+                        .filter(p -> p.getPayType() == null || p.getPayType().name().equals("APPROVE"))
+                        .toList();
+                List<PaymentSummary> cancelPayments = paymentGroup.stream()
+                        .filter(p -> p.getPayType() != null && p.getPayType().name().equals("CANCEL"))
+                        .toList();
+
+                if (!approvePayments.isEmpty()) {
+                    PaymentSummary basePayment = approvePayments.stream()
+                            .min((a, b) -> b.getPaymentAt().compareTo(a.getPaymentAt()))
+                            .get();
+
+                    if (!cancelPayments.isEmpty()) {
+                        PaymentSummary cancelPayment = cancelPayments.stream()
+                                .min((a, b) -> b.getPaymentAt().compareTo(a.getPaymentAt()))
+                                .get();
+                        mergedPayments.add(createMergedPayment(basePayment, cancelPayment));
+                    } else {
+                        mergedPayments.add(new MergedPayment(basePayment, null));
+                    }
+                } else if (!cancelPayments.isEmpty()) {
+                    mergedPayments.add(new MergedPayment(cancelPayments.get(0), null));
+                }
+            }
+
+            return mergedPayments.stream()
+                    .sorted((a, b) -> b.payment().getPaymentAt().compareTo(a.payment().getPaymentAt()))
+                    .collect(Collectors.toList());
+        }
+
+        private static MergedPayment createMergedPayment(PaymentSummary approvePayment, PaymentSummary cancelPayment) {
+            PaymentSummary merged = new PaymentSummary(approvePayment.getId(), approvePayment.getOrderId(),
+                    approvePayment.getPaymentMethod(), approvePayment.getPayType(), approvePayment.getPgProvider(),
+                    approvePayment.getPaymentAmount(), approvePayment.getPaymentAt(), approvePayment.getProductName(),
+                    approvePayment.getMemberId());
+            return new MergedPayment(merged, cancelPayment.getPaymentAt());
+        }
+
+        private static PaymentDto convertToDto(MergedPayment mergedPayment) {
+            PaymentDto dto = PaymentDto.from(mergedPayment.payment());
+            if (mergedPayment.cancelledAt() != null) {
+                dto.setIsCancelled(true);
+                dto.setCancelledAt(mergedPayment.cancelledAt());
+                dto.setPayType("CANCEL");
+            }
+            return dto;
+        }
+
+        private record MergedPayment(PaymentSummary payment, LocalDateTime cancelledAt) {
+        }
+    }
+}
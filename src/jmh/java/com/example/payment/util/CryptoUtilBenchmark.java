@@ -0,0 +1,47 @@
+package com.example.payment.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CryptoUtil 해시 생성 벤치마크
+ * 이니시스 승인(signature/verification, SHA-256)과 취소(hashData, SHA-512) 요청마다 호출되는 해시 생성 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CryptoUtilBenchmark {
+
+    private String signatureData;
+    private String refundHashTarget;
+
+    @Setup
+    public void setUp() {
+        signatureData = "authToken=" + "a1B2c3D4e5F6g7H8i9J0".repeat(10) + "&timestamp=1729240000000";
+        refundHashTarget = "ItEQKi3rY7uvDS8l" + "INIpayTest" + "refund" + "20241018120000"
+                + "{\"tid\":\"StdpayCARDINIpayTest20241018120000123456\",\"msg\":\"결제 취소\"}";
+    }
+
+    @Benchmark
+    public String generateSHA256() {
+        return CryptoUtil.generateSHA256(signatureData);
+    }
+
+    @Benchmark
+    public String generateSHA512() {
+        return CryptoUtil.generateSHA512(refundHashTarget);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.payment.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing 벤치마크 (입력 길이/문자 종류별)
+ * - signature: 이니시스 승인 signature 대상 (ASCII, 약 230자)
+ * - refund: 이니시스 취소 hashData 대상 (한글 포함 JSON)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashingBenchmark {
+
+    @Param({"signature", "refund"})
+    private String input;
+
+    private String data;
+
+    @Setup
+    public void setUp() {
+        data = switch (input) {
+            case "signature" -> "authToken=" + "a1B2c3D4e5F6g7H8i9J0".repeat(10) + "&timestamp=1729240000000";
+            case "refund" -> "ItEQKi3rY7uvDS8l" + "INIpayTest" + "refund" + "20241018120000"
+                    + "{\"tid\":\"StdpayCARDINIpayTest20241018120000123456\",\"msg\":\"결제 취소\"}";
+            default -> throw new IllegalArgumentException(input);
+        };
+    }
+
+    @Benchmark
+    public String sha256Hex() {
+        return Hashing.sha256Hex(data);
+    }
+
+    @Benchmark
+    public String sha512Hex() {
+        return Hashing.sha512Hex(data);
+    }
+}
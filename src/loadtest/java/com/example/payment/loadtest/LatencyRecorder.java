@@ -0,0 +1,86 @@
+package com.example.payment.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API별 응답시간(HdrHistogram)과 오류 수 집계
+ * 측정 시작 시각 이전에 시작한 요청(워밍업 구간)은 집계하지 않음
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile long measureStartNanos = Long.MAX_VALUE;
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 측정 시작 (워밍업 중 기록된 값은 버림)
+     */
+    public void startMeasurement(long startNanos) {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.reset();
+        measureStartNanos = startNanos;
+    }
+
+    /**
+     * 응답시간 기록
+     *
+     * @param operation  API
+     * @param startNanos 요청 시작 시각 (개방 모델에서는 예정된 요청 시각 - 대기 시간 포함)
+     * @param success    성공 여부 (HTTP 4xx/5xx, 연결 오류는 실패)
+     */
+    public void record(Operation operation, long startNanos, boolean success) {
+        if (startNanos < measureStartNanos) {
+            return;
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        recorders.get(operation).recordValue(Math.min(elapsedMicros, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * 동시 요청 한도 초과로 보내지 못한 요청 (개방 모델)
+     */
+    public void recordDropped(long startNanos) {
+        if (startNanos >= measureStartNanos) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 측정 구간의 API별 응답시간 분포 (호출하면 집계가 초기화됨)
+     */
+    public Map<Operation, Histogram> snapshot() {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
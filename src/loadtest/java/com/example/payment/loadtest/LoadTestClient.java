@@ -0,0 +1,172 @@
+package com.example.payment.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+/**
+ * 결제 API 호출 (JDK HttpClient, 요청마다 응답 본문까지 수신)
+ */
+public class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final String baseUrl;
+    private final String simulatorUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoadTestClient(String baseUrl, String simulatorUrl) {
+        this.baseUrl = baseUrl;
+        this.simulatorUrl = simulatorUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 애플리케이션 준비 상태 확인
+     */
+    public boolean isReady() {
+        try {
+            return get("/actuator/health/readiness").isSuccess();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 회원가입 (MemberService.signup, 가입 적립금 1,000원 지급)
+     */
+    public Response signup(String memberId) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("memberId", memberId)
+                .put("name", "부하테스트")
+                .put("email", memberId + "@loadtest.local")
+                .put("phone", "01000000000");
+        return post("/api/member/signup", body);
+    }
+
+    /**
+     * 결제 승인 요청
+     *
+     * @param type         card, points, mixed (카드 + 적립금 복합결제)
+     * @param pgProvider   카드 결제 PG사 (TOSS, INICIS)
+     */
+    public Response confirm(String orderId, String memberId, String type, String pgProvider,
+                            long cardAmount, long pointsAmount) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("orderId", orderId);
+        body.put("memberId", memberId);
+        body.put("productName", "부하테스트 상품");
+
+        ArrayNode items = body.putArray("paymentItems");
+        long totalAmount = 0;
+        if (!type.equals("points")) {
+            items.addObject().put("paymentMethod", "CARD").put("amount", cardAmount);
+            totalAmount += cardAmount;
+            body.put("pgProvider", pgProvider);
+            body.set("authResultMap", authResult(orderId, pgProvider));
+        }
+        if (!type.equals("card")) {
+            items.addObject().put("paymentMethod", "POINTS").put("amount", pointsAmount);
+            totalAmount += pointsAmount;
+        }
+        body.put("totalAmount", totalAmount);
+        return post("/api/payment/confirm", body);
+    }
+
+    /**
+     * 주문의 취소 가능한 결제 ID 조회 (카드 결제 우선)
+     */
+    public Optional<Long> findCancelablePaymentId(Response orderResponse) throws IOException {
+        if (!orderResponse.isSuccess()) {
+            return Optional.empty();
+        }
+
+        Long pointsPaymentId = null;
+        for (JsonNode payment : objectMapper.readTree(orderResponse.body()).path("paymentList")) {
+            if (!"APPROVE".equals(payment.path("payType").asText()) || payment.path("isCancelled").asBoolean()) {
+                continue;
+            }
+            if ("CARD".equals(payment.path("paymentMethod").asText())) {
+                return Optional.of(payment.path("id").asLong());
+            }
+            pointsPaymentId = payment.path("id").asLong();
+        }
+        return Optional.ofNullable(pointsPaymentId);
+    }
+
+    public Response order(String orderId) throws IOException, InterruptedException {
+        return get("/api/payment/order/" + orderId);
+    }
+
+    public Response cancel(long paymentId) throws IOException, InterruptedException {
+        return post("/api/payment/cancel/" + paymentId, objectMapper.createObjectNode());
+    }
+
+    public Response history(String memberId) throws IOException, InterruptedException {
+        return get("/api/payment/history/" + memberId);
+    }
+
+    public Response member(String memberId) throws IOException, InterruptedException {
+        return get("/api/member/" + memberId);
+    }
+
+    /**
+     * PG 인증 결과 (PG 시뮬레이터 기준)
+     */
+    private ObjectNode authResult(String orderId, String pgProvider) {
+        ObjectNode authResult = objectMapper.createObjectNode();
+        if ("INICIS".equals(pgProvider)) {
+            authResult.put("resultCode", "0000");
+            authResult.put("authToken", "lt-" + orderId);
+            authResult.put("authUrl", simulatorUrl + "/api/payAuth");
+            authResult.put("netCancelUrl", simulatorUrl + "/api/netCancel");
+        } else {
+            authResult.put("paymentKey", "lt_" + orderId);
+        }
+        return authResult;
+    }
+
+    private Response get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    private Response post(String path, JsonNode body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        return send(request);
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    public record Response(int status, String body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.payment.loadtest;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--이름=값 형식, 같은 옵션을 여러 번 지정하면 마지막 값 사용)
+ */
+@Getter
+public class LoadTestOptions {
+
+    /**
+     * 부하 모델
+     * - CLOSED: 동시 사용자 수(concurrency)만큼 응답을 받은 뒤 다음 요청 (처리량은 서버 응답시간에 따라 결정)
+     * - OPEN: 초당 요청 수(rate)로 도착 (서버가 느려져도 요청 간격이 유지되어 대기열/지연이 드러남)
+     */
+    public enum Model { CLOSED, OPEN }
+
+    private final Map<String, String> values;
+
+    private final String baseUrl;
+    private final String simulatorUrl;
+    private final Model model;
+    private final int concurrency;
+    private final double rate;
+    private final int maxInFlight;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int members;
+    private final WeightedChoice<Operation> operationMix;
+    private final WeightedChoice<String> confirmMix;
+    private final WeightedChoice<String> pgMix;
+    private final long cardAmount;
+    private final long pointsAmount;
+    private final long seed;
+    private final String label;
+    private final String output;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+        this.baseUrl = value("base-url", "http://localhost:8080");
+        this.simulatorUrl = value("simulator-url", "http://localhost:18090");
+        this.model = Model.valueOf(value("model", "closed").toUpperCase());
+        this.concurrency = Integer.parseInt(value("concurrency", "32"));
+        this.rate = Double.parseDouble(value("rate", "100"));
+        this.maxInFlight = Integer.parseInt(value("max-in-flight", "5000"));
+        this.warmup = parseDuration(value("warmup", "10s"));
+        this.duration = parseDuration(value("duration", "60s"));
+        this.members = Integer.parseInt(value("members", "200"));
+        this.operationMix = WeightedChoice.parse(value("mix", "confirm:50,cancel:10,history:20,member:20"),
+                name -> Operation.valueOf(name.toUpperCase()));
+        this.confirmMix = WeightedChoice.parse(value("confirm-mix", "card:60,points:20,mixed:20"), this::confirmType);
+        this.pgMix = WeightedChoice.parse(value("pg-mix", "TOSS:70,INICIS:30"), String::toUpperCase);
+        this.cardAmount = Long.parseLong(value("card-amount", "15000"));
+        this.pointsAmount = Long.parseLong(value("points-amount", "10"));
+        this.seed = Long.parseLong(value("seed", "42"));
+        this.label = value("label", model.name().toLowerCase());
+        this.output = value("output", "target/loadtest/results");
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    /**
+     * 결과 파일에 기록할 옵션 (기본값 포함)
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("baseUrl", baseUrl);
+        description.put("model", model.name().toLowerCase());
+        if (model == Model.CLOSED) {
+            description.put("concurrency", concurrency);
+        } else {
+            description.put("rate", rate);
+            description.put("maxInFlight", maxInFlight);
+        }
+        description.put("warmup", warmup.toString());
+        description.put("duration", duration.toString());
+        description.put("members", members);
+        description.put("mix", operationMix.toString());
+        description.put("confirmMix", confirmMix.toString());
+        description.put("pgMix", pgMix.toString());
+        description.put("cardAmount", cardAmount);
+        description.put("pointsAmount", pointsAmount);
+        description.put("seed", seed);
+        return description;
+    }
+
+    private String value(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    private String confirmType(String name) {
+        String type = name.toLowerCase();
+        if (!type.equals("card") && !type.equals("points") && !type.equals("mixed")) {
+            throw new IllegalArgumentException("결제 유형은 card, points, mixed 중 하나여야 합니다: " + name);
+        }
+        return type;
+    }
+
+    /**
+     * 10s, 500ms, 2m 형식의 시간 (단위 생략 시 초)
+     */
+    private static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(text));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.payment.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 저장
+ * - summary.json: 실행 옵션, API별 처리량/오류 수/응답시간 백분위 (릴리즈별 기준값 비교용)
+ * - {api}.hgrm: API별 HdrHistogram 백분위 분포 (ms, HdrHistogram plotter로 그래프 작성 가능)
+ */
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private static final DateTimeFormatter DIRECTORY_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * 결과를 {output}/{label}-{시작시각} 디렉터리에 저장하고 요약을 출력
+     *
+     * @return 결과 디렉터리
+     */
+    public Path write(LoadTestOptions options, LatencyRecorder recorder, LocalDateTime startedAt,
+                      Duration measured) throws IOException {
+        Path directory = Path.of(options.getOutput(), options.getLabel() + "-" + startedAt.format(DIRECTORY_TIME));
+        Files.createDirectories(directory);
+
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        Map<Operation, Histogram> histograms = recorder.snapshot();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            String name = entry.getKey().name().toLowerCase();
+            long errors = recorder.errors(entry.getKey());
+            operations.put(name, statistics(entry.getKey().getEndpoint(), histogram, errors, seconds));
+            total.add(histogram);
+            totalErrors += errors;
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("label", options.getLabel());
+        summary.put("startedAt", startedAt.toString());
+        summary.put("measuredSeconds", round(seconds));
+        summary.put("options", options.describe());
+        summary.put("total", statistics("all", total, totalErrors, seconds));
+        summary.put("dropped", recorder.dropped());
+        summary.put("operations", operations);
+        objectMapper.writeValue(directory.resolve("summary.json").toFile(), summary);
+
+        print(operations, statistics("all", total, totalErrors, seconds), recorder.dropped());
+        return directory;
+    }
+
+    private Map<String, Object> statistics(String endpoint, Histogram histogram, long errors, double seconds) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", round(histogram.getMean() / MICROS_PER_MILLI));
+        latency.put("p50", millis(histogram, 50.0));
+        latency.put("p90", millis(histogram, 90.0));
+        latency.put("p99", millis(histogram, 99.0));
+        latency.put("p999", millis(histogram, 99.9));
+        latency.put("max", round(histogram.getMaxValue() / MICROS_PER_MILLI));
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("endpoint", endpoint);
+        statistics.put("count", histogram.getTotalCount());
+        statistics.put("errors", errors);
+        statistics.put("throughput", round(histogram.getTotalCount() / seconds));
+        statistics.put("latencyMs", latency);
+        return statistics;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void print(Map<String, Object> operations, Map<String, Object> total, long dropped) {
+        System.out.println();
+        System.out.printf("%-13s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "api", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        Map<String, Object> rows = new LinkedHashMap<>(operations);
+        rows.put("total", total);
+        rows.forEach((name, value) -> {
+            Map<String, Object> statistics = (Map<String, Object>) value;
+            Map<String, Object> latency = (Map<String, Object>) statistics.get("latencyMs");
+            System.out.printf("%-13s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", name,
+                    (Long) statistics.get("count"), (Long) statistics.get("errors"), (Double) statistics.get("throughput"),
+                    (Double) latency.get("p50"), (Double) latency.get("p90"), (Double) latency.get("p99"),
+                    (Double) latency.get("p999"), (Double) latency.get("max"));
+        });
+        if (dropped > 0) {
+            System.out.printf("동시 요청 한도 초과로 보내지 못한 요청: %d건%n", dropped);
+        }
+    }
+
+    private double millis(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.payment.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 결제 API 부하 테스트
+ * 실행 중인 애플리케이션(loadtest 프로파일: PG 시뮬레이터 사용)에 결제 승인/취소/결제내역 조회/회원 조회 요청을 섞어 보내고
+ * 워밍업 이후 측정 구간의 API별 처리량과 응답시간 백분위를 저장
+ * - 회원은 회원가입 API(MemberService.signup)로 미리 생성 (가입 적립금으로 적립금 결제)
+ * - 같은 seed를 사용하면 요청 종류/회원/결제수단 순서가 같음 (취소 대상 주문은 승인 완료 순서에 따름)
+ */
+public class LoadTestRunner {
+
+    private static final int SEED_PARALLELISM = 16;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final LoadTestOptions options;
+    private final LoadTestClient client;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong orderSequence = new AtomicLong();
+    private final Queue<String> confirmedOrders = new ConcurrentLinkedQueue<>();
+    private final AtomicLong completed = new AtomicLong();
+
+    private List<String> memberIds;
+
+    public LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        this.client = new LoadTestClient(options.getBaseUrl(), options.getSimulatorUrl());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path result = new LoadTestRunner(options).run();
+        System.out.println("결과 저장: " + result.toAbsolutePath());
+    }
+
+    public Path run() throws Exception {
+        if (!client.isReady()) {
+            throw new IllegalStateException("애플리케이션이 준비되지 않았습니다: " + options.getBaseUrl()
+                    + " (mvn spring-boot:run -Dspring-boot.run.profiles=loadtest)");
+        }
+
+        System.out.printf("부하 테스트 시작: %s%n", options.describe());
+        memberIds = seedMembers();
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + options.getWarmup().toNanos();
+        long endNanos = measureStartNanos + options.getDuration().toNanos();
+        recorder.startMeasurement(measureStartNanos);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (options.getModel() == LoadTestOptions.Model.OPEN) {
+                runOpen(executor, startNanos, endNanos);
+            } else {
+                runClosed(executor, endNanos);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                System.out.println("응답 대기 시간 초과 - 완료되지 않은 요청은 집계에서 제외");
+                executor.shutdownNow();
+            }
+        }
+
+        return new LoadTestReport().write(options, recorder, startedAt, options.getDuration());
+    }
+
+    /**
+     * 폐쇄 모델: 동시 사용자마다 응답을 받으면 바로 다음 요청
+     */
+    private void runClosed(ExecutorService executor, long endNanos) throws Exception {
+        List<Future<?>> workers = new ArrayList<>();
+        for (int worker = 0; worker < options.getConcurrency(); worker++) {
+            Random random = new Random(options.getSeed() + worker);
+            workers.add(executor.submit(() -> {
+                while (System.nanoTime() < endNanos) {
+                    execute(plan(random), System.nanoTime());
+                }
+            }));
+        }
+
+        long nextProgress = System.nanoTime() + PROGRESS_INTERVAL_NANOS;
+        for (Future<?> worker : workers) {
+            while (!worker.isDone()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                if (System.nanoTime() >= nextProgress) {
+                    printProgress();
+                    nextProgress += PROGRESS_INTERVAL_NANOS;
+                }
+            }
+            worker.get();
+        }
+    }
+
+    /**
+     * 개방 모델: 정해진 간격으로 요청 시작 (응답을 기다리지 않음)
+     * 응답시간은 예정된 요청 시각부터 측정하여 클라이언트 지연으로 요청이 늦게 나가도 대기 시간이 포함되도록 함
+     */
+    private void runOpen(ExecutorService executor, long startNanos, long endNanos) {
+        Random random = new Random(options.getSeed());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.getRate());
+        AtomicInteger inFlight = new AtomicInteger();
+        long nextProgress = startNanos + PROGRESS_INTERVAL_NANOS;
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedNanos = startNanos + sequence * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            if (intendedNanos >= nextProgress) {
+                printProgress();
+                nextProgress += PROGRESS_INTERVAL_NANOS;
+            }
+
+            PlannedOperation planned = plan(random);
+            if (inFlight.get() >= options.getMaxInFlight()) {
+                recorder.recordDropped(intendedNanos);
+                continue;
+            }
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    execute(planned, intendedNanos);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private PlannedOperation plan(Random random) {
+        return new PlannedOperation(
+                options.getOperationMix().next(random),
+                memberIds.get(random.nextInt(memberIds.size())),
+                options.getConfirmMix().next(random),
+                options.getPgMix().next(random));
+    }
+
+    private void execute(PlannedOperation planned, long startNanos) {
+        Operation operation = planned.operation();
+        try {
+            switch (operation) {
+                case CONFIRM -> confirm(planned, startNanos);
+                case CANCEL -> cancel(planned, startNanos);
+                case HISTORY -> recorder.record(operation, startNanos, client.history(planned.memberId()).isSuccess());
+                case MEMBER -> recorder.record(operation, startNanos, client.member(planned.memberId()).isSuccess());
+                default -> throw new IllegalArgumentException("부하 비율에 사용할 수 없는 API입니다: " + operation);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            recorder.record(operation, startNanos, false);
+        } finally {
+            completed.incrementAndGet();
+        }
+    }
+
+    private void confirm(PlannedOperation planned, long startNanos) throws Exception {
+        String orderId = "LT" + runId + "-" + orderSequence.incrementAndGet();
+        LoadTestClient.Response response = client.confirm(orderId, planned.memberId(), planned.confirmType(),
+                planned.pgProvider(), options.getCardAmount(), options.getPointsAmount());
+        recorder.record(Operation.CONFIRM, startNanos, response.isSuccess());
+        if (response.isSuccess()) {
+            confirmedOrders.add(orderId);
+        }
+    }
+
+    /**
+     * 승인 완료된 주문의 결제 1건 취소 (취소할 주문이 없으면 결제 승인으로 대체)
+     */
+    private void cancel(PlannedOperation planned, long startNanos) throws Exception {
+        String orderId = confirmedOrders.poll();
+        if (orderId == null) {
+            confirm(planned, startNanos);
+            return;
+        }
+
+        LoadTestClient.Response order = client.order(orderId);
+        recorder.record(Operation.ORDER_LOOKUP, startNanos, order.isSuccess());
+        Optional<Long> paymentId = client.findCancelablePaymentId(order);
+        if (paymentId.isEmpty()) {
+            return;
+        }
+
+        long cancelStartNanos = System.nanoTime();
+        recorder.record(Operation.CANCEL, cancelStartNanos, client.cancel(paymentId.get()).isSuccess());
+    }
+
+    /**
+     * 회원 생성 (회원가입 API 동시 호출)
+     */
+    private List<String> seedMembers() throws Exception {
+        List<String> ids = new ArrayList<>(options.getMembers());
+        for (int i = 0; i < options.getMembers(); i++) {
+            ids.add("lt" + runId + "-" + i);
+        }
+
+        Semaphore permits = new Semaphore(SEED_PARALLELISM);
+        List<Future<LoadTestClient.Response>> responses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String memberId : ids) {
+                responses.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return client.signup(memberId);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        for (Future<LoadTestClient.Response> response : responses) {
+            if (!response.get().isSuccess()) {
+                throw new IllegalStateException("회원 생성 실패: HTTP " + response.get().status() + " " + response.get().body());
+            }
+        }
+        System.out.printf("회원 %d명 생성 완료%n", ids.size());
+        return List.copyOf(ids);
+    }
+
+    private void printProgress() {
+        System.out.printf("[%s] 완료 %d건, 취소 대기 주문 %d건%n",
+                LocalDateTime.now().withNano(0), completed.get(), confirmedOrders.size());
+    }
+
+    private record PlannedOperation(Operation operation, String memberId, String confirmType, String pgProvider) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.payment.loadtest;
+
+/**
+ * 부하 테스트 대상 API
+ */
+public enum Operation {
+
+    CONFIRM("POST /api/payment/confirm"),
+    CANCEL("POST /api/payment/cancel/{paymentId}"),
+    HISTORY("GET /api/payment/history/{memberId}"),
+    MEMBER("GET /api/member/{id}"),
+    ORDER_LOOKUP("GET /api/payment/order/{orderId}"); // 취소 대상 결제 ID 조회 (취소 요청마다 함께 호출)
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
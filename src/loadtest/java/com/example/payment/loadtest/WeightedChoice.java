@@ -0,0 +1,64 @@
+package com.example.payment.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 비율에 따른 무작위 선택 ("card:60,points:20,mixed:20" 형식, 비율 합은 100이 아니어도 됨)
+ */
+public class WeightedChoice<T> {
+
+    private final List<T> values;
+    private final int[] cumulativeWeights;
+    private final String description;
+
+    private WeightedChoice(List<T> values, int[] cumulativeWeights, String description) {
+        this.values = values;
+        this.cumulativeWeights = cumulativeWeights;
+        this.description = description;
+    }
+
+    public static <T> WeightedChoice<T> parse(String text, Function<String, T> parser) {
+        List<T> values = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String entry : text.split(",")) {
+            String[] nameAndWeight = entry.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("비율은 이름:가중치 형식이어야 합니다: " + entry);
+            }
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight > 0) {
+                values.add(parser.apply(nameAndWeight[0].trim()));
+                weights.add(weight);
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("가중치가 0보다 큰 항목이 없습니다: " + text);
+        }
+
+        int[] cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulativeWeights[i] = total;
+        }
+        return new WeightedChoice<>(values, cumulativeWeights, text);
+    }
+
+    public T next(Random random) {
+        int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return values.get(i);
+            }
+        }
+        return values.get(values.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.payment.client;
 
 import com.example.payment.config.InicisConfig;
+import com.example.payment.config.InterfaceHistoryWriterConfig;
+import com.example.payment.dto.InicisResponse;
 import com.example.payment.entity.InterfaceHistory;
+import com.example.payment.metrics.PaymentMetrics;
 import com.example.payment.service.InterfaceHistoryService;
 import com.example.payment.util.CryptoUtil;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
@@ -16,33 +20,45 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @Component
 public class InicisApiClient {
 
     private static final Logger logger = LoggerFactory.getLogger(InicisApiClient.class);
 
+    /**
+     * PG 커넥션 풀 이름
+     */
+    public static final String POOL_NAME = "inicis";
+
     private final InicisConfig inicisConfig;
     private final InterfaceHistoryService interfaceHistoryService;
+    private final PgTimeoutPolicy pgTimeoutPolicy;
+    private final PaymentMetrics paymentMetrics;
+    private final InterfaceHistoryWriterConfig historyConfig;
     private final WebClient webClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public InicisApiClient(InicisConfig inicisConfig, InterfaceHistoryService interfaceHistoryService) {
+    public InicisApiClient(InicisConfig inicisConfig, InterfaceHistoryService interfaceHistoryService,
+                           PgWebClientFactory pgWebClientFactory, PgTimeoutPolicy pgTimeoutPolicy,
+                           PaymentMetrics paymentMetrics, InterfaceHistoryWriterConfig historyConfig) {
         this.inicisConfig = inicisConfig;
         this.interfaceHistoryService = interfaceHistoryService;
-        this.webClient = WebClient.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
-                .build();
+        this.pgTimeoutPolicy = pgTimeoutPolicy;
+        this.paymentMetrics = paymentMetrics;
+        this.historyConfig = historyConfig;
+        this.webClient = pgWebClientFactory.create(POOL_NAME, inicisConfig.getHttp());
     }
 
     /**
      * 이니시스 결제 승인 API 호출 - 인터페이스 이력 로깅 적용
+     * 논블로킹 API를 동기로 변환하여 기존 호출부와 호환
      *
      * @param authUrl   승인요청 URL
      * @param authToken 승인요청 검증 토큰
@@ -50,8 +66,20 @@ public class InicisApiClient {
      * @return 승인 결과
      * @throws RuntimeException API 호출 실패 시
      */
-    public Map<String, Object> requestPaymentApproval(String authUrl, String authToken, String orderId) {
-        try {
+    public InicisResponse requestPaymentApproval(String authUrl, String authToken, String orderId) {
+        return requestPaymentApprovalAsync(authUrl, authToken, orderId).block();
+    }
+
+    /**
+     * 이니시스 결제 승인 API 호출 (논블로킹) - 인터페이스 이력 로깅 적용
+     *
+     * @param authUrl   승인요청 URL
+     * @param authToken 승인요청 검증 토큰
+     * @param orderId   주문 ID (이력 관리용)
+     * @return 승인 결과 (API 호출 실패 시 RuntimeException 에러 시그널)
+     */
+    public Mono<InicisResponse> requestPaymentApprovalAsync(String authUrl, String authToken, String orderId) {
+        return Mono.defer(() -> {
             // 타임스탬프 생성
             String timestamp = String.valueOf(System.currentTimeMillis());
 
@@ -69,71 +97,73 @@ public class InicisApiClient {
             formData.add("charset", inicisConfig.getCharset());
             formData.add("format", inicisConfig.getFormat());
 
-            // 인터페이스 이력 생성 (요청 시작)
+            // 인터페이스 이력 생성 (요청 시작) - 응답 완료 후 비동기 배치로 저장되므로 DB 작업 없음
             Map<String, Object> requestDataForHistory = convertFormDataToMap(formData);
-            InterfaceHistory history = interfaceHistoryService.createRequestHistory("INICIS", "confirm", authUrl, requestDataForHistory, orderId);
-            final Long historyId = history.getId(); // final로 만들어 람다에서 사용 가능
+            InterfaceHistory history = interfaceHistoryService.startHistory("INICIS", "confirm", authUrl, requestDataForHistory, orderId);
+            Duration timeout = pgTimeoutPolicy.timeoutFor("INICIS", "confirm"); // 최근 응답시간 기반 타임아웃
+            long startTime = System.nanoTime();
 
-            logger.info("이니시스 결제 승인 요청: authToken={}, orderId={}, historyId={}", authToken, orderId, historyId);
+            logger.info("이니시스 결제 승인 요청: authToken={}, orderId={}", authToken, orderId);
             logger.info("POST 데이터: {}", formData);
 
-            // WebClient를 사용한 비동기 HTTP 요청 (동기로 변환)
-            Map<String, Object> result = webClient
+            return webClient
                     .post()
                     .uri(authUrl)
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .body(BodyInserters.fromFormData(formData))
                     .retrieve()
-                    .bodyToMono(String.class)
-                    .map(responseBody -> {
-                        logger.info("이니시스 API 응답: {}", responseBody);
-                        Map<String, Object> parsedResult = parseResponse(responseBody);
-                        logger.info("=== 이니시스 승인 API 호출 성공 ===");
-                        return parsedResult;
-                    })
-                    .onErrorMap(WebClientResponseException.class, ex -> {
-                        String errorMessage = "이니시스 결제 승인 API 호출 실패: HTTP " + ex.getStatusCode() + " - " + ex.getResponseBodyAsString();
-                        logger.error(errorMessage);
+                    .bodyToMono(DataBuffer.class)
+                    .flatMap(responseBody -> {
+                        PgResponseBody<InicisResponse> parsedResult = parseResponse(responseBody);
+                        logger.info("이니시스 API 응답: {}", parsedResult.value());
 
-                        // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-                        String responseCode = determineInicisResponseCode(ex.getStatusCode().value());
-                        Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(historyId, ex.getResponseBodyAsString(), responseCode, errorMessage))
-                                .subscribeOn(Schedulers.boundedElastic())
-                                .subscribe();
+                        // 이니시스 승인 응답에서 resultCode 검증 (HTTP 200으로 승인 거절 응답)
+                        String resultCode = parsedResult.value().resultCode();
+                        if (resultCode != null && !"0000".equals(resultCode)) {
+                            String resultMsg = parsedResult.value().resultMsg();
+                            String errorMessage = String.format("이니시스 승인 실패 - ResultCode: %s, Message: %s", resultCode, resultMsg);
+                            logger.error(errorMessage);
+                            interfaceHistoryService.completeFailureHistory(history, parsedResult.historyData(), resultCode, errorMessage);
+                            return Mono.error(new PgDeclineException(errorMessage));
+                        }
 
-                        return new RuntimeException(errorMessage);
+                        logger.info("=== 이니시스 승인 API 호출 성공 ===");
+                        return Mono.just(parsedResult);
                     })
-                    .onErrorMap(Exception.class, ex -> {
+                    // 연결 오류 등 (HTTP 오류 응답은 아래에서 변환, 결제 거절은 이미 이력을 기록했으므로 그대로 전달)
+                    .onErrorMap(ex -> !(ex instanceof WebClientResponseException) && !(ex instanceof PgDeclineException), ex -> {
                         String errorMessage = "이니시스 결제 승인 API 호출 중 오류 발생: " + ex.getMessage();
                         logger.error(errorMessage, ex);
 
-                        // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-                        Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(historyId, null, "9999", errorMessage))
-                                .subscribeOn(Schedulers.boundedElastic())
-                                .subscribe();
+                        // 실패 이력 기록 (비동기 배치 저장)
+                        interfaceHistoryService.completeFailureHistory(history, null, "9999", errorMessage);
 
-                        return new RuntimeException(errorMessage);
+                        return new RuntimeException(errorMessage, ex); // 응답 시간 초과 여부 판단을 위해 원인 유지
                     })
-                    .timeout(Duration.ofSeconds(30)) // 30초 타임아웃
-                    .block();
-
-            // 성공 이력 업데이트
-            if (result != null) {
-                // 이니시스 응답에서 결과 코드 확인 (resultCode 등)
-                String inicisResultCode = determineInicisResultCode(result);
-                interfaceHistoryService.updateResponseHistory(historyId, result, inicisResultCode, null);
-            }
+                    .onErrorMap(WebClientResponseException.class, ex -> {
+                        String errorMessage = "이니시스 결제 승인 API 호출 실패: HTTP " + ex.getStatusCode() + " - " + ex.getResponseBodyAsString();
+                        logger.error(errorMessage);
 
-            return result;
+                        // 실패 이력 기록 (비동기 배치 저장)
+                        String responseCode = determineInicisResponseCode(ex.getStatusCode().value());
+                        interfaceHistoryService.completeFailureHistory(history, ex.getResponseBodyAsString(), responseCode, errorMessage);
 
-        } catch (RuntimeException e) {
-            // onErrorMap에서 생성된 RuntimeException을 다시 던짐
-            throw e;
-        } catch (Exception e) {
-            String errorMessage = "이니시스 API 호출 중 예상치 못한 오류 발생: " + e.getMessage();
-            logger.error(errorMessage, e);
-            throw new RuntimeException(errorMessage);
-        }
+                        return PgDeclineException.isDeclineStatus(ex.getStatusCode())
+                                ? new PgDeclineException(errorMessage)
+                                : new RuntimeException(errorMessage);
+                    })
+                    .timeout(timeout)
+                    .doOnError(TimeoutException.class, ex ->
+                            interfaceHistoryService.completeFailureHistory(history, null, "9999", "PG 응답 시간 초과: " + timeout.toMillis() + "ms"))
+                    .doOnTerminate(() -> pgTimeoutPolicy.record("INICIS", "confirm", startTime))
+                    .doFinally(signal -> paymentMetrics.recordPgCall("INICIS", "confirm", startTime, signal))
+                    .doOnNext(result -> {
+                        // 성공 이력 기록 (이니시스 응답에서 결과 코드 확인)
+                        String inicisResultCode = determineInicisResultCode(result.value());
+                        interfaceHistoryService.completeHistory(history, result.historyData(), inicisResultCode, null);
+                    })
+                    .map(PgResponseBody::value);
+        });
     }
 
     /**
@@ -169,19 +199,11 @@ public class InicisApiClient {
     /**
      * 이니시스 응답에서 실제 결과 코드 추출
      */
-    private String determineInicisResultCode(Map<String, Object> result) {
-        // 이니시스 응답에서 resultCode 확인 (취소 API는 "00"이 성공)
-        Object resultCode = result.get("resultCode");
+    private String determineInicisResultCode(InicisResponse result) {
+        // 이니시스 응답에서 resultCode 확인 (취소 API는 "00"이 성공, resultCode가 없으면 code 사용)
+        String resultCode = result.resultCode();
         if (resultCode != null) {
-            String code = resultCode.toString();
-            return "00".equals(code) ? "0000" : code; // "00" -> "0000"으로 변환
-        }
-
-        // 다른 가능한 필드명들 확인
-        Object code = result.get("code");
-        if (code != null) {
-            String codeStr = code.toString();
-            return "00".equals(codeStr) ? "0000" : codeStr;
+            return "00".equals(resultCode) ? "0000" : resultCode; // "00" -> "0000"으로 변환
         }
 
         return "0000"; // 기본 성공값 (HTTP 200 응답으로 간주)
@@ -189,16 +211,28 @@ public class InicisApiClient {
 
     /**
      * 이니시스 결제 취소 API 호출 - 인터페이스 이력 로깅 적용
+     * 논블로킹 API를 동기로 변환하여 기존 호출부와 호환
      *
      * @param tid     취소요청할 승인TID
      * @param orderId 주문 ID (이력 관리용)
      * @return 취소 결과
      * @throws RuntimeException API 호출 실패 시
      */
-    public Map<String, Object> requestPaymentCancel(String tid, String orderId) {
-        final String REFUND_URL = "https://iniapi.inicis.com/v2/pg/refund";
+    public InicisResponse requestPaymentCancel(String tid, String orderId) {
+        return requestPaymentCancelAsync(tid, orderId).block();
+    }
+
+    /**
+     * 이니시스 결제 취소 API 호출 (논블로킹) - 인터페이스 이력 로깅 적용
+     *
+     * @param tid     취소요청할 승인TID
+     * @param orderId 주문 ID (이력 관리용)
+     * @return 취소 결과 (API 호출 실패 시 RuntimeException 에러 시그널)
+     */
+    public Mono<InicisResponse> requestPaymentCancelAsync(String tid, String orderId) {
+        final String refundUrl = inicisConfig.getRefundUrl();
 
-        try {
+        return Mono.defer(() -> {
             // 타임스탬프 생성 (YYYYMMDDhhmmss 형식)
             String timestamp = java.time.LocalDateTime.now()
                     .format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
@@ -208,7 +242,14 @@ public class InicisApiClient {
             data.put("tid", tid);
             data.put("msg", "결제취소");
 
-            String dataJson = objectMapper.writeValueAsString(data);
+            String dataJson;
+            try {
+                dataJson = objectMapper.writeValueAsString(data);
+            } catch (JsonProcessingException e) {
+                String errorMessage = "이니시스 취소 API 호출 중 예상치 못한 오류 발생: " + e.getMessage();
+                logger.error(errorMessage, e);
+                return Mono.error(new RuntimeException(errorMessage));
+            }
 
             // hashData 생성 (INIAPIKey + mid + type + timestamp + data)
             String hashData = CryptoUtil.generateInicisRefundHashData(
@@ -228,84 +269,77 @@ public class InicisApiClient {
             requestData.put("hashData", hashData);
             requestData.put("data", data);
 
-            // 인터페이스 이력 생성 (요청 시작)
-            InterfaceHistory history = interfaceHistoryService.createRequestHistory("INICIS", "cancel", REFUND_URL, requestData, orderId);
-            final Long historyId = history.getId(); // final로 만들어 람다에서 사용 가능
+            // 인터페이스 이력 생성 (요청 시작) - 응답 완료 후 비동기 배치로 저장되므로 DB 작업 없음
+            InterfaceHistory history = interfaceHistoryService.startHistory("INICIS", "cancel", refundUrl, requestData, orderId);
+            Duration timeout = pgTimeoutPolicy.timeoutFor("INICIS", "cancel"); // 최근 응답시간 기반 타임아웃
+            long startTime = System.nanoTime();
 
-            logger.info("이니시스 결제 취소 요청: tid={}, orderId={}, historyId={}", tid, orderId, historyId);
+            logger.info("이니시스 결제 취소 요청: tid={}, orderId={}", tid, orderId);
             logger.info("취소 요청 데이터: {}", requestData);
 
-            // WebClient를 사용한 비동기 HTTP 요청 (동기로 변환)
-            Map<String, Object> result = webClient
+            return webClient
                     .post()
-                    .uri(REFUND_URL)
+                    .uri(refundUrl)
                     .header("Content-Type", "application/json")
                     .bodyValue(requestData)
                     .retrieve()
-                    .bodyToMono(String.class)
+                    .bodyToMono(DataBuffer.class)
                     .flatMap(responseBody -> {
-                        logger.info("이니시스 취소 API 응답: {}", responseBody);
-                        Map<String, Object> parsedResult = parseResponse(responseBody);
+                        PgResponseBody<InicisResponse> parsedResult = parseResponse(responseBody);
+                        logger.info("이니시스 취소 API 응답: {}", parsedResult.value());
 
                         // 이니시스 취소 응답에서 resultCode 검증
-                        String resultCode = (String) parsedResult.get("resultCode");
+                        String resultCode = parsedResult.value().resultCode();
                         if (resultCode != null && !"00".equals(resultCode)) {
-                            String resultMsg = (String) parsedResult.get("resultMsg");
+                            String resultMsg = parsedResult.value().resultMsg();
                             String errorMessage = String.format("이니시스 취소 실패 - ResultCode: %s, Message: %s", resultCode, resultMsg);
                             logger.error(errorMessage);
-                            return Mono.error(new RuntimeException(errorMessage));
+                            interfaceHistoryService.completeFailureHistory(history, parsedResult.historyData(), resultCode, errorMessage);
+                            return Mono.error(new PgDeclineException(errorMessage));
                         }
 
                         logger.info("=== 이니시스 취소 API 호출 성공 (resultCode: {}) ===", resultCode);
                         return Mono.just(parsedResult);
                     })
+                    // 연결 오류 등 (HTTP 오류 응답은 아래에서 변환, 결제 거절은 이미 이력을 기록했으므로 그대로 전달)
+                    .onErrorMap(ex -> !(ex instanceof WebClientResponseException) && !(ex instanceof PgDeclineException), ex -> {
+                        String errorMessage = "이니시스 결제 취소 API 호출 중 오류 발생: " + ex.getMessage();
+                        logger.error(errorMessage, ex);
+
+                        // 실패 이력 기록 (비동기 배치 저장)
+                        interfaceHistoryService.completeFailureHistory(history, null, "9999", errorMessage);
+
+                        return new RuntimeException(errorMessage, ex);
+                    })
                     .onErrorMap(WebClientResponseException.class, ex -> {
                         String errorMessage = "이니시스 결제 취소 API 호출 실패: HTTP " + ex.getStatusCode() + " - " + ex.getResponseBodyAsString();
                         logger.error(errorMessage);
 
-                        // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
+                        // 실패 이력 기록 (비동기 배치 저장)
                         String responseCode = determineInicisResponseCode(ex.getStatusCode().value());
-                        Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(historyId, ex.getResponseBodyAsString(), responseCode, errorMessage))
-                                .subscribeOn(Schedulers.boundedElastic())
-                                .subscribe();
+                        interfaceHistoryService.completeFailureHistory(history, ex.getResponseBodyAsString(), responseCode, errorMessage);
 
-                        return new RuntimeException(errorMessage);
+                        return PgDeclineException.isDeclineStatus(ex.getStatusCode())
+                                ? new PgDeclineException(errorMessage)
+                                : new RuntimeException(errorMessage);
                     })
-                    .onErrorMap(Exception.class, ex -> {
-                        String errorMessage = "이니시스 결제 취소 API 호출 중 오류 발생: " + ex.getMessage();
-                        logger.error(errorMessage, ex);
-
-                        // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-                        Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(historyId, null, "9999", errorMessage))
-                                .subscribeOn(Schedulers.boundedElastic())
-                                .subscribe();
-
-                        return new RuntimeException(errorMessage);
+                    .timeout(timeout)
+                    .doOnError(TimeoutException.class, ex ->
+                            interfaceHistoryService.completeFailureHistory(history, null, "9999", "PG 응답 시간 초과: " + timeout.toMillis() + "ms"))
+                    .doOnTerminate(() -> pgTimeoutPolicy.record("INICIS", "cancel", startTime))
+                    .doFinally(signal -> paymentMetrics.recordPgCall("INICIS", "cancel", startTime, signal))
+                    .doOnNext(result -> {
+                        // 성공 이력 기록 (이니시스 취소 응답에서 결과 코드 확인)
+                        String inicisResultCode = determineInicisResultCode(result.value());
+                        interfaceHistoryService.completeHistory(history, result.historyData(), inicisResultCode, null);
                     })
-                    .timeout(Duration.ofSeconds(30)) // 30초 타임아웃
-                    .block();
-
-            // 성공 이력 업데이트
-            if (result != null) {
-                // 이니시스 취소 응답에서 결과 코드 확인
-                String inicisResultCode = determineInicisResultCode(result);
-                interfaceHistoryService.updateResponseHistory(historyId, result, inicisResultCode, null);
-            }
-
-            return result;
-
-        } catch (RuntimeException e) {
-            // onErrorMap에서 생성된 RuntimeException을 다시 던짐
-            throw e;
-        } catch (Exception e) {
-            String errorMessage = "이니시스 취소 API 호출 중 예상치 못한 오류 발생: " + e.getMessage();
-            logger.error(errorMessage, e);
-            throw new RuntimeException(errorMessage);
-        }
+                    .map(PgResponseBody::value);
+        });
     }
 
     /**
      * 이니시스 망취소 API 호출 - 결제 승인 후 처리 실패 시 자동 취소
+     * 논블로킹 API를 동기로 변환하여 기존 호출부와 호환
      *
      * @param netCancelUrl 망취소 URL (authResultMap에서 받은 netCancelUrl)
      * @param authToken    승인요청 검증 토큰
@@ -313,8 +347,20 @@ public class InicisApiClient {
      * @return 망취소 결과
      * @throws RuntimeException API 호출 실패 시
      */
-    public Map<String, Object> requestNetCancel(String netCancelUrl, String authToken, String orderId) {
-        try {
+    public InicisResponse requestNetCancel(String netCancelUrl, String authToken, String orderId) {
+        return requestNetCancelAsync(netCancelUrl, authToken, orderId).block();
+    }
+
+    /**
+     * 이니시스 망취소 API 호출 (논블로킹) - 결제 승인 후 처리 실패 시 자동 취소
+     *
+     * @param netCancelUrl 망취소 URL (authResultMap에서 받은 netCancelUrl)
+     * @param authToken    승인요청 검증 토큰
+     * @param orderId      주문 ID (이력 관리용)
+     * @return 망취소 결과 (API 호출 실패 시 RuntimeException 에러 시그널)
+     */
+    public Mono<InicisResponse> requestNetCancelAsync(String netCancelUrl, String authToken, String orderId) {
+        return Mono.defer(() -> {
             // 타임스탬프 생성
             String timestamp = String.valueOf(System.currentTimeMillis());
 
@@ -332,105 +378,80 @@ public class InicisApiClient {
             formData.add("charset", inicisConfig.getCharset());
             formData.add("format", inicisConfig.getFormat());
 
-            // 인터페이스 이력 생성 (요청 시작)
+            // 인터페이스 이력 생성 (요청 시작) - 응답 완료 후 비동기 배치로 저장되므로 DB 작업 없음
             Map<String, Object> requestDataForHistory = convertFormDataToMap(formData);
-            InterfaceHistory history = interfaceHistoryService.createRequestHistory("INICIS", "netcancel", netCancelUrl, requestDataForHistory, orderId);
-            final Long historyId = history.getId();
+            InterfaceHistory history = interfaceHistoryService.startHistory("INICIS", "netcancel", netCancelUrl, requestDataForHistory, orderId);
+            Duration timeout = pgTimeoutPolicy.timeoutFor("INICIS", "netcancel"); // 최근 응답시간 기반 타임아웃
+            long startTime = System.nanoTime();
 
-            logger.info("이니시스 망취소 요청: authToken={}, orderId={}, historyId={}", authToken, orderId, historyId);
+            logger.info("이니시스 망취소 요청: authToken={}, orderId={}", authToken, orderId);
             logger.info("망취소 POST 데이터: {}", formData);
 
-            // WebClient를 사용한 비동기 HTTP 요청 (동기로 변환)
-            Map<String, Object> result = webClient
+            return webClient
                     .post()
                     .uri(netCancelUrl)
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .body(BodyInserters.fromFormData(formData))
                     .retrieve()
-                    .bodyToMono(String.class)
+                    .bodyToMono(DataBuffer.class)
                     .flatMap(responseBody -> {
-                        logger.info("이니시스 망취소 API 응답: {}", responseBody);
-                        Map<String, Object> parsedResult = parseResponse(responseBody);
+                        PgResponseBody<InicisResponse> parsedResult = parseResponse(responseBody);
+                        logger.info("이니시스 망취소 API 응답: {}", parsedResult.value());
 
                         // 이니시스 망취소 응답에서 resultCode 검증
-                        String resultCode = (String) parsedResult.get("resultCode");
+                        String resultCode = parsedResult.value().resultCode();
                         if (resultCode != null && !"0000".equals(resultCode)) {
-                            String resultMsg = (String) parsedResult.get("resultMsg");
+                            String resultMsg = parsedResult.value().resultMsg();
                             String errorMessage = String.format("이니시스 망취소 실패 - ResultCode: %s, Message: %s", resultCode, resultMsg);
                             logger.error(errorMessage);
-                            return Mono.error(new RuntimeException(errorMessage));
+                            interfaceHistoryService.completeFailureHistory(history, parsedResult.historyData(), resultCode, errorMessage);
+                            return Mono.error(new PgDeclineException(errorMessage));
                         }
 
                         logger.info("=== 이니시스 망취소 API 호출 성공 (resultCode: {}) ===", resultCode);
                         return Mono.just(parsedResult);
                     })
+                    // 연결 오류 등 (HTTP 오류 응답은 아래에서 변환, 결제 거절은 이미 이력을 기록했으므로 그대로 전달)
+                    .onErrorMap(ex -> !(ex instanceof WebClientResponseException) && !(ex instanceof PgDeclineException), ex -> {
+                        String errorMessage = "이니시스 망취소 API 호출 중 오류 발생: " + ex.getMessage();
+                        logger.error(errorMessage, ex);
+
+                        // 실패 이력 기록 (비동기 배치 저장)
+                        interfaceHistoryService.completeFailureHistory(history, null, "9999", errorMessage);
+
+                        return new RuntimeException(errorMessage, ex);
+                    })
                     .onErrorMap(WebClientResponseException.class, ex -> {
                         String errorMessage = "이니시스 망취소 API 호출 실패: HTTP " + ex.getStatusCode() + " - " + ex.getResponseBodyAsString();
                         logger.error(errorMessage);
 
-                        // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
+                        // 실패 이력 기록 (비동기 배치 저장)
                         String responseCode = determineInicisResponseCode(ex.getStatusCode().value());
-                        Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(historyId, ex.getResponseBodyAsString(), responseCode, errorMessage))
-                                .subscribeOn(Schedulers.boundedElastic())
-                                .subscribe();
+                        interfaceHistoryService.completeFailureHistory(history, ex.getResponseBodyAsString(), responseCode, errorMessage);
 
-                        return new RuntimeException(errorMessage);
+                        return PgDeclineException.isDeclineStatus(ex.getStatusCode())
+                                ? new PgDeclineException(errorMessage)
+                                : new RuntimeException(errorMessage);
                     })
-                    .onErrorMap(Exception.class, ex -> {
-                        String errorMessage = "이니시스 망취소 API 호출 중 오류 발생: " + ex.getMessage();
-                        logger.error(errorMessage, ex);
-
-                        // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-                        Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(historyId, null, "9999", errorMessage))
-                                .subscribeOn(Schedulers.boundedElastic())
-                                .subscribe();
-
-                        return new RuntimeException(errorMessage);
+                    .timeout(timeout)
+                    .doOnError(TimeoutException.class, ex ->
+                            interfaceHistoryService.completeFailureHistory(history, null, "9999", "PG 응답 시간 초과: " + timeout.toMillis() + "ms"))
+                    .doOnTerminate(() -> pgTimeoutPolicy.record("INICIS", "netcancel", startTime))
+                    .doFinally(signal -> paymentMetrics.recordPgCall("INICIS", "netcancel", startTime, signal))
+                    .doOnNext(result -> {
+                        // 성공 이력 기록 (비동기 배치 저장)
+                        String inicisResultCode = determineInicisResultCode(result.value());
+                        interfaceHistoryService.completeHistory(history, result.historyData(), inicisResultCode, null);
                     })
-                    .timeout(Duration.ofSeconds(30)) // 30초 타임아웃
-                    .block();
-
-            // 성공 이력 업데이트
-            if (result != null) {
-                String inicisResultCode = determineInicisResultCode(result);
-                interfaceHistoryService.updateResponseHistory(historyId, result, inicisResultCode, null);
-            }
-
-            return result;
-
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
-            String errorMessage = "이니시스 망취소 API 호출 중 예상치 못한 오류 발생: " + e.getMessage();
-            logger.error(errorMessage, e);
-            throw new RuntimeException(errorMessage);
-        }
+                    .map(PgResponseBody::value);
+        });
     }
 
     /**
-     * 응답 파싱 (JSON 또는 다른 형식 처리)
+     * 응답 파싱 (JSON이 아니면 key=value&key=value 형식으로 처리)
      */
-    private Map<String, Object> parseResponse(String responseBody) {
-        try {
-            // JSON 형식으로 파싱 시도
-            return objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
-        } catch (Exception e) {
-            logger.warn("JSON 파싱 실패, 원문 응답으로 처리: {}", e.getMessage());
-            Map<String, Object> result = new HashMap<>();
-            result.put("rawResponse", responseBody);
-
-            // 간단한 key=value 형식 파싱 시도 (NVP 형식)
-            if (responseBody.contains("=") && responseBody.contains("&")) {
-                String[] pairs = responseBody.split("&");
-                for (String pair : pairs) {
-                    String[] keyValue = pair.split("=", 2);
-                    if (keyValue.length == 2) {
-                        result.put(keyValue[0], keyValue[1]);
-                    }
-                }
-            }
-
-            return result;
-        }
+    PgResponseBody<InicisResponse> parseResponse(DataBuffer responseBody) {
+        return PgResponseBody.decode(responseBody, historyConfig.isRawResponse(),
+                InicisResponse::read, InicisResponse::fromNvp);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.payment.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * PG사 결제 거절 (HTTP 4xx 응답, 실패 결과 코드)
+ * PG사가 요청을 정상적으로 처리한 뒤 거절한 것이므로 PG 장애로 보지 않음 (서킷브레이커 ignore-exceptions)
+ */
+public class PgDeclineException extends RuntimeException {
+
+    public PgDeclineException(String message) {
+        super(message);
+    }
+
+    /**
+     * 결제 거절로 볼 HTTP 상태 (4xx)
+     * - 인증 실패/권한 없음(401/403)은 API 키 등 가맹점 설정 오류로 모든 요청이 실패하므로 PG 장애로 집계
+     * - 요청 시간 초과/요청 수 제한(408/429)도 PG 장애로 집계
+     */
+    static boolean isDeclineStatus(HttpStatusCode status) {
+        return status.is4xxClientError()
+                && status.value() != HttpStatus.UNAUTHORIZED.value()
+                && status.value() != HttpStatus.FORBIDDEN.value()
+                && status.value() != HttpStatus.REQUEST_TIMEOUT.value()
+                && status.value() != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+}
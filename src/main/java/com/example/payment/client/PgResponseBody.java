@@ -0,0 +1,94 @@
+package com.example.payment.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * PG 응답 본문 - 응답 레코드와 (이력 저장에 필요한 경우) 응답 원문 바이트
+ * WebClient가 받은 DataBuffer를 문자열이나 Map으로 바꾸지 않고 Jackson 스트리밍 파서로 바로 읽음
+ *
+ * @param value 응답 레코드
+ * @param raw   응답 원문 (원문 저장을 사용하지 않고 JSON 파싱에 성공한 경우 null)
+ */
+record PgResponseBody<T>(T value, byte[] raw) {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgResponseBody.class);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * 응답 레코드 읽기 (JsonParser로 필요한 필드만 읽음)
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * 응답 본문 디코딩 (DataBuffer는 항상 해제)
+     *
+     * @param buffer   응답 본문
+     * @param keepRaw  응답 원문 보관 여부 (인터페이스 이력 원문 저장)
+     * @param reader   JSON 응답 읽기
+     * @param fallback JSON이 아닌 응답 처리 (응답 원문 문자열)
+     *                 첫 글자가 '{'가 아니면 파싱 예외를 만들지 않고 바로 처리
+     */
+    static <T> PgResponseBody<T> decode(DataBuffer buffer, boolean keepRaw, Reader<T> reader,
+                                        Function<String, T> fallback) {
+        try {
+            int start = buffer.readPosition();
+            if (!isJsonObject(buffer, start)) {
+                byte[] raw = readAll(buffer, start);
+                logger.warn("JSON이 아닌 응답, 원문 응답으로 처리");
+                return new PgResponseBody<>(fallback.apply(new String(raw, StandardCharsets.UTF_8)), raw);
+            }
+
+            byte[] raw = keepRaw ? readAll(buffer, start) : null;
+            try (JsonParser parser = raw != null
+                    ? JSON_FACTORY.createParser(raw)
+                    : JSON_FACTORY.createParser(buffer.asInputStream())) {
+                return new PgResponseBody<>(reader.read(parser), raw);
+            } catch (IOException e) {
+                logger.warn("JSON 파싱 실패, 원문 응답으로 처리: {}", e.getMessage());
+                if (raw == null) {
+                    raw = readAll(buffer, start);
+                }
+                return new PgResponseBody<>(fallback.apply(new String(raw, StandardCharsets.UTF_8)), raw);
+            }
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * 인터페이스 이력에 저장할 응답 (원문이 있으면 원문, 없으면 응답 레코드)
+     */
+    Object historyData() {
+        return raw != null ? raw : value;
+    }
+
+    private static boolean isJsonObject(DataBuffer buffer, int start) {
+        for (int i = start; i < buffer.writePosition(); i++) {
+            byte b = buffer.getByte(i);
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
+    private static byte[] readAll(DataBuffer buffer, int start) {
+        buffer.readPosition(start);
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        return bytes;
+    }
+}
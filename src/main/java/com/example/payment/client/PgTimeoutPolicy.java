@@ -0,0 +1,73 @@
+package com.example.payment.client;
+
+import com.example.payment.config.PgTimeoutConfig;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PG 호출 타임아웃 계산
+ * PG사/API(confirm, cancel, netcancel)별 최근 응답시간의 백분위에 배수를 곱하고 API별 하한/상한으로 제한
+ * 호출 수가 부족하면 상한값을 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class PgTimeoutPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgTimeoutPolicy.class);
+
+    private final PgTimeoutConfig timeoutConfig;
+
+    private final Map<String, RollingLatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * PG 호출 타임아웃 조회
+     *
+     * @param pgName  PG사 (TOSS, INICIS)
+     * @param apiName API 이름 (confirm, cancel, netcancel)
+     * @return 타임아웃
+     */
+    public Duration timeoutFor(String pgName, String apiName) {
+        PgTimeoutConfig.Budget budget = timeoutConfig.getBudget(apiName);
+        if (!timeoutConfig.isAdaptive()) {
+            return budget.getCeiling();
+        }
+
+        long percentileMillis = histogram(pgName, apiName)
+                .percentile(timeoutConfig.getPercentile(), System.currentTimeMillis(), timeoutConfig.getMinSamples());
+        if (percentileMillis < 0 || percentileMillis == Long.MAX_VALUE) {
+            return budget.getCeiling();
+        }
+
+        long timeoutMillis = (long) (percentileMillis * budget.getMultiplier());
+        long floorMillis = budget.getFloor().toMillis();
+        long ceilingMillis = budget.getCeiling().toMillis();
+        Duration timeout = Duration.ofMillis(Math.min(ceilingMillis, Math.max(floorMillis, timeoutMillis)));
+
+        logger.debug("PG 타임아웃 계산: {} {}, p{}={}ms, 타임아웃={}ms",
+                pgName, apiName, (int) (timeoutConfig.getPercentile() * 100), percentileMillis, timeout.toMillis());
+        return timeout;
+    }
+
+    /**
+     * PG 호출 응답시간 기록 (타임아웃으로 끝난 호출도 기록하여 PG 지연 시 타임아웃이 늘어나도록 함)
+     *
+     * @param pgName         PG사 (TOSS, INICIS)
+     * @param apiName        API 이름 (confirm, cancel, netcancel)
+     * @param startNanoTime  호출 시작 시각 (System.nanoTime)
+     */
+    public void record(String pgName, String apiName, long startNanoTime) {
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanoTime).toMillis();
+        histogram(pgName, apiName).record(elapsedMillis, System.currentTimeMillis());
+    }
+
+    private RollingLatencyHistogram histogram(String pgName, String apiName) {
+        return histograms.computeIfAbsent(pgName + ":" + apiName,
+                key -> new RollingLatencyHistogram(timeoutConfig.getWindow().toMillis(), timeoutConfig.getWindowSlices()));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.payment.client;
+
+import com.example.payment.config.PgHttpClientProperties;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.net.ssl.TrustManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * PG사별 WebClient 생성
+ * PG사마다 전용 커넥션 풀을 만들어 다른 PG사의 지연/장애가 커넥션을 고갈시키지 않도록 분리하고,
+ * 커넥션을 재사용하여 승인 요청마다 TCP 연결/TLS 핸드셰이크가 발생하지 않도록 함
+ */
+@Component
+public class PgWebClientFactory implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgWebClientFactory.class);
+
+    private static final int MAX_IN_MEMORY_SIZE = 1024 * 1024; // 1MB
+
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    private final Map<String, WebClient> webClients = new ConcurrentHashMap<>();
+
+    /**
+     * PG사 전용 커넥션 풀을 사용하는 WebClient 생성
+     * 하나의 풀 안에서 접속 호스트(승인/취소/망취소 URL)별로 커넥션을 나누어 관리
+     *
+     * @param pgName     PG사 이름 (커넥션 풀 이름, 메트릭 태그로 사용)
+     * @param properties 커넥션 풀/타임아웃 설정
+     * @return WebClient
+     */
+    public WebClient create(String pgName, PgHttpClientProperties properties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(pgName)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictionInterval())
+                .metrics(properties.isMetricsEnabled())
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .responseTimeout(properties.getReadTimeout())
+                .metrics(properties.isMetricsEnabled(), uri -> "/"); // URI에 결제키 등이 포함되므로 태그는 호스트 단위로만 기록
+        if (properties.getTrustStore() != null) {
+            SslContext sslContext = createSslContext(pgName, properties);
+            httpClient = httpClient.secure(spec -> spec.sslContext(sslContext));
+        }
+
+        logger.info("PG 커넥션 풀 생성: {}, 호스트별 최대 커넥션={}, 유휴 유지={}, 최대 수명={}",
+                pgName, properties.getMaxConnections(), properties.getMaxIdleTime(), properties.getMaxLifeTime());
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .build();
+        webClients.put(pgName, webClient);
+        return webClient;
+    }
+
+    /**
+     * PG사 커넥션 풀에 호스트별 커넥션을 미리 열어둠 (DNS 조회, TCP 연결, TLS 핸드셰이크를 기동 시점에 처리)
+     * 호스트마다 HEAD 요청을 동시에 보내 요청 수만큼 커넥션을 열고, 응답 후 커넥션은 풀로 반환됨
+     *
+     * @param pgName             PG사 이름 ({@link #create}에 전달한 이름)
+     * @param urls               호출 대상 URL (호스트 단위로 중복 제거)
+     * @param connectionsPerHost 호스트별로 열어둘 커넥션 수
+     * @return 응답을 받은 요청 수 (응답 상태 코드와 무관하게 연결에 성공한 수)
+     */
+    public Mono<Long> warmUp(String pgName, Collection<String> urls, int connectionsPerHost) {
+        WebClient webClient = webClients.get(pgName);
+        if (webClient == null) {
+            return Mono.error(new IllegalArgumentException("생성되지 않은 PG 커넥션 풀입니다: " + pgName));
+        }
+
+        return Flux.fromIterable(urls)
+                .filter(url -> url != null && !url.isBlank())
+                .map(PgWebClientFactory::toOrigin)
+                .distinct()
+                .flatMap(origin -> Flux.range(0, connectionsPerHost)
+                        .flatMap(i -> webClient.head()
+                                .uri(origin)
+                                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode())),
+                                connectionsPerHost)
+                        .count()
+                        .doOnNext(count -> logger.info("PG 커넥션 미리 열기 완료: {}, 호스트={}, 커넥션={}개", pgName, origin, count))
+                        .onErrorResume(e -> {
+                            logger.warn("PG 커넥션 미리 열기 실패: {}, 호스트={}, 오류={}", pgName, origin, e.getMessage());
+                            return Mono.just(0L);
+                        }))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 설정된 트러스트스토어로 PG 서버 인증서를 검증하는 TLS 설정 생성
+     */
+    private static SslContext createSslContext(String pgName, PgHttpClientProperties properties) {
+        try (InputStream inputStream = properties.getTrustStore().getInputStream()) {
+            KeyStore trustStore = KeyStore.getInstance(properties.getTrustStoreType());
+            char[] password = properties.getTrustStorePassword() != null
+                    ? properties.getTrustStorePassword().toCharArray() : null;
+            trustStore.load(inputStream, password);
+
+            TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init(trustStore);
+
+            logger.info("PG 트러스트스토어 사용: {}, {}", pgName, properties.getTrustStore().getDescription());
+            return SslContextBuilder.forClient().trustManager(trustManagerFactory).build();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException(pgName + " 트러스트스토어를 읽을 수 없습니다: " + properties.getTrustStore(), e);
+        }
+    }
+
+    /**
+     * URL에서 경로를 제외한 호스트 주소 추출 (경로에 {paymentKey} 같은 템플릿 변수가 있어도 처리)
+     */
+    private static String toOrigin(String url) {
+        return UriComponentsBuilder.fromHttpUrl(url)
+                .replacePath("/")
+                .replaceQuery(null)
+                .build()
+                .toUriString();
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.payment.client;
+
+import java.util.Arrays;
+
+/**
+ * 최근 일정 시간의 응답시간 분포
+ * 집계 구간을 여러 조각으로 나누어 조각 단위로 오래된 응답시간을 버리고, 응답시간은 고정된 구간(버킷)별 건수로만 보관
+ */
+class RollingLatencyHistogram {
+
+    /**
+     * 버킷 상한 (밀리초) - 마지막 버킷은 상한 없음
+     */
+    private static final long[] BUCKET_BOUNDS_MS = {
+            5, 10, 20, 30, 50, 75, 100, 150, 200, 300, 400, 500, 750,
+            1000, 1500, 2000, 3000, 4000, 5000, 7500, 10000, 15000, 20000, 30000, 60000
+    };
+
+    private final long sliceMillis;
+    private final long[][] counts;
+    private final long[] sliceEpochs;
+
+    RollingLatencyHistogram(long windowMillis, int slices) {
+        this.sliceMillis = Math.max(1, windowMillis / slices);
+        this.counts = new long[slices][BUCKET_BOUNDS_MS.length + 1];
+        this.sliceEpochs = new long[slices];
+        Arrays.fill(sliceEpochs, -1);
+    }
+
+    synchronized void record(long latencyMillis, long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        int slice = (int) (epoch % counts.length);
+        if (sliceEpochs[slice] != epoch) {
+            Arrays.fill(counts[slice], 0);
+            sliceEpochs[slice] = epoch;
+        }
+        counts[slice][bucketOf(latencyMillis)]++;
+    }
+
+    /**
+     * 집계 구간 내 응답시간 백분위 (버킷 상한 기준으로 보수적으로 계산)
+     *
+     * @return 백분위 응답시간 (밀리초), 호출 수가 minSamples 미만이면 -1, 마지막 버킷이면 Long.MAX_VALUE
+     */
+    synchronized long percentile(double percentile, long nowMillis, int minSamples) {
+        long currentEpoch = nowMillis / sliceMillis;
+        long[] merged = new long[BUCKET_BOUNDS_MS.length + 1];
+        long total = 0;
+
+        for (int slice = 0; slice < counts.length; slice++) {
+            if (sliceEpochs[slice] < 0 || currentEpoch - sliceEpochs[slice] >= counts.length) {
+                continue;
+            }
+            for (int bucket = 0; bucket < merged.length; bucket++) {
+                merged[bucket] += counts[slice][bucket];
+                total += counts[slice][bucket];
+            }
+        }
+
+        if (total < minSamples || total == 0) {
+            return -1;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_BOUNDS_MS.length; bucket++) {
+            seen += merged[bucket];
+            if (seen >= rank) {
+                return BUCKET_BOUNDS_MS[bucket];
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static int bucketOf(long latencyMillis) {
+        for (int bucket = 0; bucket < BUCKET_BOUNDS_MS.length; bucket++) {
+            if (latencyMillis <= BUCKET_BOUNDS_MS[bucket]) {
+                return bucket;
+            }
+        }
+        return BUCKET_BOUNDS_MS.length;
+    }
+}
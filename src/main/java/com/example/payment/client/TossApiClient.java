@@ -1,138 +1,134 @@
 package com.example.payment.client;
 
+import com.example.payment.config.InterfaceHistoryWriterConfig;
 import com.example.payment.config.TossConfig;
+import com.example.payment.dto.TossPaymentResponse;
 import com.example.payment.entity.InterfaceHistory;
+import com.example.payment.metrics.PaymentMetrics;
 import com.example.payment.service.InterfaceHistoryService;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
 
 @Component
 public class TossApiClient {
     
     private static final Logger logger = LoggerFactory.getLogger(TossApiClient.class);
 
+    /**
+     * PG 커넥션 풀 이름
+     */
+    public static final String POOL_NAME = "toss";
+
     private final TossConfig tossConfig;
     private final InterfaceHistoryService interfaceHistoryService;
+    private final PgTimeoutPolicy pgTimeoutPolicy;
+    private final PaymentMetrics paymentMetrics;
+    private final InterfaceHistoryWriterConfig historyConfig;
     private final WebClient webClient;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile AuthorizationHeader authorizationHeader;
     
-    public TossApiClient(TossConfig tossConfig, InterfaceHistoryService interfaceHistoryService) {
+    public TossApiClient(TossConfig tossConfig, InterfaceHistoryService interfaceHistoryService,
+                         PgWebClientFactory pgWebClientFactory, PgTimeoutPolicy pgTimeoutPolicy,
+                         PaymentMetrics paymentMetrics, InterfaceHistoryWriterConfig historyConfig) {
         this.tossConfig = tossConfig;
         this.interfaceHistoryService = interfaceHistoryService;
-        this.webClient = WebClient.builder()
-            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
-            .build();
+        this.pgTimeoutPolicy = pgTimeoutPolicy;
+        this.paymentMetrics = paymentMetrics;
+        this.historyConfig = historyConfig;
+        this.webClient = pgWebClientFactory.create(POOL_NAME, tossConfig.getHttp());
     }
     
     /**
      * 토스 결제 승인 API 호출 (v1 API) - 인터페이스 이력 로깅 적용
+     * 논블로킹 API를 동기로 변환하여 기존 호출부와 호환
      * @param paymentKey 결제 고유 키 (PayToken)
      * @param amount 결제 금액
      * @param orderId 주문 ID
      * @return 승인 결과
      * @throws RuntimeException API 호출 실패 시
      */
-    public Map<String, Object> requestPaymentApproval(String paymentKey, Long amount, String orderId) {
-        // 인터페이스 이력 시작
-        InterfaceHistory history = null;
-        
-        try {
-            // Base64 인증 헤더 생성 (apiKey + ':' 를 Base64로 인코딩)
-            String authHeader = createAuthorizationHeader();
+    public TossPaymentResponse requestPaymentApproval(String paymentKey, Long amount, String orderId) {
+        return requestPaymentApprovalAsync(paymentKey, amount, orderId).block();
+    }
+    
+    /**
+     * 토스 결제 승인 API 호출 (v1 API, 논블로킹) - 인터페이스 이력 로깅 적용
+     * @param paymentKey 결제 고유 키 (PayToken)
+     * @param amount 결제 금액
+     * @param orderId 주문 ID
+     * @return 승인 결과 (API 호출 실패 시 RuntimeException 에러 시그널)
+     */
+    public Mono<TossPaymentResponse> requestPaymentApprovalAsync(String paymentKey, Long amount, String orderId) {
+        return Mono.defer(() -> {
+            // Base64 인증 헤더 (apiKey가 바뀔 때만 새로 생성)
+            String authHeader = authorizationHeader();
             
             // 요청 데이터 구성 (v1 API JSON 형식)
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("paymentKey", paymentKey);
-            requestData.put("amount", amount);
-            requestData.put("orderId", orderId);
-            
-            // 인터페이스 이력 생성 (요청 시작)
-            history = interfaceHistoryService.createRequestHistory("TOSS", "confirm", tossConfig.getExecuteUrl(), requestData, orderId);
-            final InterfaceHistory finalHistory = history;
+            TossRequestBody.Confirm requestData = new TossRequestBody.Confirm(paymentKey, amount, orderId);
             
-            logger.info("토스 결제 승인 요청: paymentKey={}, amount={}, orderId={}, historyId={}", paymentKey, amount, orderId, history.getId());
-            
-            // WebClient를 사용한 비동기 HTTP 요청 (동기로 변환)
-            Map<String, Object> result = webClient
+            // 인터페이스 이력 생성 (요청 시작) - 응답 완료 후 비동기 배치로 저장되므로 DB 작업 없음
+            InterfaceHistory history = interfaceHistoryService.startHistory("TOSS", "confirm", tossConfig.getExecuteUrl(), requestData, orderId);
+            Duration timeout = pgTimeoutPolicy.timeoutFor("TOSS", "confirm"); // 최근 응답시간 기반 타임아웃
+            long startTime = System.nanoTime();
+            logger.info("토스 결제 승인 요청: paymentKey={}, amount={}, orderId={}", paymentKey, amount, orderId);
+
+            return webClient
                 .post()
                 .uri(tossConfig.getExecuteUrl())
                 .header("Authorization", authHeader)
                 .header("Content-Type", "application/json")
-                .bodyValue(requestData)
+                .body(requestData.inserter())
                 .retrieve()
-                .bodyToMono(String.class)
+                .bodyToMono(DataBuffer.class)
                 .map(responseBody -> {
-                    Map<String, Object> parsedResult = parseResponse(responseBody);
-                    logger.info("토스 결제 승인 성공: {}", parsedResult);
+                    PgResponseBody<TossPaymentResponse> parsedResult = parseResponse(responseBody);
+                    logger.info("토스 결제 승인 성공: {}", parsedResult.value());
                     return parsedResult;
                 })
+                // 연결 오류 등 (HTTP 오류 응답은 아래에서 변환, 결제 거절은 이미 이력을 기록했으므로 그대로 전달)
+                .onErrorMap(ex -> !(ex instanceof WebClientResponseException) && !(ex instanceof PgDeclineException), ex -> {
+                    String errorMessage = "토스 결제 승인 API 호출 중 오류 발생: " + ex.getMessage();
+                    logger.error(errorMessage, ex);
+
+                    // 실패 이력 기록 (비동기 배치 저장)
+                    interfaceHistoryService.completeFailureHistory(history, null, "9999", errorMessage);
+
+                    return new RuntimeException(errorMessage, ex); // 응답 시간 초과 여부 판단을 위해 원인 유지
+                })
                 .onErrorMap(WebClientResponseException.class, ex -> {
                     String errorMessage = "토스 결제 승인 API 호출 실패: HTTP " + ex.getStatusCode() + " - " + ex.getResponseBodyAsString();
                     logger.error(errorMessage);
 
-                    // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
+                    // 실패 이력 기록 (비동기 배치 저장)
                     String responseCode = determineResponseCode(ex.getStatusCode().value());
-                    Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(finalHistory.getId(), ex.getResponseBodyAsString(), responseCode, errorMessage))
-                        .subscribeOn(Schedulers.boundedElastic())
-                        .subscribe();
+                    interfaceHistoryService.completeFailureHistory(history, ex.getResponseBodyAsString(), responseCode, errorMessage);
 
-                    return new RuntimeException(errorMessage);
+                    return PgDeclineException.isDeclineStatus(ex.getStatusCode())
+                            ? new PgDeclineException(errorMessage)
+                            : new RuntimeException(errorMessage);
                 })
-                .onErrorMap(Exception.class, ex -> {
-                    String errorMessage = "토스 결제 승인 API 호출 중 오류 발생: " + ex.getMessage();
-                    logger.error(errorMessage, ex);
-
-                    // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-                    Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(finalHistory.getId(), null, "9999", errorMessage))
-                        .subscribeOn(Schedulers.boundedElastic())
-                        .subscribe();
-
-                    return new RuntimeException(errorMessage);
+                .timeout(timeout)
+                .doOnError(TimeoutException.class, ex ->
+                        interfaceHistoryService.completeFailureHistory(history, null, "9999", "PG 응답 시간 초과: " + timeout.toMillis() + "ms"))
+                .doOnTerminate(() -> pgTimeoutPolicy.record("TOSS", "confirm", startTime))
+                .doFinally(signal -> paymentMetrics.recordPgCall("TOSS", "confirm", startTime, signal))
+                .doOnNext(result -> {
+                    // 성공 이력 기록 (비동기 배치 저장)
+                    interfaceHistoryService.completeSuccessHistory(history, result.historyData());
                 })
-                .timeout(Duration.ofSeconds(30)) // 30초 타임아웃
-                .block();
-            
-            // 성공 이력 업데이트를 별도 스레드에서 비동기로 실행
-            if (result != null) {
-                final Map<String, Object> finalResult = result;
-                final Long finalHistoryId = history.getId();
-                Mono.fromRunnable(() -> interfaceHistoryService.updateSuccessHistory(finalHistoryId, finalResult))
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .subscribe();
-            }
-            
-            return result;
-            
-        } catch (RuntimeException e) {
-            // onErrorMap에서 생성된 RuntimeException을 다시 던짐
-            throw e;
-        } catch (Exception e) {
-            String errorMessage = "토스 결제 승인 API 호출 중 예상치 못한 오류 발생: " + e.getMessage();
-            logger.error(errorMessage, e);
-            
-            // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-            if (history != null) {
-                final Long finalHistoryIdForCatch = history.getId();
-                Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(finalHistoryIdForCatch, null, "9999", errorMessage))
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .subscribe();
-            }
-            
-            throw new RuntimeException(errorMessage);
-        }
+                .map(PgResponseBody::value);
+        });
     }
     
     /**
@@ -152,126 +148,122 @@ public class TossApiClient {
     
     /**
      * 토스 결제 취소 API 호출 (v1 API) - 인터페이스 이력 로깅 적용
+     * 논블로킹 API를 동기로 변환하여 기존 호출부와 호환
      * @param paymentKey 결제 고유 키 (PayToken)
      * @param cancelReason 취소 사유
      * @param orderId 주문 ID (로깅용)
      * @return 취소 결과
      * @throws RuntimeException API 호출 실패 시
      */
-    public Map<String, Object> requestPaymentCancellation(String paymentKey, String cancelReason, String orderId) {
-        // 인터페이스 이력 시작
-        InterfaceHistory history = null;
+    public TossPaymentResponse requestPaymentCancellation(String paymentKey, String cancelReason, String orderId) {
+        return requestPaymentCancellationAsync(paymentKey, cancelReason, orderId).block();
+    }
 
-        try {
-            // Base64 인증 헤더 생성
-            String authHeader = createAuthorizationHeader();
+    /**
+     * 토스 결제 취소 API 호출 (v1 API, 논블로킹) - 인터페이스 이력 로깅 적용
+     * @param paymentKey 결제 고유 키 (PayToken)
+     * @param cancelReason 취소 사유
+     * @param orderId 주문 ID (로깅용)
+     * @return 취소 결과 (API 호출 실패 시 RuntimeException 에러 시그널)
+     */
+    public Mono<TossPaymentResponse> requestPaymentCancellationAsync(String paymentKey, String cancelReason, String orderId) {
+        return Mono.defer(() -> {
+            // Base64 인증 헤더 (apiKey가 바뀔 때만 새로 생성)
+            String authHeader = authorizationHeader();
 
             // 환경별 설정에서 취소 URL을 가져와서 {paymentKey} placeholder 치환
             String cancelUrl = tossConfig.getCancelUrl().replace("{paymentKey}", paymentKey);
 
             // 요청 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("cancelReason", cancelReason);
+            TossRequestBody.Cancel requestData = new TossRequestBody.Cancel(cancelReason);
 
-            // 인터페이스 이력 생성 (요청 시작)
-            history = interfaceHistoryService.createRequestHistory("TOSS", "cancel", cancelUrl, requestData, orderId);
-            final InterfaceHistory finalHistory = history;
+            // 인터페이스 이력 생성 (요청 시작) - 응답 완료 후 비동기 배치로 저장되므로 DB 작업 없음
+            InterfaceHistory history = interfaceHistoryService.startHistory("TOSS", "cancel", cancelUrl, requestData, orderId);
+            Duration timeout = pgTimeoutPolicy.timeoutFor("TOSS", "cancel"); // 최근 응답시간 기반 타임아웃
+            long startTime = System.nanoTime();
+            logger.info("토스 결제 취소 요청: paymentKey={}, cancelReason={}, orderId={}",
+                       paymentKey, cancelReason, orderId);
 
-            logger.info("토스 결제 취소 요청: paymentKey={}, cancelReason={}, orderId={}, historyId={}",
-                       paymentKey, cancelReason, orderId, history.getId());
-
-            // WebClient를 사용한 비동기 HTTP 요청 (동기로 변환)
-            Map<String, Object> result = webClient
+            return webClient
                 .post()
                 .uri(cancelUrl)
                 .header("Authorization", authHeader)
                 .header("Content-Type", "application/json")
-                .bodyValue(requestData)
+                .body(requestData.inserter())
                 .retrieve()
-                .bodyToMono(String.class)
+                .bodyToMono(DataBuffer.class)
                 .map(responseBody -> {
-                    Map<String, Object> parsedResult = parseResponse(responseBody);
-                    logger.info("토스 결제 취소 성공: {}", parsedResult);
+                    PgResponseBody<TossPaymentResponse> parsedResult = parseResponse(responseBody);
+                    logger.info("토스 결제 취소 성공: {}", parsedResult.value());
                     return parsedResult;
                 })
+                // 연결 오류 등 (HTTP 오류 응답은 아래에서 변환, 결제 거절은 이미 이력을 기록했으므로 그대로 전달)
+                .onErrorMap(ex -> !(ex instanceof WebClientResponseException) && !(ex instanceof PgDeclineException), ex -> {
+                    String errorMessage = "토스 결제 취소 API 호출 중 오류 발생: " + ex.getMessage();
+                    logger.error(errorMessage, ex);
+
+                    // 실패 이력 기록 (비동기 배치 저장)
+                    interfaceHistoryService.completeFailureHistory(history, null, "9999", errorMessage);
+
+                    return new RuntimeException(errorMessage, ex);
+                })
                 .onErrorMap(WebClientResponseException.class, ex -> {
                     String errorMessage = "토스 결제 취소 API 호출 실패: HTTP " + ex.getStatusCode() + " - " + ex.getResponseBodyAsString();
                     logger.error(errorMessage);
 
-                    // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
+                    // 실패 이력 기록 (비동기 배치 저장)
                     String responseCode = determineResponseCode(ex.getStatusCode().value());
-                    Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(finalHistory.getId(), ex.getResponseBodyAsString(), responseCode, errorMessage))
-                        .subscribeOn(Schedulers.boundedElastic())
-                        .subscribe();
+                    interfaceHistoryService.completeFailureHistory(history, ex.getResponseBodyAsString(), responseCode, errorMessage);
 
-                    return new RuntimeException(errorMessage);
+                    return PgDeclineException.isDeclineStatus(ex.getStatusCode())
+                            ? new PgDeclineException(errorMessage)
+                            : new RuntimeException(errorMessage);
                 })
-                .onErrorMap(Exception.class, ex -> {
-                    String errorMessage = "토스 결제 취소 API 호출 중 오류 발생: " + ex.getMessage();
-                    logger.error(errorMessage, ex);
-
-                    // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-                    Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(finalHistory.getId(), null, "9999", errorMessage))
-                        .subscribeOn(Schedulers.boundedElastic())
-                        .subscribe();
-
-                    return new RuntimeException(errorMessage);
+                .timeout(timeout)
+                .doOnError(TimeoutException.class, ex ->
+                        interfaceHistoryService.completeFailureHistory(history, null, "9999", "PG 응답 시간 초과: " + timeout.toMillis() + "ms"))
+                .doOnTerminate(() -> pgTimeoutPolicy.record("TOSS", "cancel", startTime))
+                .doFinally(signal -> paymentMetrics.recordPgCall("TOSS", "cancel", startTime, signal))
+                .doOnNext(result -> {
+                    // 성공 이력 기록 (비동기 배치 저장)
+                    interfaceHistoryService.completeSuccessHistory(history, result.historyData());
                 })
-                .timeout(Duration.ofSeconds(30)) // 30초 타임아웃
-                .block();
-
-            // 성공 이력 업데이트를 별도 스레드에서 비동기로 실행
-            if (result != null) {
-                final Map<String, Object> finalResult = result;
-                final Long finalHistoryId = history.getId();
-                Mono.fromRunnable(() -> interfaceHistoryService.updateSuccessHistory(finalHistoryId, finalResult))
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .subscribe();
-            }
-
-            return result;
-
-        } catch (RuntimeException e) {
-            // onErrorMap에서 생성된 RuntimeException을 다시 던짐
-            throw e;
-        } catch (Exception e) {
-            String errorMessage = "토스 결제 취소 API 호출 중 예상치 못한 오류 발생: " + e.getMessage();
-            logger.error(errorMessage, e);
-
-            // 실패 이력 업데이트를 별도 스레드에서 비동기로 실행
-            if (history != null) {
-                final Long finalHistoryIdForCatch = history.getId();
-                Mono.fromRunnable(() -> interfaceHistoryService.updateFailureHistory(finalHistoryIdForCatch, null, "9999", errorMessage))
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .subscribe();
-            }
+                .map(PgResponseBody::value);
+        });
+    }
 
-            throw new RuntimeException(errorMessage);
+    /**
+     * Authorization 헤더 (Basic 인증)
+     * 생성한 헤더를 apiKey와 함께 보관하고, 설정 재바인딩 등으로 apiKey가 바뀐 경우에만 다시 생성
+     */
+    String authorizationHeader() {
+        String apiKey = tossConfig.getApiKey();
+        AuthorizationHeader cached = authorizationHeader;
+        if (cached == null || !Objects.equals(cached.apiKey(), apiKey)) {
+            cached = new AuthorizationHeader(apiKey, createAuthorizationHeader(apiKey));
+            authorizationHeader = cached;
         }
+        return cached.value();
     }
 
     /**
      * Authorization 헤더 생성 (Basic 인증)
      * apiKey에 콜론을 붙인 후 Base64로 인코딩
      */
-    private String createAuthorizationHeader() {
-        String credentials = tossConfig.getApiKey() + ":";
+    static String createAuthorizationHeader(String apiKey) {
+        String credentials = apiKey + ":";
         String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
         return "Basic " + encodedCredentials;
     }
+
+    private record AuthorizationHeader(String apiKey, String value) {
+    }
     
     /**
-     * JSON 응답 파싱
+     * JSON 응답 파싱 (JSON이 아닌 응답은 필드 없는 응답으로 처리하고 원문은 이력에 저장)
      */
-    private Map<String, Object> parseResponse(String responseBody) {
-        try {
-            // JSON 형식으로 파싱 시도
-            return objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
-        } catch (Exception e) {
-            logger.warn("JSON 파싱 실패, 원문 응답으로 처리: {}", e.getMessage());
-            Map<String, Object> result = new HashMap<>();
-            result.put("rawResponse", responseBody);
-            return result;
-        }
+    PgResponseBody<TossPaymentResponse> parseResponse(DataBuffer responseBody) {
+        return PgResponseBody.decode(responseBody, historyConfig.isRawResponse(),
+                TossPaymentResponse::read, body -> TossPaymentResponse.unparsed());
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.example.payment.client;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 토스 API 요청 본문
+ * 고정된 JSON 조각은 미리 UTF-8 바이트로 만들어 두고, 요청마다 값만 채워 전송 버퍼(Reactor Netty 풀 버퍼)에 바로 기록
+ * - 요청마다 Map 생성, 코덱 직렬화, 중간 byte[] 복사 없음
+ * - 레코드는 인터페이스 이력의 요청 데이터로도 사용
+ */
+final class TossRequestBody {
+
+    private static final byte[] CONFIRM_PAYMENT_KEY = ascii("{\"paymentKey\":");
+    private static final byte[] CONFIRM_AMOUNT = ascii(",\"amount\":");
+    private static final byte[] CONFIRM_ORDER_ID = ascii(",\"orderId\":");
+    private static final byte[] CANCEL_REASON = ascii("{\"cancelReason\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte QUOTE = '"';
+    private static final byte END_OBJECT = '}';
+
+    /**
+     * 고정 조각 외 값 길이에 더하는 여유 크기 (한글 취소 사유 등, 부족하면 버퍼가 늘어남)
+     */
+    private static final int CAPACITY_MARGIN = 32;
+
+    private TossRequestBody() {
+    }
+
+    /**
+     * 결제 승인 요청 {paymentKey, amount, orderId}
+     */
+    record Confirm(String paymentKey, Long amount, String orderId) {
+
+        BodyInserter<Confirm, ReactiveHttpOutputMessage> inserter() {
+            return (message, context) -> write(message, this::writeTo);
+        }
+
+        DataBuffer writeTo(DataBufferFactory bufferFactory) {
+            DataBuffer buffer = bufferFactory.allocateBuffer(CONFIRM_PAYMENT_KEY.length + CONFIRM_AMOUNT.length
+                    + CONFIRM_ORDER_ID.length + length(paymentKey) + length(orderId) + CAPACITY_MARGIN);
+            buffer.write(CONFIRM_PAYMENT_KEY);
+            writeString(buffer, paymentKey);
+            buffer.write(CONFIRM_AMOUNT);
+            if (amount == null) {
+                buffer.write(NULL);
+            } else {
+                buffer.write(Long.toString(amount), StandardCharsets.US_ASCII);
+            }
+            buffer.write(CONFIRM_ORDER_ID);
+            writeString(buffer, orderId);
+            buffer.write(END_OBJECT);
+            return buffer;
+        }
+    }
+
+    /**
+     * 결제 취소 요청 {cancelReason}
+     */
+    record Cancel(String cancelReason) {
+
+        BodyInserter<Cancel, ReactiveHttpOutputMessage> inserter() {
+            return (message, context) -> write(message, this::writeTo);
+        }
+
+        DataBuffer writeTo(DataBufferFactory bufferFactory) {
+            DataBuffer buffer = bufferFactory.allocateBuffer(CANCEL_REASON.length + length(cancelReason) + CAPACITY_MARGIN);
+            buffer.write(CANCEL_REASON);
+            writeString(buffer, cancelReason);
+            buffer.write(END_OBJECT);
+            return buffer;
+        }
+    }
+
+    private interface Writer {
+        DataBuffer writeTo(DataBufferFactory bufferFactory);
+    }
+
+    /**
+     * 요청 메시지의 버퍼 팩토리로 본문을 만들어 Content-Length와 함께 전송
+     * 헤더는 writeWith 이후 변경할 수 없으므로 본문을 먼저 만든 뒤 Content-Length 설정 (EncoderHttpMessageWriter와 동일)
+     */
+    private static Mono<Void> write(ReactiveHttpOutputMessage message, Writer writer) {
+        return Mono.fromSupplier(() -> writer.writeTo(message.bufferFactory()))
+                .flatMap(buffer -> {
+                    message.getHeaders().setContentLength(buffer.readableByteCount());
+                    return message.writeWith(Mono.just(buffer)
+                            .doOnDiscard(DataBuffer.class, DataBufferUtils::release));
+                });
+    }
+
+    /**
+     * JSON 문자열 값 기록
+     * 이스케이프가 필요 없는 ASCII 문자열은 그대로 쓰고 (Netty 버퍼는 중간 byte[] 없이 기록),
+     * 그 외 문자열은 Jackson 인코더로 이스케이프/UTF-8 변환
+     */
+    private static void writeString(DataBuffer buffer, String value) {
+        if (value == null) {
+            buffer.write(NULL);
+            return;
+        }
+
+        buffer.write(QUOTE);
+        if (isPlainAscii(value)) {
+            buffer.write(value, StandardCharsets.US_ASCII);
+        } else {
+            buffer.write(JsonStringEncoder.getInstance().quoteAsUTF8(value));
+        }
+        buffer.write(QUOTE);
+    }
+
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int length(String value) {
+        return value == null ? NULL.length : value.length() + 2;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.payment.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * ID 시퀀스 시작값 맞추기
+ * IDENTITY에서 시퀀스로 전환하기 전에 저장된 데이터가 있으면, 새로 생성된 시퀀스(1부터 시작)가
+ * 기존 ID와 겹치지 않도록 시퀀스를 테이블의 최대 ID 다음 값으로 이동
+ * (Flyway 마이그레이션으로 시퀀스가 만들어진 뒤 실행되도록 마이그레이션을 실행하는 flywayInitializer 이후 생성)
+ */
+@Component
+@DependsOn("flywayInitializer")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    /**
+     * 테이블 → 시퀀스
+     */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "members", "members_seq",
+            "payments", "payments_seq",
+            "payment_event_outbox", "payment_event_outbox_seq",
+            "net_cancel_outbox", "net_cancel_outbox_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            Long nextValue = jdbcTemplate.queryForObject(
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                    Long.class, sequence.toUpperCase());
+
+            if (maxId != null && nextValue != null && nextValue <= maxId) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1));
+                logger.info("ID 시퀀스 시작값 조정: {} → {} (기존 최대 ID {})", sequence, maxId + 1, maxId);
+            }
+        });
+    }
+}
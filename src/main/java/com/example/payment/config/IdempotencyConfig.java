@@ -0,0 +1,43 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.idempotency")
+public class IdempotencyConfig {
+
+    /**
+     * 결제 승인 멱등 처리 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 완료된 결제 응답 보관 기간 (이 기간 내 같은 키로 재요청하면 저장된 응답 반환)
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * 메모리에 보관하는 완료 응답 최대 건수 (초과 시 오래 사용되지 않은 응답부터 제거, DB에는 유지)
+     */
+    private int maxCachedResponses = 10000;
+
+    /**
+     * 처리중 상태로 이 시간 이상 남아있는 키는 비정상 종료 건으로 간주하고 재처리 허용
+     * - 결제 승인 요청 타임아웃보다 길어야 처리 중인 결제를 중복 실행하지 않음
+     * - 재처리 전에 해당 주문의 PENDING 결제를 복구(FAILED 전환, PG 결제 망취소 등록)하므로
+     *   PENDING 복구 시간(payment.recovery.pending-timeout)보다 짧아도 이전 요청의 결제가 남지 않음
+     */
+    private Duration inProgressTimeout = Duration.ofMinutes(5);
+
+    /**
+     * 만료 키 정리 작업 실행 간격 (밀리초)
+     */
+    private long purgeIntervalMs = 600000;
+}
@@ -41,4 +41,14 @@ public class InicisConfig {
      * 응답 포맷 (기본: JSON)
      */
     private String format;
-}
\ No newline at end of file
+
+    /**
+     * 이니시스 결제 취소(환불) API URL
+     */
+    private String refundUrl = "https://iniapi.inicis.com/v2/pg/refund";
+
+    /**
+     * 이니시스 API 호출용 커넥션 풀/타임아웃 설정
+     */
+    private PgHttpClientProperties http = new PgHttpClientProperties();
+}
@@ -0,0 +1,75 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.interface-history")
+public class InterfaceHistoryWriterConfig {
+
+    /**
+     * 인터페이스 이력 비동기 저장 여부
+     * - true: 응답이 끝난 이력을 큐에 넣고 별도 스레드에서 JDBC 배치로 저장 (PG 호출 경로에 DB 작업 없음)
+     * - false: 응답이 끝난 이력을 호출한 스레드에서 바로 저장
+     */
+    private boolean async = true;
+
+    /**
+     * 저장 대기 큐 크기 (저장 스레드별 큐 크기 = 전체 크기 / 저장 스레드 수)
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * 한 번에 저장하는 최대 이력 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 저장 스레드 수
+     * - 1: 큐에 들어온 순서대로 저장
+     * - 2 이상: 주문 ID 기준으로 스레드를 나누어 같은 주문의 이력끼리만 순서 보장
+     */
+    private int writerThreads = 1;
+
+    /**
+     * 큐가 가득 찼을 때 처리 방식
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * BLOCK 정책에서 큐에 자리가 나기를 기다리는 최대 시간 (초과 시 이력을 버림)
+     */
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    /**
+     * 종료 시 큐에 남은 이력 저장 여부
+     */
+    private boolean flushOnShutdown = true;
+
+    /**
+     * 종료 시 남은 이력 저장을 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * PG 응답 원문 저장 여부
+     * - true: 응답 원문 바이트를 복사해 두었다가 이력에 그대로 저장
+     * - false: 응답 원문을 복사하지 않고 파싱한 응답 필드만 이력에 저장 (JSON이 아닌 응답은 원문 저장)
+     */
+    private boolean rawResponse = true;
+
+    public enum OverflowPolicy {
+        /** 큐에 자리가 날 때까지 대기 (blockTimeout 초과 시 버림) */
+        BLOCK,
+        /** 즉시 버림 */
+        DROP,
+        /** 호출한 쪽에서 직접 저장 */
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.net-cancel")
+public class NetCancelConfig {
+
+    /**
+     * 망취소 작업 스레드 수 (서로 다른 주문의 망취소를 동시에 처리)
+     */
+    private int workerThreads = 4;
+
+    /**
+     * 처리 대상 조회 간격 (밀리초)
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 한 번에 가져오는 최대 작업 수
+     */
+    private int batchSize = 50;
+
+    /**
+     * 최대 시도 횟수 (초과 시 FAILED로 전환하고 수동 처리 필요 로그 기록)
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * 첫 재시도 대기 시간 (이후 시도마다 2배씩 증가)
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * 재시도 대기 시간 상한
+     */
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    /**
+     * 처리중 상태 유지 기한 (작업자/서버 비정상 종료 시 이 시간 이후 다른 작업자가 다시 처리)
+     * - 망취소 타임아웃보다 충분히 길어야 처리 중인 작업을 중복 실행하지 않음
+     */
+    private Duration processingTimeout = Duration.ofMinutes(5);
+}
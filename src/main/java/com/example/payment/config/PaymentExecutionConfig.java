@@ -0,0 +1,27 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.execution")
+public class PaymentExecutionConfig {
+
+    /**
+     * 복합결제 동시 실행 여부
+     * - true: PG 호출이 필요한 결제수단을 가상 스레드에서 동시에 처리 (지연시간 = 가장 느린 PG 호출)
+     * - false: 결제수단을 순서대로 처리 (지연시간 = 모든 호출의 합)
+     */
+    private boolean concurrent = true;
+
+    /**
+     * 결제 승인 API 논블로킹 처리 여부
+     * - true: PG 호출을 논블로킹 클라이언트로 처리하여 응답 대기 동안 요청 스레드를 점유하지 않음
+     * - false: 기존 블로킹 결제 처리를 별도 스레드에서 실행
+     */
+    private boolean reactive = true;
+}
@@ -0,0 +1,37 @@
+package com.example.payment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class PaymentExecutorConfig {
+
+    /**
+     * 복합결제 PG 호출용 실행기
+     * PG 호출은 대부분의 시간을 네트워크 대기로 보내므로 요청마다 가상 스레드를 생성해서 사용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService paymentGatewayExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * 결제 처리 중 블로킹 작업(인터페이스 이력 저장, 예약/확정/실패 처리)용 스케줄러
+     * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 가상 스레드에서 실행하고, 그 외에는 boundedElastic 사용
+     * 블로킹 결제 처리(reactive: false)는 결제 승인 전체를 이 스케줄러에서 실행하므로
+     * boundedElastic(스레드 최대 10 x CPU 수)에서는 동시 승인 수가 스레드 수로 제한되고, 가상 스레드에서는 제한 없음
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler paymentBlockingScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled) {
+            return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "payment-virtual");
+        }
+        return Schedulers.boundedElastic();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.outbox")
+public class PaymentOutboxConfig {
+
+    /**
+     * 이벤트 발행(relay) 사용 여부 - false여도 이벤트는 outbox 테이블에 저장됨
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * 이벤트 발행 대상 (file, memory)
+     */
+    private String sink = "file";
+
+    /**
+     * file 발행 대상의 파일 경로 (이벤트 1건당 JSON 1줄)
+     */
+    private String filePath = "./data/payment-events.jsonl";
+
+    /**
+     * 한 번에 읽어 발행하는 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 미발행 이벤트 조회 간격 (밀리초)
+     */
+    private long pollIntervalMs = 500;
+
+    /**
+     * 조회 1회당 최대 발행 배치 수 (쌓인 이벤트를 연속으로 발행하되 한 번에 너무 오래 점유하지 않도록 제한)
+     */
+    private int maxBatchesPerPoll = 10;
+
+    /**
+     * 발행 완료 이벤트 보관 기간
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * 발행 완료 이벤트 정리 주기 (밀리초)
+     */
+    private long purgeIntervalMs = 3600000;
+}
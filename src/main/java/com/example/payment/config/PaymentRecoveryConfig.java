@@ -0,0 +1,31 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.recovery")
+public class PaymentRecoveryConfig {
+
+    /**
+     * PENDING 결제 복구 작업 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * PENDING 상태로 이 시간 이상 남아있는 결제를 비정상 종료 건으로 간주
+     * - PG 호출 타임아웃보다 충분히 길어야 처리 중인 결제를 건드리지 않음
+     */
+    private Duration pendingTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 복구 작업 실행 간격 (밀리초)
+     */
+    private long intervalMs = 60000;
+}
@@ -0,0 +1,89 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PG사 HTTP 클라이언트 커넥션 풀 설정 (toss.http, inicis.http)
+ * PG사마다 별도 커넥션 풀을 사용하며, 풀 안에서는 접속 호스트별로 커넥션을 나누어 관리
+ */
+@Getter
+@Setter
+public class PgHttpClientProperties {
+
+    /**
+     * 호스트별 최대 커넥션 수
+     */
+    private int maxConnections = 100;
+
+    /**
+     * 커넥션을 얻기 위해 대기할 수 있는 최대 요청 수 (초과 시 즉시 실패)
+     */
+    private int pendingAcquireMaxCount = 500;
+
+    /**
+     * 커넥션 획득 최대 대기 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 유휴 커넥션 유지 시간 (PG사/로드밸런서의 유휴 연결 종료 시간보다 짧게 설정)
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * 커넥션 최대 수명 (DNS 변경, 서버 교체 반영용)
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /**
+     * 유휴/만료 커넥션 정리 주기
+     */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    /**
+     * TCP 연결 타임아웃
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 요청 전송 후 응답 대기 타임아웃
+     */
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    /**
+     * TCP keep-alive 사용 여부
+     */
+    private boolean keepAlive = true;
+
+    /**
+     * 커넥션 풀 메트릭 수집 여부 (reactor.netty.connection.provider.*)
+     */
+    private boolean metricsEnabled = true;
+
+    /**
+     * 기동 시 커넥션을 미리 열어둘 추가 URL (설정된 API URL 외에 호출하는 호스트, 예: 이니시스 승인/망취소 호스트)
+     */
+    private List<String> warmupUrls = new ArrayList<>();
+
+    /**
+     * PG 서버 인증서 검증용 트러스트스토어 (미설정 시 JVM 기본 트러스트스토어 사용)
+     * 사설 인증서를 사용하는 PG 테스트 서버/스텁 서버에 HTTPS로 연결할 때 지정 (예: file:/etc/payment/pg-truststore.p12)
+     */
+    private Resource trustStore;
+
+    /**
+     * 트러스트스토어 비밀번호
+     */
+    private String trustStorePassword;
+
+    /**
+     * 트러스트스토어 형식
+     */
+    private String trustStoreType = "PKCS12";
+}
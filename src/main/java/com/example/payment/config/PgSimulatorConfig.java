@@ -0,0 +1,76 @@
+package com.example.payment.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "pg-simulator")
+public class PgSimulatorConfig {
+
+    /**
+     * PG 시뮬레이터 포트 (pg-simulator 프로파일에서만 기동)
+     * - 애플리케이션과 별도 포트를 사용하여 시뮬레이터 요청이 Tomcat 스레드/HTTP 메트릭에 섞이지 않도록 함
+     */
+    private int port = 18090;
+
+    /**
+     * API별 응답 특성 (toss-confirm, toss-cancel, inicis-approval, inicis-refund, inicis-netcancel)
+     */
+    private Map<String, Behavior> endpoints = new HashMap<>();
+
+    /**
+     * 설정되지 않은 API의 응답 특성
+     */
+    private Behavior defaultBehavior = new Behavior();
+
+    public Behavior getBehavior(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBehavior);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Behavior {
+
+        /**
+         * 응답 지연 중앙값 (로그정규분포의 중앙값)
+         */
+        private Duration latencyMedian = Duration.ofMillis(50);
+
+        /**
+         * 응답 지연 p99 (중앙값과 함께 로그정규분포의 꼬리 두께를 결정)
+         */
+        private Duration latencyP99 = Duration.ofMillis(300);
+
+        /**
+         * HTTP 500 응답 비율 (0~1)
+         */
+        private double errorRate = 0.0;
+
+        /**
+         * 결제 거절 응답 비율 (0~1) - 토스는 HTTP 400, 이니시스는 실패 resultCode
+         */
+        private double declineRate = 0.0;
+
+        /**
+         * 응답 지연 비율 (0~1) - timeoutDelay 이후에 응답하여 클라이언트 타임아웃 유발
+         */
+        private double timeoutRate = 0.0;
+
+        /**
+         * 응답 지연 시 대기 시간
+         */
+        private Duration timeoutDelay = Duration.ofSeconds(60);
+    }
+}
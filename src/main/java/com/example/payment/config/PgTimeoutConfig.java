@@ -0,0 +1,87 @@
+package com.example.payment.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.pg-timeout")
+public class PgTimeoutConfig {
+
+    /**
+     * PG 호출 타임아웃 자동 조정 여부
+     * - true: PG사/API별 최근 응답시간 분포로 타임아웃 계산 (하한~상한 범위)
+     * - false: 항상 API별 상한값 사용
+     */
+    private boolean adaptive = true;
+
+    /**
+     * 타임아웃 계산에 사용하는 응답시간 백분위 (0~1)
+     */
+    private double percentile = 0.99;
+
+    /**
+     * 응답시간 집계 구간 (이 시간 이전의 응답시간은 반영하지 않음)
+     */
+    private Duration window = Duration.ofMinutes(5);
+
+    /**
+     * 집계 구간을 나누는 조각 수 (조각 단위로 오래된 응답시간 제거)
+     */
+    private int windowSlices = 10;
+
+    /**
+     * 타임아웃을 계산하기 위한 최소 호출 수 (미만이면 상한값 사용)
+     */
+    private int minSamples = 50;
+
+    /**
+     * API 이름별 타임아웃 범위 (confirm, cancel, netcancel - 인터페이스 이력의 API 이름과 동일)
+     * 취소/망취소는 이미 승인된 결제를 되돌리므로 승인보다 여유 있게 설정
+     */
+    private Map<String, Budget> apis = new HashMap<>(Map.of(
+            "confirm", new Budget(Duration.ofSeconds(2), Duration.ofSeconds(10), 2.0),
+            "cancel", new Budget(Duration.ofSeconds(5), Duration.ofSeconds(30), 3.0),
+            "netcancel", new Budget(Duration.ofSeconds(10), Duration.ofSeconds(30), 4.0)
+    ));
+
+    /**
+     * 설정되지 않은 API의 타임아웃 범위
+     */
+    private Budget defaultBudget = new Budget(Duration.ofSeconds(5), Duration.ofSeconds(30), 3.0);
+
+    public Budget getBudget(String apiName) {
+        return apis.getOrDefault(apiName, defaultBudget);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+
+        /**
+         * 타임아웃 하한 (응답시간이 매우 짧아도 이보다 짧게 설정하지 않음)
+         */
+        private Duration floor;
+
+        /**
+         * 타임아웃 상한 (호출 수가 부족할 때의 기본값)
+         */
+        private Duration ceiling;
+
+        /**
+         * 백분위 응답시간에 곱하는 배수
+         */
+        private double multiplier;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.warmup")
+public class PgWarmupConfig {
+
+    /**
+     * 기동 시 PG 커넥션 미리 열기 사용 여부
+     * - true: 준비 상태(readiness)가 UP이 되기 전에 PG 호스트별로 커넥션을 열어 커넥션 풀에 넣어둠
+     */
+    private boolean enabled = true;
+
+    /**
+     * PG 호스트별로 미리 열어둘 커넥션 수 (호스트별 최대 커넥션 수를 넘을 수 없음)
+     */
+    private int connectionsPerHost = 4;
+
+    /**
+     * 커넥션 미리 열기 최대 대기 시간 (초과 시 열린 커넥션까지만 사용하고 기동 진행)
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+}
@@ -30,4 +30,9 @@ public class TossConfig {
      * - {paymentKey} 부분은 실제 paymentKey로 치환하여 사용
      */
     private String cancelUrl;
-}
\ No newline at end of file
+
+    /**
+     * 토스페이먼츠 API 호출용 커넥션 풀/타임아웃 설정
+     */
+    private PgHttpClientProperties http = new PgHttpClientProperties();
+}
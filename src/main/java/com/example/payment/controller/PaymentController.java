@@ -1,11 +1,17 @@
 package com.example.payment.controller;
 
+import com.example.payment.config.PaymentExecutionConfig;
 import com.example.payment.dto.*;
+import com.example.payment.service.PaymentIdempotencyService;
 import com.example.payment.service.PaymentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @RestController
 @RequestMapping("/api/payment")
@@ -16,20 +22,35 @@ public class PaymentController {
     
     @Autowired
     private PaymentService paymentService;
+
+    @Autowired
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @Autowired
+    private PaymentExecutionConfig executionConfig;
+
+    @Autowired
+    private Scheduler paymentBlockingScheduler;
     
     /**
      * 결제 승인 요청 API
      * 복합결제를 지원하여 다양한 결제수단 조합 처리
+     * PG 응답을 기다리는 동안 서블릿 스레드를 반환하도록 비동기 응답(Mono)으로 처리
+     * 같은 Idempotency-Key(없으면 주문 ID)로 재요청하면 결제를 다시 처리하지 않고 최초 요청의 응답 반환
      */
     @PostMapping("/confirm")
-    public PaymentConfirmResponse confirmPayment(@RequestBody PaymentConfirmRequest request) {
+    public Mono<PaymentConfirmResponse> confirmPayment(@RequestBody PaymentConfirmRequest request,
+                                                       @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
-        try {
-            return paymentService.processPayment(request);
-        } catch (Exception e) {
+        Mono<PaymentConfirmResponse> response = paymentIdempotencyService.execute(idempotencyKey, request,
+                () -> executionConfig.isReactive()
+                        ? paymentService.processPaymentAsync(request)
+                        : Mono.fromCallable(() -> paymentService.processPayment(request)).subscribeOn(paymentBlockingScheduler));
+
+        return response.onErrorMap(e -> {
             logger.error("결제 처리 중 오류 발생: {}", e.getMessage());
-            throw new RuntimeException("결제 처리 중 오류가 발생했습니다: " + e.getMessage());
-        }
+            return new RuntimeException("결제 처리 중 오류가 발생했습니다: " + e.getMessage());
+        });
     }
     
     /**
@@ -67,6 +88,41 @@ public class PaymentController {
         }
     }
     
+    /**
+     * 회원별 결제내역 페이지 조회 API (커서 기반)
+     * 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor를 전달
+     */
+    @GetMapping("/history/{memberId}/page")
+    public PaymentHistoryPageResponse getPaymentHistoryPage(@PathVariable String memberId,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        
+        logger.info("=== 결제내역 페이지 조회 요청 받음 ===");
+        logger.info("회원ID: {}, 커서: {}", memberId, cursor);
+        
+        try {
+            return paymentService.getPaymentHistoryPage(memberId, cursor, size);
+        } catch (Exception e) {
+            logger.error("결제내역 페이지 조회 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("결제내역 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 회원별 결제내역 스트리밍 조회 API (NDJSON)
+     * Accept: application/x-ndjson 요청 시 결제내역을 한 줄에 하나씩 페이지 단위로 조회하며 전송
+     */
+    @GetMapping(value = "/history/{memberId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PaymentDto> streamPaymentHistory(@PathVariable String memberId,
+                                                 @RequestParam(defaultValue = "100") int pageSize) {
+        
+        logger.info("=== 결제내역 스트리밍 조회 요청 받음 ===");
+        logger.info("회원ID: {}", memberId);
+        
+        return paymentService.streamPaymentHistory(memberId, pageSize)
+                .doOnError(e -> logger.error("결제내역 스트리밍 조회 중 오류 발생: {}", e.getMessage()));
+    }
+    
     /**
      * 주문번호로 결제 정보 조회 API
      */
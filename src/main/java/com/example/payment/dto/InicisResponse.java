@@ -0,0 +1,146 @@
+package com.example.payment.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * 이니시스 승인/취소/망취소 응답 (결제 처리에 사용하는 필드만 보관)
+ *
+ * @param resultCode 결과 코드 (승인/망취소 "0000", 취소 "00" 성공)
+ * @param resultMsg  결과 메시지
+ * @param tid        거래 ID
+ * @param moid       주문번호 (MOID)
+ * @param totPrice   결제금액 (TotPrice)
+ * @param applDate   승인일자 (YYYYMMDD)
+ * @param applTime   승인시각 (hhmmss)
+ * @param applNum    승인번호
+ * @param cancelDate 취소일자 (YYYYMMDD)
+ * @param cancelTime 취소시각 (hhmmss)
+ */
+public record InicisResponse(
+        String resultCode,
+        String resultMsg,
+        String tid,
+        String moid,
+        Long totPrice,
+        String applDate,
+        String applTime,
+        String applNum,
+        String cancelDate,
+        String cancelTime) {
+
+    /**
+     * 승인일시 (applDate + applTime, 승인 응답이 아니면 null)
+     */
+    public String approvedAt() {
+        if (applDate == null) {
+            return null;
+        }
+        return applTime == null ? applDate : applDate + applTime;
+    }
+
+    /**
+     * 응답 JSON 읽기 (사용하지 않는 필드는 값 생성 없이 건너뜀)
+     */
+    public static InicisResponse read(JsonParser parser) throws IOException {
+        PgResponseFields.startObject(parser, "이니시스");
+
+        Fields fields = new Fields();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (!fields.set(field, parser)) {
+                parser.skipChildren();
+            }
+        }
+        return fields.toResponse();
+    }
+
+    /**
+     * key=value&key=value (NVP) 형식 응답 읽기
+     * NVP 형식이 아니면 필드가 모두 비어 있는 응답
+     */
+    public static InicisResponse fromNvp(String responseBody) {
+        Fields fields = new Fields();
+        if (responseBody.contains("=") && responseBody.contains("&")) {
+            for (String pair : responseBody.split("&")) {
+                String[] keyValue = pair.split("=", 2);
+                if (keyValue.length == 2) {
+                    fields.set(keyValue[0], keyValue[1]);
+                }
+            }
+        }
+        return fields.toResponse();
+    }
+
+    /**
+     * 응답 필드 누적 (JSON/NVP 공통)
+     * resultCode가 없고 code만 있는 응답은 code를 결과 코드로 사용
+     */
+    private static final class Fields {
+        private String resultCode;
+        private String code;
+        private String resultMsg;
+        private String tid;
+        private String moid;
+        private Long totPrice;
+        private String applDate;
+        private String applTime;
+        private String applNum;
+        private String cancelDate;
+        private String cancelTime;
+
+        boolean set(String field, JsonParser parser) throws IOException {
+            if ("TotPrice".equals(field)) {
+                totPrice = PgResponseFields.longValue(parser);
+                return true;
+            }
+            if (!isField(field)) {
+                return false;
+            }
+            set(field, PgResponseFields.text(parser));
+            return true;
+        }
+
+        void set(String field, String value) {
+            switch (field) {
+                case "resultCode" -> resultCode = value;
+                case "code" -> code = value;
+                case "resultMsg" -> resultMsg = value;
+                case "tid" -> tid = value;
+                case "MOID" -> moid = value;
+                case "TotPrice" -> totPrice = parsePrice(value);
+                case "applDate" -> applDate = value;
+                case "applTime" -> applTime = value;
+                case "applNum" -> applNum = value;
+                case "cancelDate" -> cancelDate = value;
+                case "cancelTime" -> cancelTime = value;
+                default -> {
+                }
+            }
+        }
+
+        private static boolean isField(String field) {
+            return switch (field) {
+                case "resultCode", "code", "resultMsg", "tid", "MOID", "applDate", "applTime", "applNum",
+                     "cancelDate", "cancelTime" -> true;
+                default -> false;
+            };
+        }
+
+        private static Long parsePrice(String value) {
+            try {
+                return value == null || value.isBlank() ? null : Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        InicisResponse toResponse() {
+            return new InicisResponse(resultCode != null ? resultCode : code, resultMsg, tid, moid, totPrice,
+                    applDate, applTime, applNum, cancelDate, cancelTime);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.payment.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Map;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class PaymentConfirmResponse {
     private String status;
     private String message;
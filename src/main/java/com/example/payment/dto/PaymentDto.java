@@ -37,4 +37,19 @@ public class PaymentDto {
         paymentDto.setIsCancelled(false); // 기본값
         return paymentDto;
     }
-}
\ No newline at end of file
+
+    public static PaymentDto from(PaymentSummary summary) {
+        PaymentDto paymentDto = new PaymentDto();
+        paymentDto.setId(summary.getId());
+        paymentDto.setOrderId(summary.getOrderId());
+        paymentDto.setPaymentMethod(summary.getPaymentMethod() != null ? summary.getPaymentMethod().name() : null);
+        paymentDto.setPayType(summary.getPayType() != null ? summary.getPayType().name() : null);
+        paymentDto.setPgProvider(summary.getPgProvider());
+        paymentDto.setPaymentAmount(summary.getPaymentAmount());
+        paymentDto.setPaymentAt(summary.getPaymentAt());
+        paymentDto.setProductName(summary.getProductName());
+        paymentDto.setMemberId(summary.getMemberId());
+        paymentDto.setIsCancelled(false); // 기본값
+        return paymentDto;
+    }
+}
@@ -5,8 +5,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.Map;
-
 /**
  * PG사 응답을 위한 표준화된 DTO
  * 각 PG 전략에서 자신의 응답 키에 맞게 tid를 세팅해서 리턴
@@ -50,9 +48,9 @@ public class PaymentGatewayResponse {
     private boolean success;
 
     /**
-     * PG사별 원본 응답 데이터 (필요시 접근용)
+     * PG사별 응답 (TossPaymentResponse, InicisResponse 등 필요시 접근용)
      */
-    private Map<String, Object> rawResponse;
+    private Object rawResponse;
 
     /**
      * 승인번호 (카드결제의 경우)
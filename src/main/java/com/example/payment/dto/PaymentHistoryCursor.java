@@ -0,0 +1,59 @@
+package com.example.payment.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 결제내역 페이지 커서 - 이전 페이지 마지막 결제의 (결제일시, ID)
+ * 문자열 형식: {결제일시(ISO-8601)}_{ID}
+ */
+@Getter
+public class PaymentHistoryCursor {
+    private final LocalDateTime paymentAt;
+    private final Long id;
+
+    public PaymentHistoryCursor(LocalDateTime paymentAt, Long id) {
+        this.paymentAt = paymentAt;
+        this.id = id;
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public static PaymentHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        int separator = cursor.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("잘못된 결제내역 커서입니다: " + cursor);
+        }
+
+        try {
+            return new PaymentHistoryCursor(
+                LocalDateTime.parse(cursor.substring(0, separator)),
+                Long.parseLong(cursor.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 결제내역 커서입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return paymentAt + "_" + id;
+    }
+
+    /**
+     * 결제내역 정렬 순서(결제일시 내림차순, ID 내림차순)에서 이 커서보다 뒤에 있는지 확인
+     */
+    public boolean isBefore(LocalDateTime otherPaymentAt, Long otherId) {
+        int compared = paymentAt.compareTo(otherPaymentAt);
+        return compared > 0 || (compared == 0 && id > otherId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.payment.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PaymentHistoryPageResponse {
+    private String status;
+    private String message;
+    private String memberId;
+    private Integer paymentCount;
+    private List<PaymentDto> paymentList;
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private Boolean hasNext;
+    
+    public PaymentHistoryPageResponse(String status, String message, String memberId,
+                                      Integer paymentCount, List<PaymentDto> paymentList,
+                                      String nextCursor, Boolean hasNext) {
+        this.status = status;
+        this.message = message;
+        this.memberId = memberId;
+        this.paymentCount = paymentCount;
+        this.paymentList = paymentList;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
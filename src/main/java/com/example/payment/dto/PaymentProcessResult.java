@@ -3,8 +3,6 @@ package com.example.payment.dto;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Map;
-
 @Getter
 @Setter
 public class PaymentProcessResult {
@@ -12,9 +10,9 @@ public class PaymentProcessResult {
     private String orderId;
     private Long amount;
     private String tid;
-    private Map<String, Object> pgResult;
+    private Object pgResult;
     
-    public PaymentProcessResult(String paymentMethod, String orderId, Long amount, String tid, Map<String, Object> pgResult) {
+    public PaymentProcessResult(String paymentMethod, String orderId, Long amount, String tid, Object pgResult) {
         this.paymentMethod = paymentMethod;
         this.orderId = orderId;
         this.amount = amount;
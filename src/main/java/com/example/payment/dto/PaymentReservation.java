@@ -0,0 +1,31 @@
+package com.example.payment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 결제 예약 결과
+ * 예약 트랜잭션에서 생성된 PENDING 결제 ID와 예약 단계에서 처리된 결제수단(적립금)의 결과를 결제 항목 순서대로 보관
+ */
+@Getter
+public class PaymentReservation {
+
+    private final String orderId;
+
+    /**
+     * PENDING 상태로 저장된 결제 ID (결제 항목 순서와 동일)
+     */
+    private final List<Long> paymentIds;
+
+    /**
+     * 예약 단계에서 처리된 결제 결과 (PG 호출이 필요한 항목은 null)
+     */
+    private final List<PaymentProcessResult> localResults;
+
+    public PaymentReservation(String orderId, List<Long> paymentIds, List<PaymentProcessResult> localResults) {
+        this.orderId = orderId;
+        this.paymentIds = paymentIds;
+        this.localResults = localResults;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.payment.dto;
+
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제내역 조회용 프로젝션 - PaymentDto 변환에 필요한 컬럼만 조회
+ * 회원 ID를 조인으로 함께 조회하므로 회원 지연 로딩 쿼리가 발생하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentSummary {
+    private Long id;
+    private String orderId;
+    private PaymentMethod paymentMethod;
+    private PaymentType payType;
+    private String pgProvider;
+    private Long paymentAmount;
+    private LocalDateTime paymentAt;
+    private String productName;
+    private String memberId;
+}
@@ -0,0 +1,57 @@
+package com.example.payment.dto;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * PG 응답 JSON 필드 읽기 (Jackson 스트리밍 파서)
+ * 파서는 값 토큰에 위치한 상태로 전달됨
+ */
+final class PgResponseFields {
+
+    private PgResponseFields() {
+    }
+
+    /**
+     * 응답 최상위 객체 시작 확인
+     */
+    static void startObject(JsonParser parser, String responseName) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, responseName + " 응답이 JSON 객체가 아닙니다");
+        }
+    }
+
+    /**
+     * 문자열 값 (숫자도 문자열로 변환, 객체/배열은 건너뛰고 null)
+     */
+    static String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    /**
+     * 정수 값 (숫자 문자열 포함, 값이 없으면 null)
+     */
+    static Long longValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsLong();
+        }
+        String text = text(parser);
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(parser, "숫자 형식이 아닙니다: " + text);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.payment.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * 토스페이먼츠 결제 승인/취소 응답 (Payment 객체 중 결제 처리에 사용하는 필드만 보관)
+ *
+ * @param paymentKey    결제 키
+ * @param orderId       주문번호
+ * @param status        결제 상태 (DONE, CANCELED, PARTIAL_CANCELED 등)
+ * @param method        결제수단
+ * @param totalAmount   총 결제금액
+ * @param balanceAmount 취소 후 남은 금액
+ * @param requestedAt   결제 요청일시
+ * @param approvedAt    결제 승인일시
+ * @param approveNo     카드 승인번호 (card.approveNo)
+ * @param canceledAt    마지막 취소일시 (cancels 마지막 항목의 canceledAt)
+ */
+public record TossPaymentResponse(
+        String paymentKey,
+        String orderId,
+        String status,
+        String method,
+        Long totalAmount,
+        Long balanceAmount,
+        String requestedAt,
+        String approvedAt,
+        String approveNo,
+        String canceledAt) {
+
+    /**
+     * JSON이 아닌 응답 (필드 없음, 원문은 이력에 저장)
+     */
+    public static TossPaymentResponse unparsed() {
+        return new TossPaymentResponse(null, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * 응답 JSON 읽기 (사용하지 않는 필드는 값 생성 없이 건너뜀)
+     */
+    public static TossPaymentResponse read(JsonParser parser) throws IOException {
+        PgResponseFields.startObject(parser, "토스");
+
+        String paymentKey = null;
+        String orderId = null;
+        String status = null;
+        String method = null;
+        Long totalAmount = null;
+        Long balanceAmount = null;
+        String requestedAt = null;
+        String approvedAt = null;
+        String approveNo = null;
+        String canceledAt = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "paymentKey" -> paymentKey = PgResponseFields.text(parser);
+                case "orderId" -> orderId = PgResponseFields.text(parser);
+                case "status" -> status = PgResponseFields.text(parser);
+                case "method" -> method = PgResponseFields.text(parser);
+                case "totalAmount" -> totalAmount = PgResponseFields.longValue(parser);
+                case "balanceAmount" -> balanceAmount = PgResponseFields.longValue(parser);
+                case "requestedAt" -> requestedAt = PgResponseFields.text(parser);
+                case "approvedAt" -> approvedAt = PgResponseFields.text(parser);
+                case "card" -> approveNo = readApproveNo(parser);
+                case "cancels" -> canceledAt = readLastCanceledAt(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new TossPaymentResponse(paymentKey, orderId, status, method, totalAmount, balanceAmount,
+                requestedAt, approvedAt, approveNo, canceledAt);
+    }
+
+    /**
+     * card 객체에서 승인번호만 읽기 (카드 결제가 아니면 null)
+     */
+    private static String readApproveNo(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return PgResponseFields.text(parser);
+        }
+
+        String approveNo = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("approveNo".equals(field)) {
+                approveNo = PgResponseFields.text(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return approveNo;
+    }
+
+    /**
+     * cancels 배열에서 마지막 취소일시만 읽기
+     */
+    private static String readLastCanceledAt(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return PgResponseFields.text(parser);
+        }
+
+        String canceledAt = null;
+        for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("canceledAt".equals(field)) {
+                    canceledAt = PgResponseFields.text(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return canceledAt;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.payment.entity;
+
+import com.example.payment.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at") // 만료 키 정리용
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyKey {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 160)
+    private String idempotencyKey; // 회원 ID + ':' + Idempotency-Key 헤더 값 (없으면 주문 ID)
+    
+    @Column(name = "order_id", nullable = false, length = 100)
+    private String orderId;
+    
+    @Column(name = "member_id", length = 50)
+    private String memberId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IdempotencyStatus status;
+    
+    @Column(name = "response_json", columnDefinition = "TEXT")
+    private String responseJson; // 완료된 결제 승인 응답 (PaymentConfirmResponse)
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    /**
+     * 결제 처리 시작 시 호출하는 정적 메서드
+     */
+    public static IdempotencyKey start(String idempotencyKey, String orderId, String memberId, LocalDateTime expiresAt) {
+        IdempotencyKey key = new IdempotencyKey();
+        key.idempotencyKey = idempotencyKey;
+        key.orderId = orderId;
+        key.memberId = memberId;
+        key.status = IdempotencyStatus.IN_PROGRESS;
+        key.createdAt = LocalDateTime.now();
+        key.expiresAt = expiresAt;
+        return key;
+    }
+    
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -8,7 +8,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interface_histories")
+@Table(name = "interface_histories", indexes = {
+    @Index(name = "idx_interface_histories_order_time", columnList = "order_id, request_time"), // 주문별 이력 조회용
+    @Index(name = "idx_interface_histories_type_time", columnList = "interface_type, request_time"), // PG사별 이력 조회용
+    @Index(name = "idx_interface_histories_code_time", columnList = "response_code, request_time"), // 응답코드별 이력 조회용
+    @Index(name = "idx_interface_histories_time", columnList = "request_time") // 기간별 이력 조회용
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -87,8 +92,15 @@ public class InterfaceHistory {
     
     /**
      * 응답 완료 시 호출하는 메서드
+     * 응답 처리와 오류/취소 처리에서 동시에 호출될 수 있으므로 처음 한 번만 기록
+     *
+     * @return 이번 호출로 응답을 기록했으면 true, 이미 응답이 기록된 이력이면 false
      */
-    public void completeResponse(String responseJson, String responseCode, String errorMessage) {
+    public synchronized boolean completeResponse(String responseJson, String responseCode, String errorMessage) {
+        if (this.responseTime != null) {
+            return false;
+        }
+
         this.responseJson = responseJson;
         this.responseCode = responseCode;
         this.errorMessage = errorMessage;
@@ -97,5 +109,6 @@ public class InterfaceHistory {
         if (this.requestTime != null && this.responseTime != null) {
             this.processingTimeMs = java.time.Duration.between(this.requestTime, this.responseTime).toMillis();
         }
+        return true;
     }
 }
\ No newline at end of file
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class Member {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_id_gen")
+    @SequenceGenerator(name = "members_id_gen", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false, length = 50)
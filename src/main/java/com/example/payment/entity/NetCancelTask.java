@@ -0,0 +1,87 @@
+package com.example.payment.entity;
+
+import com.example.payment.enums.NetCancelStatus;
+import com.example.payment.enums.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "net_cancel_outbox", indexes = {
+    @Index(name = "idx_net_cancel_outbox_status_next", columnList = "status, next_attempt_at") // 처리 대상 조회용
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class NetCancelTask {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "net_cancel_outbox_id_gen")
+    @SequenceGenerator(name = "net_cancel_outbox_id_gen", sequenceName = "net_cancel_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "order_id", nullable = false, length = 100)
+    private String orderId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method", nullable = false)
+    private PaymentMethod paymentMethod;
+    
+    @Column(name = "pg_provider", length = 50)
+    private String pgProvider;
+    
+    @Column(name = "tid", length = 100)
+    private String tid; // 망취소할 PG 거래 ID
+    
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+    
+    @Column(name = "auth_result_json", columnDefinition = "TEXT")
+    private String authResultJson; // 카드 인증결과 (이니시스 망취소 URL, 인증 토큰 등)
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private NetCancelStatus status;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts; // 망취소 시도 횟수
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 시도 가능 시각
+    
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil; // 처리중 상태 유지 기한 (이후 다른 작업자가 다시 가져감)
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 망취소 작업 등록 시 호출하는 정적 메서드
+     */
+    public static NetCancelTask create(String orderId, PaymentMethod paymentMethod, String pgProvider,
+                                       String tid, Long amount, String authResultJson) {
+        LocalDateTime now = LocalDateTime.now();
+        NetCancelTask task = new NetCancelTask();
+        task.orderId = orderId;
+        task.paymentMethod = paymentMethod;
+        task.pgProvider = pgProvider;
+        task.tid = tid;
+        task.amount = amount;
+        task.authResultJson = authResultJson;
+        task.status = NetCancelStatus.PENDING;
+        task.attempts = 0;
+        task.nextAttemptAt = now;
+        task.createdAt = now;
+        task.updatedAt = now;
+        return task;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.payment.entity;
 
 import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentStatus;
 import com.example.payment.enums.PaymentType;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -9,13 +10,18 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payments_member_payment_at", columnList = "member_id, payment_at, id"), // 결제내역 커서 페이지 조회용
+    @Index(name = "idx_payments_order_payment_at", columnList = "order_id, payment_at, id"), // 주문별 결제 조회용
+    @Index(name = "idx_payments_status_created_at", columnList = "status, created_at") // PENDING 결제 복구 대상 조회용
+})
 @Getter
 @Setter
 public class Payment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_id_gen")
+    @SequenceGenerator(name = "payments_id_gen", sequenceName = "payments_seq", allocationSize = 50) // 50개 단위로 ID를 미리 할당하여 INSERT 배치 처리
     private Long id;
     
     @Column(name = "order_id", nullable = false, length = 100)
@@ -33,6 +39,10 @@ public class Payment {
     @Column(name = "pay_type", nullable = true)
     private PaymentType payType;
     
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = true, length = 20)
+    private PaymentStatus status; // 처리 상태 (null은 상태 도입 이전에 저장된 완료 건)
+    
     @Column(name = "pg_provider", nullable = true, length = 50)
     private String pgProvider;
     
@@ -45,6 +55,9 @@ public class Payment {
     @Column(name = "tid", nullable = true, length = 100)
     private String tid; // 결제 거래 ID (PG사에서 발급, 취소 시 필요)
     
+    @Column(name = "auth_result_json", nullable = true, columnDefinition = "TEXT")
+    private String authResultJson; // PENDING 동안 보관하는 카드 인증결과 (복구 작업의 망취소용, 확정/실패 시 비움)
+    
     @Column(name = "payment_at", nullable = false)
     private LocalDateTime paymentAt;
     
@@ -54,10 +67,6 @@ public class Payment {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
-    // DTO 변환용 임시 필드 (실제 DB 컬럼이 아님)
-    @jakarta.persistence.Transient
-    private LocalDateTime cancelledAt;
-    
     public Payment() {
         // JPA용 기본 생성자
     }
@@ -68,6 +77,7 @@ public class Payment {
         this.member = member;
         this.paymentMethod = paymentMethod;
         this.payType = payType;
+        this.status = PaymentStatus.COMPLETED;
         this.pgProvider = pgProvider;
         this.paymentAmount = paymentAmount;
         this.productName = productName;
@@ -0,0 +1,56 @@
+package com.example.payment.entity;
+
+import com.example.payment.enums.PaymentEventType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payment_event_outbox", indexes = {
+    @Index(name = "idx_payment_event_outbox_published", columnList = "published_at, id") // 미발행 이벤트 조회용
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaymentEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_event_outbox_id_gen")
+    @SequenceGenerator(name = "payment_event_outbox_id_gen", sequenceName = "payment_event_outbox_seq", allocationSize = 50)
+    private Long id; // 이벤트 ID (수신 측 중복 제거 키, 서버별로 미리 할당받으므로 커밋 순서와 다를 수 있음)
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private PaymentEventType eventType;
+    
+    @Column(name = "order_id", nullable = false, length = 100)
+    private String orderId;
+    
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId; // 이벤트가 발생한 결제 ID (취소는 취소 내역 ID)
+    
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // 이벤트 내용 (JSON)
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // null이면 미발행
+    
+    /**
+     * 결제 이벤트 등록 시 호출하는 정적 메서드
+     */
+    public static PaymentEvent create(PaymentEventType eventType, String orderId, Long paymentId, String payload) {
+        PaymentEvent event = new PaymentEvent();
+        event.eventType = eventType;
+        event.orderId = orderId;
+        event.paymentId = paymentId;
+        event.payload = payload;
+        event.createdAt = LocalDateTime.now();
+        return event;
+    }
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "point_histories")
+@Table(name = "point_histories", indexes = {
+    @Index(name = "idx_point_histories_order_type", columnList = "order_id, point_type"), // 주문별 사용/환원 이력 조회용
+    @Index(name = "idx_point_histories_member_created", columnList = "member_id, created_at") // 회원별 적립금 이력 조회용
+})
 public class PointHistory {
     
     @Id
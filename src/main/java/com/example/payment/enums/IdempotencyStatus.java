@@ -0,0 +1,20 @@
+package com.example.payment.enums;
+
+/**
+ * 멱등키 처리 상태
+ * 최초 요청이 결제를 처리하는 동안 IN_PROGRESS, 결제 응답이 저장되면 COMPLETED
+ */
+public enum IdempotencyStatus {
+    IN_PROGRESS("처리중"),
+    COMPLETED("완료");
+
+    private final String description;
+
+    IdempotencyStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
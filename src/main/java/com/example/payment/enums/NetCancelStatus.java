@@ -0,0 +1,22 @@
+package com.example.payment.enums;
+
+/**
+ * 망취소 작업 상태
+ * 등록(PENDING) 후 작업자가 가져가면 PROCESSING, PG 망취소 성공 시 COMPLETED, 최대 재시도 초과 시 FAILED
+ */
+public enum NetCancelStatus {
+    PENDING("대기"),
+    PROCESSING("처리중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    NetCancelStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
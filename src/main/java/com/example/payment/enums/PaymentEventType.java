@@ -0,0 +1,19 @@
+package com.example.payment.enums;
+
+/**
+ * 결제 이벤트 유형 (주문/정산 등 후속 시스템에 전달)
+ */
+public enum PaymentEventType {
+    PAYMENT_APPROVED("결제 승인"),
+    PAYMENT_CANCELED("결제 취소");
+
+    private final String description;
+
+    PaymentEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
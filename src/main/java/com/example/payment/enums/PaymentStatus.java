@@ -0,0 +1,21 @@
+package com.example.payment.enums;
+
+/**
+ * 결제 처리 상태
+ * PG 호출은 트랜잭션 밖에서 수행되므로 예약(PENDING) 후 확정(COMPLETED) 또는 실패(FAILED)로 전환
+ */
+public enum PaymentStatus {
+    PENDING("처리중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    PaymentStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
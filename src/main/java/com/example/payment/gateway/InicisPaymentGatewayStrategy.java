@@ -1,15 +1,18 @@
 package com.example.payment.gateway;
 
 import com.example.payment.client.InicisApiClient;
+import com.example.payment.dto.InicisResponse;
 import com.example.payment.dto.PaymentConfirmRequest;
 import com.example.payment.dto.PaymentGatewayResponse;
 import com.example.payment.dto.PaymentProcessResult;
 import com.example.payment.entity.Payment;
+import com.example.payment.enums.PgProvider;
 import com.example.payment.repository.PaymentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -26,45 +29,53 @@ public class InicisPaymentGatewayStrategy implements PaymentGatewayStrategy {
     
     @Override
     public PaymentGatewayResponse processApproval(PaymentConfirmRequest request) {
-        logger.info("=== 이니시스 결제 승인 시작 ===");
-
-        Map<String, String> authResultMap = request.getAuthResultMap();
-        String resultCode = authResultMap.get("resultCode");
+        return processApprovalAsync(request).block();
+    }
 
-        // 이니시스 인증이 성공한 경우에만 승인 진행
-        if (!"0000".equals(resultCode)) {
-            logger.error("이니시스 인증 실패 - ResultCode: {}", resultCode);
-            throw new IllegalArgumentException("이니시스 인증 실패: " + resultCode);
-        }
+    @Override
+    public Mono<PaymentGatewayResponse> processApprovalAsync(PaymentConfirmRequest request) {
+        return Mono.defer(() -> {
+            logger.info("=== 이니시스 결제 승인 시작 ===");
 
-        // authUrl과 authToken 추출
-        String authUrl = authResultMap.get("authUrl");
-        String authToken = authResultMap.get("authToken");
+            Map<String, String> authResultMap = request.getAuthResultMap();
+            String resultCode = authResultMap.get("resultCode");
 
-        if (authUrl == null || authToken == null) {
-            logger.error("이니시스 승인에 필요한 정보가 부족합니다 - authUrl: {}, authToken: {}", authUrl, authToken);
-            throw new IllegalArgumentException("이니시스 승인에 필요한 정보가 부족합니다 (authUrl 또는 authToken 없음)");
-        }
+            // 이니시스 인증이 성공한 경우에만 승인 진행
+            if (!"0000".equals(resultCode)) {
+                logger.error("이니시스 인증 실패 - ResultCode: {}", resultCode);
+                return Mono.error(new IllegalArgumentException("이니시스 인증 실패: " + resultCode));
+            }
 
-        // 실제 이니시스 API 호출
-        String orderId = request.getOrderId();
-        Map<String, Object> rawResponse = inicisApiClient.requestPaymentApproval(authUrl, authToken, orderId);
+            // authUrl과 authToken 추출
+            String authUrl = authResultMap.get("authUrl");
+            String authToken = authResultMap.get("authToken");
 
-        logger.info("이니시스 승인 성공: {}", rawResponse);
-        logger.info("=== 이니시스 결제 승인 완료 ===");
+            if (authUrl == null || authToken == null) {
+                logger.error("이니시스 승인에 필요한 정보가 부족합니다 - authUrl: {}, authToken: {}", authUrl, authToken);
+                return Mono.error(new IllegalArgumentException("이니시스 승인에 필요한 정보가 부족합니다 (authUrl 또는 authToken 없음)"));
+            }
 
-        // 이니시스 응답을 표준화된 PaymentGatewayResponse로 변환
-        return PaymentGatewayResponse.builder()
-                .tid((String) rawResponse.get("tid"))  // 이니시스는 tid 그대로 사용
-                .orderId(orderId)
-                .amount(request.getAmount())
-                .responseCode(resultCode)
-                .responseMessage("SUCCESS")
-                .success(true)
-                .rawResponse(rawResponse)
-                .approvalNumber((String) rawResponse.get("approvalNumber"))
-                .approvedAt((String) rawResponse.get("approvedAt"))
-                .build();
+            // 실제 이니시스 API 호출
+            String orderId = request.getOrderId();
+            return inicisApiClient.requestPaymentApprovalAsync(authUrl, authToken, orderId)
+                    .map(inicisResponse -> {
+                        logger.info("이니시스 승인 성공: {}", inicisResponse);
+                        logger.info("=== 이니시스 결제 승인 완료 ===");
+
+                        // 이니시스 응답을 표준화된 PaymentGatewayResponse로 변환
+                        return PaymentGatewayResponse.builder()
+                                .tid(inicisResponse.tid())  // 이니시스는 tid 그대로 사용
+                                .orderId(orderId)
+                                .amount(request.getAmount())
+                                .responseCode(resultCode)
+                                .responseMessage("SUCCESS")
+                                .success(true)
+                                .rawResponse(inicisResponse)
+                                .approvalNumber(inicisResponse.applNum())
+                                .approvedAt(inicisResponse.approvedAt())
+                                .build();
+                    });
+        });
     }
     
     @Override
@@ -86,9 +97,9 @@ public class InicisPaymentGatewayStrategy implements PaymentGatewayStrategy {
         logger.info("취소 대상 TID: {}", tid);
 
         // 실제 이니시스 취소 API 호출
-        Map<String, Object> rawResponse = inicisApiClient.requestPaymentCancel(tid, orderId);
+        InicisResponse inicisResponse = inicisApiClient.requestPaymentCancel(tid, orderId);
 
-        logger.info("이니시스 취소 성공: {}", rawResponse);
+        logger.info("이니시스 취소 성공: {}", inicisResponse);
         logger.info("=== 이니시스 결제 취소 완료 ===");
 
         // 이니시스 취소 응답을 표준화된 PaymentGatewayResponse로 변환
@@ -99,7 +110,7 @@ public class InicisPaymentGatewayStrategy implements PaymentGatewayStrategy {
                 .responseCode("0000")
                 .responseMessage("CANCELED")
                 .success(true)
-                .rawResponse(rawResponse)
+                .rawResponse(inicisResponse)
                 .build();
     }
 
@@ -122,7 +133,7 @@ public class InicisPaymentGatewayStrategy implements PaymentGatewayStrategy {
             }
 
             // 이니시스 전용 망취소 API 호출
-            Map<String, Object> cancelResult = inicisApiClient.requestNetCancel(
+            InicisResponse cancelResult = inicisApiClient.requestNetCancel(
                 netCancelUrl,
                 authToken,
                 request.getOrderId()
@@ -141,4 +152,9 @@ public class InicisPaymentGatewayStrategy implements PaymentGatewayStrategy {
         // INICIS 문자열이 포함되면 이니시스
         return pgProvider != null && pgProvider.toUpperCase().contains("INICIS");
     }
+
+    @Override
+    public String getPgProvider() {
+        return PgProvider.INICIS.name();
+    }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.example.payment.gateway;
 import com.example.payment.dto.PaymentConfirmRequest;
 import com.example.payment.dto.PaymentGatewayResponse;
 import com.example.payment.dto.PaymentProcessResult;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public interface PaymentGatewayStrategy {
 
@@ -13,6 +15,17 @@ public interface PaymentGatewayStrategy {
      */
     PaymentGatewayResponse processApproval(PaymentConfirmRequest request);
 
+    /**
+     * PG사별 결제 승인 처리 (논블로킹)
+     * 기본 구현은 블로킹 승인을 별도 스레드에서 실행하며, 논블로킹 클라이언트를 가진 PG사는 재정의
+     * @param request 결제 승인 요청 정보
+     * @return 표준화된 승인 결과
+     */
+    default Mono<PaymentGatewayResponse> processApprovalAsync(PaymentConfirmRequest request) {
+        return Mono.fromCallable(() -> processApproval(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     /**
      * PG사별 결제 취소 처리
      * @param request 결제 취소 요청 정보
@@ -33,4 +46,10 @@ public interface PaymentGatewayStrategy {
      * @return 지원 여부
      */
     boolean supports(String pgProvider);
+
+    /**
+     * PG 구분코드 (서킷브레이커/벌크헤드 인스턴스 구분용)
+     * @return PG 구분코드 (TOSS, INICIS 등)
+     */
+    String getPgProvider();
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.example.payment.gateway;
 
+import com.example.payment.enums.PgProvider;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Map;
 
 @Component
 public class PaymentGatewayStrategyFactory {
@@ -14,8 +17,35 @@ public class PaymentGatewayStrategyFactory {
     private static final Logger logger = LoggerFactory.getLogger(PaymentGatewayStrategyFactory.class);
     
     @Autowired
+    private List<PaymentGatewayStrategy> pgStrategies;
+    
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+    
+    /**
+     * 서킷브레이커/벌크헤드가 적용된 PG 전략 목록
+     */
     private List<PaymentGatewayStrategy> gatewayStrategies;
     
+    /**
+     * PG사별로 서킷브레이커와 벌크헤드 인스턴스를 만들어 PG 전략에 적용
+     * 인스턴스 이름은 PG 구분코드 소문자 (resilience4j.circuitbreaker.instances.toss 등으로 설정)
+     */
+    @PostConstruct
+    void decorateStrategies() {
+        gatewayStrategies = pgStrategies.stream()
+                .map(strategy -> {
+                    String instanceName = strategy.getPgProvider().toLowerCase();
+                    return (PaymentGatewayStrategy) new ResilientPaymentGatewayStrategy(strategy,
+                            circuitBreakerRegistry.circuitBreaker(instanceName),
+                            bulkheadRegistry.bulkhead(instanceName));
+                })
+                .toList();
+    }
+    
     /**
      * PG 구분코드를 기반으로 적절한 PG 전략을 선택
      * @param pgProvider PG 구분코드 (TOSS, INICIS 등)
@@ -29,14 +59,14 @@ public class PaymentGatewayStrategyFactory {
             logger.warn("PG 구분코드가 없어 기본 전략 사용");
             // 기본적으로 토스페이먼츠 전략 반환 (첫 번째로 찾은 토스 전략)
             return gatewayStrategies.stream()
-                    .filter(strategy -> strategy instanceof TossPaymentGatewayStrategy)
+                    .filter(strategy -> PgProvider.TOSS.name().equals(strategy.getPgProvider()))
                     .findFirst()
                     .orElseThrow(() -> new IllegalArgumentException("기본 PG 전략을 찾을 수 없습니다"));
         }
         
         for (PaymentGatewayStrategy strategy : gatewayStrategies) {
             if (strategy.supports(pgProvider)) {
-                logger.info("선택된 PG 전략: {}", strategy.getClass().getSimpleName());
+                logger.info("선택된 PG 전략: {}", strategy.getPgProvider());
                 logger.info("=== PG 전략 선택 완료 ===");
                 return strategy;
             }
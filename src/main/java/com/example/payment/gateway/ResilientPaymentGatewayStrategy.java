@@ -0,0 +1,94 @@
+package com.example.payment.gateway;
+
+import com.example.payment.dto.PaymentConfirmRequest;
+import com.example.payment.dto.PaymentGatewayResponse;
+import com.example.payment.dto.PaymentProcessResult;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * PG 전략에 서킷브레이커와 벌크헤드를 적용하는 래퍼
+ * - 벌크헤드: PG사별 동시 호출 수를 제한하여 한 PG사의 지연이 공유 스레드/커넥션을 모두 점유하지 못하도록 함
+ * - 서킷브레이커: 최근 호출의 실패율/지연 호출 비율이 임계치를 넘으면 PG 호출 없이 즉시 실패
+ * 망취소는 이미 승인된 결제를 되돌리는 보상 처리이므로 제한 없이 항상 PG를 호출
+ */
+public class ResilientPaymentGatewayStrategy implements PaymentGatewayStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientPaymentGatewayStrategy.class);
+
+    private final PaymentGatewayStrategy delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ResilientPaymentGatewayStrategy(PaymentGatewayStrategy delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public PaymentGatewayResponse processApproval(PaymentConfirmRequest request) {
+        return processApprovalAsync(request).block();
+    }
+
+    @Override
+    public Mono<PaymentGatewayResponse> processApprovalAsync(PaymentConfirmRequest request) {
+        // 벌크헤드를 바깥에 두어 동시 호출 수 초과로 거절된 요청은 서킷브레이커 실패율에 포함하지 않음
+        return delegate.processApprovalAsync(request)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(this::isRejected, e -> toRejectedException("승인", e));
+    }
+
+    @Override
+    public PaymentGatewayResponse processCancellation(PaymentConfirmRequest request) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, () -> delegate.processCancellation(request)))
+                    .get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw toRejectedException("취소", e);
+        }
+    }
+
+    @Override
+    public void performNetCancellation(PaymentProcessResult processResult, PaymentConfirmRequest request) {
+        delegate.performNetCancellation(processResult, request);
+    }
+
+    @Override
+    public boolean supports(String pgProvider) {
+        return delegate.supports(pgProvider);
+    }
+
+    @Override
+    public String getPgProvider() {
+        return delegate.getPgProvider();
+    }
+
+    /**
+     * 래핑한 원본 PG 전략
+     */
+    public PaymentGatewayStrategy getDelegate() {
+        return delegate;
+    }
+
+    private boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    private RuntimeException toRejectedException(String operation, Throwable e) {
+        String reason = e instanceof CallNotPermittedException
+                ? "PG사 장애로 호출이 일시 중단되었습니다"
+                : "PG사 동시 호출 한도를 초과했습니다";
+        logger.warn("{} 결제 {} 즉시 실패: {}", getPgProvider(), operation, reason);
+        return new RuntimeException(getPgProvider() + " 결제 " + operation + " 실패: " + reason, e);
+    }
+}
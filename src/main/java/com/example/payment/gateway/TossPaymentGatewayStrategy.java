@@ -4,10 +4,13 @@ import com.example.payment.client.TossApiClient;
 import com.example.payment.dto.PaymentConfirmRequest;
 import com.example.payment.dto.PaymentGatewayResponse;
 import com.example.payment.dto.PaymentProcessResult;
+import com.example.payment.dto.TossPaymentResponse;
+import com.example.payment.enums.PgProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -16,46 +19,53 @@ public class TossPaymentGatewayStrategy implements PaymentGatewayStrategy {
     
     private static final Logger logger = LoggerFactory.getLogger(TossPaymentGatewayStrategy.class);
     
+    private static final String ALREADY_CANCELED_PAYMENT = "ALREADY_CANCELED_PAYMENT";
+    
     @Autowired
     private TossApiClient tossApiClient;
     
     @Override
     public PaymentGatewayResponse processApproval(PaymentConfirmRequest request) {
+        return processApprovalAsync(request).block();
+    }
 
-        Map<String, String> authResultMap = request.getAuthResultMap();
-        String paymentKey = authResultMap.get("paymentKey"); // 인증 응답의 paymentKey
-        String orderId = request.getOrderId(); // 주문 ID
-
-        if (paymentKey == null) {
-            throw new IllegalArgumentException("토스 승인에 필요한 paymentKey가 없습니다");
-        }
-
-        if (orderId == null) {
-            throw new IllegalArgumentException("토스 승인에 필요한 orderId가 없습니다");
-        }
-
-        Long cardAmount = request.getAmount();
-        if (cardAmount <= 0) {
-            throw new IllegalArgumentException("토스 승인에 필요한 카드 결제 금액이 없습니다");
-        }
-
-        logger.info("토스 결제 승인 요청: paymentKey={}, amount={}, orderId={}", paymentKey, cardAmount, orderId);
-
-        // v1 API로 승인 요청 (paymentKey, amount, orderId)
-        Map<String, Object> rawResponse = tossApiClient.requestPaymentApproval(paymentKey, cardAmount, orderId);
-
-        // 토스페이먼츠 응답을 표준화된 PaymentGatewayResponse로 변환
-        return PaymentGatewayResponse.builder()
-                .tid(paymentKey)  // 토스는 paymentKey를 tid로 사용
-                .orderId(orderId)
-                .amount(cardAmount)
-                .responseCode("0000")  // 성공 시 기본 코드
-                .responseMessage("SUCCESS")
-                .success(true)
-                .rawResponse(rawResponse)
-                .approvalNumber((String) rawResponse.get("approvalNumber"))
-                .approvedAt((String) rawResponse.get("approvedAt"))
-                .build();
+    @Override
+    public Mono<PaymentGatewayResponse> processApprovalAsync(PaymentConfirmRequest request) {
+        return Mono.defer(() -> {
+            Map<String, String> authResultMap = request.getAuthResultMap();
+            String paymentKey = authResultMap.get("paymentKey"); // 인증 응답의 paymentKey
+            String orderId = request.getOrderId(); // 주문 ID
+
+            if (paymentKey == null) {
+                return Mono.error(new IllegalArgumentException("토스 승인에 필요한 paymentKey가 없습니다"));
+            }
+
+            if (orderId == null) {
+                return Mono.error(new IllegalArgumentException("토스 승인에 필요한 orderId가 없습니다"));
+            }
+
+            Long cardAmount = request.getAmount();
+            if (cardAmount <= 0) {
+                return Mono.error(new IllegalArgumentException("토스 승인에 필요한 카드 결제 금액이 없습니다"));
+            }
+
+            logger.info("토스 결제 승인 요청: paymentKey={}, amount={}, orderId={}", paymentKey, cardAmount, orderId);
+
+            // v1 API로 승인 요청 (paymentKey, amount, orderId)
+            return tossApiClient.requestPaymentApprovalAsync(paymentKey, cardAmount, orderId)
+                    // 토스페이먼츠 응답을 표준화된 PaymentGatewayResponse로 변환
+                    .map(tossResponse -> PaymentGatewayResponse.builder()
+                            .tid(paymentKey)  // 토스는 paymentKey를 tid로 사용
+                            .orderId(orderId)
+                            .amount(cardAmount)
+                            .responseCode("0000")  // 성공 시 기본 코드
+                            .responseMessage("SUCCESS")
+                            .success(true)
+                            .rawResponse(tossResponse)
+                            .approvalNumber(tossResponse.approveNo())
+                            .approvedAt(tossResponse.approvedAt())
+                            .build());
+        });
     }
     
     @Override
@@ -83,7 +93,7 @@ public class TossPaymentGatewayStrategy implements PaymentGatewayStrategy {
         logger.info("토스 결제 취소 요청: paymentKey={}, orderId={}, cancelReason={}", paymentKey, orderId, cancelReason);
 
         // 실제 토스페이먼츠 취소 API 호출
-        Map<String, Object> rawResponse = tossApiClient.requestPaymentCancellation(paymentKey, cancelReason, orderId);
+        TossPaymentResponse tossResponse = tossApiClient.requestPaymentCancellation(paymentKey, cancelReason, orderId);
 
         logger.info("=== 토스페이먼츠 결제 취소 완료 ===");
 
@@ -95,24 +105,39 @@ public class TossPaymentGatewayStrategy implements PaymentGatewayStrategy {
                 .responseCode("0000")
                 .responseMessage("CANCELED")
                 .success(true)
-                .rawResponse(rawResponse)
+                .rawResponse(tossResponse)
                 .build();
     }
 
     @Override
     public void performNetCancellation(PaymentProcessResult processResult, PaymentConfirmRequest request) {
+        // 승인 응답을 받지 못한 결제(타임아웃, 비정상 종료)는 TID가 없으므로 인증 응답의 paymentKey 사용
+        String paymentKey = processResult.getTid();
+        if (paymentKey == null && request.getAuthResultMap() != null) {
+            paymentKey = request.getAuthResultMap().get("paymentKey");
+        }
+
         logger.warn("=== 토스페이먼츠 망취소 시작 ===");
-        logger.warn("PaymentKey: {}, 금액: {}원", processResult.getTid(), processResult.getAmount());
+        logger.warn("PaymentKey: {}, 금액: {}원", paymentKey, processResult.getAmount());
+
+        if (paymentKey == null) {
+            throw new RuntimeException("토스페이먼츠 망취소 실패: paymentKey가 없습니다");
+        }
 
         try {
             // 토스페이먼츠는 기존 취소 API를 그대로 사용
-            Map<String, Object> cancelResult = tossApiClient.requestPaymentCancellation(
-                processResult.getTid(), // paymentKey
+            TossPaymentResponse cancelResult = tossApiClient.requestPaymentCancellation(
+                paymentKey,
                 "시스템 처리 실패로 인한 자동 망취소",
                 request.getOrderId()
             );
             logger.warn("토스페이먼츠 망취소 성공: {}", cancelResult);
         } catch (Exception e) {
+            if (e.getMessage() != null && e.getMessage().contains(ALREADY_CANCELED_PAYMENT)) {
+                // 이전 망취소 시도가 PG에서는 처리되었으나 응답을 받지 못한 경우 (재시도 시 성공으로 처리)
+                logger.warn("토스페이먼츠 망취소 - 이미 취소된 결제: PaymentKey={}", paymentKey);
+                return;
+            }
             logger.error("토스페이먼츠 망취소 실패: {}", e.getMessage());
             throw new RuntimeException("토스페이먼츠 망취소 실패: " + e.getMessage(), e);
         }
@@ -127,4 +152,9 @@ public class TossPaymentGatewayStrategy implements PaymentGatewayStrategy {
                (pgProvider.toUpperCase().contains("TOSS") ||
                 pgProvider.toUpperCase().equals("TOSSPAYMENTS"));
     }
+
+    @Override
+    public String getPgProvider() {
+        return PgProvider.TOSS.name();
+    }
 }
\ No newline at end of file
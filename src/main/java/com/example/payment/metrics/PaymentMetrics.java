@@ -0,0 +1,156 @@
+package com.example.payment.metrics;
+
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PgProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 결제 승인 단계별 처리 시간 측정
+ * 모든 단계를 payment.stage 타이머 하나로 기록하고 stage, method(결제수단), pg(PG사), outcome(결과) 태그로 구분
+ * - 백분위 히스토그램은 management.metrics.distribution 설정으로 적용 (/actuator/prometheus)
+ * - 태그 조합별 타이머를 캐시하여 측정마다 미터 조회/생성 비용이 들지 않도록 함
+ */
+@Component
+public class PaymentMetrics {
+
+    public static final String TIMER_NAME = "payment.stage";
+
+    public static final String STAGE_RESERVE = "reserve";                 // 예약 트랜잭션 전체
+    public static final String STAGE_MEMBER_LOOKUP = "member_lookup";     // 회원 조회
+    public static final String STAGE_PAYMENT_SAVE = "payment_save";       // 결제 기록 저장 (saveAll)
+    public static final String STAGE_PAYMENT_ITEM = "payment_item";       // 결제수단별 결제 처리 (PaymentStrategy)
+    public static final String STAGE_COMPLETE = "complete";               // 확정 트랜잭션
+    public static final String STAGE_FAIL = "fail";                       // 실패 처리 트랜잭션
+    public static final String STAGE_HISTORY_WRITE = "interface_history_write"; // 인터페이스 이력 저장
+    public static final String STAGE_PG_PREFIX = "pg_";                   // PG API 호출 (pg_confirm, pg_cancel, pg_netcancel)
+
+    public static final String NONE = "none";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+    private static final String OUTCOME_CANCEL = "cancel";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public PaymentMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 처리 시간 기록
+     *
+     * @param stage      처리 단계
+     * @param method     결제수단 (없으면 null)
+     * @param pgProvider PG사 (없으면 null)
+     * @param success    성공 여부
+     * @param startNanos 시작 시각 ({@link System#nanoTime()})
+     */
+    public void record(String stage, PaymentMethod method, String pgProvider, boolean success, long startNanos) {
+        record(stage, method, pgProvider, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE, startNanos);
+    }
+
+    /**
+     * 블로킹 작업의 처리 시간 측정 (예외 발생 시 실패로 기록)
+     */
+    public <T> T time(String stage, PaymentMethod method, String pgProvider, Supplier<T> action) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            record(stage, method, pgProvider, success, startNanos);
+        }
+    }
+
+    /**
+     * 반환값이 없는 블로킹 작업의 처리 시간 측정 (예외 발생 시 실패로 기록)
+     */
+    public void time(String stage, PaymentMethod method, String pgProvider, Runnable action) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            action.run();
+            success = true;
+        } finally {
+            record(stage, method, pgProvider, success, startNanos);
+        }
+    }
+
+    /**
+     * 논블로킹 작업의 처리 시간 측정 (구독 시점부터 종료 시점까지)
+     */
+    public <T> Mono<T> time(String stage, PaymentMethod method, String pgProvider, Mono<T> action) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return action.doFinally(signal -> record(stage, method, pgProvider, outcome(signal), startNanos));
+        });
+    }
+
+    /**
+     * PG API 호출 시간 기록 (PG 클라이언트의 doFinally에서 호출)
+     *
+     * @param pgProvider PG사
+     * @param api        API 이름 (confirm, cancel, netcancel)
+     * @param startNanos 요청 시작 시각
+     * @param signal     종료 신호
+     */
+    public void recordPgCall(String pgProvider, String api, long startNanos, SignalType signal) {
+        record(STAGE_PG_PREFIX + api, PaymentMethod.CARD, pgProvider, outcome(signal), startNanos);
+    }
+
+    private void record(String stage, PaymentMethod method, String pgProvider, String outcome, long startNanos) {
+        TimerKey key = new TimerKey(stage, method != null ? method.name() : NONE, pgTag(pgProvider), outcome);
+        timers.computeIfAbsent(key, this::register).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(TIMER_NAME)
+                .description("결제 승인 단계별 처리 시간")
+                .tag("stage", key.stage())
+                .tag("method", key.method())
+                .tag("pg", key.pg())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> OUTCOME_SUCCESS;
+            case ON_ERROR -> OUTCOME_FAILURE;
+            default -> OUTCOME_CANCEL;
+        };
+    }
+
+    /**
+     * 요청값인 PG사 이름을 정해진 태그 값으로 변환 (요청값을 그대로 태그로 쓰면 태그 종류가 무한히 늘어날 수 있음)
+     * PG 전략의 supports와 같은 기준으로 판단
+     */
+    private static String pgTag(String pgProvider) {
+        if (pgProvider == null || pgProvider.isBlank()) {
+            return NONE;
+        }
+        String upper = pgProvider.toUpperCase();
+        for (PgProvider provider : PgProvider.values()) {
+            if (upper.contains(provider.name())) {
+                return provider.name();
+            }
+        }
+        return "UNKNOWN";
+    }
+
+    private record TimerKey(String stage, String method, String pg, String outcome) {
+    }
+}
@@ -1,17 +1,14 @@
 package com.example.payment.model;
 
+import com.example.payment.util.Hashing;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
 
-import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.UnknownHostException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Hashtable;
@@ -59,30 +56,12 @@ public class InicisFactory {
         return clientIp;
     }
 
-    private static String hashSha256(String data) {
-        String result;
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            digest.reset();
-            digest.update(data.getBytes(StandardCharsets.UTF_8));
-            result = String.format("%064x", new BigInteger(1, digest.digest()));
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available");
-        }
-        return result;
+    static String hashSha256(String data) {
+        return Hashing.sha256Hex(data);
     }
 
-    private static String hashSha512(String shaBaseStr) {
-        String result;
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-512");
-            digest.reset();
-            digest.update(shaBaseStr.getBytes(StandardCharsets.UTF_8));
-            result = String.format("%0128x", new BigInteger(1, digest.digest()));
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("can not be happened");
-        }
-        return result;
+    static String hashSha512(String shaBaseStr) {
+        return Hashing.sha512Hex(shaBaseStr);
     }
 
     public static String inicisTimestamp() {
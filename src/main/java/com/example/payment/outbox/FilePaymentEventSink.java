@@ -0,0 +1,61 @@
+package com.example.payment.outbox;
+
+import com.example.payment.config.PaymentOutboxConfig;
+import com.example.payment.entity.PaymentEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 파일 발행 대상 - 이벤트를 JSON Lines 형식으로 파일에 추가 (후속 시스템이 파일을 수집)
+ */
+@Component
+@RequiredArgsConstructor
+public class FilePaymentEventSink implements PaymentEventSink {
+
+    public static final String TYPE = "file";
+
+    private final PaymentOutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public synchronized void publish(List<PaymentEvent> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (PaymentEvent event : events) {
+            ObjectNode line = objectMapper.createObjectNode();
+            line.put("eventId", event.getId());
+            line.put("eventType", event.getEventType().name());
+            line.put("orderId", event.getOrderId());
+            line.put("paymentId", event.getPaymentId());
+            line.putPOJO("createdAt", event.getCreatedAt());
+            line.putRawValue("payload", new RawValue(event.getPayload())); // 저장된 JSON을 다시 파싱하지 않고 그대로 기록
+            buffer.write(objectMapper.writeValueAsBytes(line));
+            buffer.write('\n');
+        }
+
+        Path path = Path.of(outboxConfig.getFilePath());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        // 배치 단위로 한 번에 기록하고 디스크 반영 후 반환 (반환 후 발행 완료 처리되므로)
+        try (FileOutputStream out = new FileOutputStream(path.toFile(), true)) {
+            buffer.writeTo(out);
+            out.getChannel().force(false);
+        }
+    }
+}
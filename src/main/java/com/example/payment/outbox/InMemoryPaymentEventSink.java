@@ -0,0 +1,48 @@
+package com.example.payment.outbox;
+
+import com.example.payment.entity.PaymentEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 메모리 발행 대상 - 최근 발행된 이벤트를 메모리에 보관 (로컬 개발/테스트용)
+ */
+@Component
+public class InMemoryPaymentEventSink implements PaymentEventSink {
+
+    public static final String TYPE = "memory";
+
+    private static final int MAX_EVENTS = 10000;
+
+    private final Deque<PaymentEvent> events = new ArrayDeque<>();
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public synchronized void publish(List<PaymentEvent> published) {
+        for (PaymentEvent event : published) {
+            if (events.size() >= MAX_EVENTS) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * 보관 중인 이벤트 (발행 순서)
+     */
+    public synchronized List<PaymentEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.payment.outbox;
+
+import com.example.payment.entity.PaymentEvent;
+
+import java.util.List;
+
+/**
+ * 결제 이벤트 발행 대상
+ * outbox 테이블에서 읽은 이벤트를 후속 시스템(주문, 정산 등)으로 전달
+ */
+public interface PaymentEventSink {
+
+    /**
+     * 발행 대상 이름 (payment.outbox.sink 설정값)
+     */
+    String getType();
+
+    /**
+     * 이벤트 발행 - 정상 반환 시 발행 완료로 처리되고, 예외 발생 시 다음 조회에서 같은 이벤트부터 다시 발행
+     * 같은 이벤트가 두 번 이상 전달될 수 있으므로 수신 측은 이벤트 ID로 중복 제거
+     * @param events 발행할 이벤트 (이벤트 ID 순서)
+     */
+    void publish(List<PaymentEvent> events) throws Exception;
+}
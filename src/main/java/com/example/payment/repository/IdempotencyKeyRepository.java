@@ -0,0 +1,48 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    
+    Optional<IdempotencyKey> findByIdempotencyKey(String idempotencyKey);
+    
+    /**
+     * 처리중인 멱등키를 완료 상태로 전환하고 결제 응답 저장
+     * @return 전환된 건수 (0이면 만료 정리 등으로 이미 삭제됨)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.status = com.example.payment.enums.IdempotencyStatus.COMPLETED, " +
+           "k.responseJson = :responseJson, k.completedAt = :completedAt " +
+           "WHERE k.idempotencyKey = :idempotencyKey AND k.status = com.example.payment.enums.IdempotencyStatus.IN_PROGRESS")
+    int complete(@Param("idempotencyKey") String idempotencyKey,
+                 @Param("responseJson") String responseJson,
+                 @Param("completedAt") LocalDateTime completedAt);
+    
+    /**
+     * 결제 실패 시 처리중인 멱등키 삭제 (같은 키로 재시도 가능하도록)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.idempotencyKey = :idempotencyKey " +
+           "AND k.status = com.example.payment.enums.IdempotencyStatus.IN_PROGRESS")
+    int deleteInProgress(@Param("idempotencyKey") String idempotencyKey);
+    
+    /**
+     * 만료된 멱등키 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
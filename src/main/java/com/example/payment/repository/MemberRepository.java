@@ -2,8 +2,12 @@ package com.example.payment.repository;
 
 import com.example.payment.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +20,32 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByMemberId(String memberId);
     
     boolean existsByEmail(String email);
+    
+    /**
+     * 적립금 잔액 조회
+     */
+    @Query("SELECT m.points FROM Member m WHERE m.memberId = :memberId")
+    Optional<Long> findPointsByMemberId(@Param("memberId") String memberId);
+    
+    /**
+     * 적립금 차감 - 잔액이 충분한 경우에만 한 번의 UPDATE로 차감 (동시 결제 시 잔액 초과 사용 방지)
+     * @return 차감된 건수 (0이면 회원이 없거나 잔액 부족)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE members SET points = points - :amount, updated_at = :updatedAt " +
+                   "WHERE member_id = :memberId AND points >= :amount", nativeQuery = true)
+    int deductPoints(@Param("memberId") String memberId,
+                     @Param("amount") Long amount,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * 적립금 환원 - 한 번의 UPDATE로 환원
+     * @return 환원된 건수 (0이면 회원이 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE members SET points = points + :amount, updated_at = :updatedAt " +
+                   "WHERE member_id = :memberId", nativeQuery = true)
+    int restorePoints(@Param("memberId") String memberId,
+                      @Param("amount") Long amount,
+                      @Param("updatedAt") LocalDateTime updatedAt);
 }
\ No newline at end of file
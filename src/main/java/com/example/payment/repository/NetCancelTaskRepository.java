@@ -0,0 +1,62 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.NetCancelTask;
+import com.example.payment.enums.NetCancelStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NetCancelTaskRepository extends JpaRepository<NetCancelTask, Long> {
+    
+    /**
+     * 처리 대상 망취소 작업 ID 조회 (재시도 시각이 된 대기 건 + 처리 기한이 지난 처리중 건, 오래된 순)
+     */
+    @Query("SELECT t.id FROM NetCancelTask t " +
+           "WHERE (t.status = com.example.payment.enums.NetCancelStatus.PENDING AND t.nextAttemptAt <= :now) " +
+           "OR (t.status = com.example.payment.enums.NetCancelStatus.PROCESSING AND t.lockedUntil < :now) " +
+           "ORDER BY t.nextAttemptAt, t.id")
+    List<Long> findDueTaskIds(@Param("now") LocalDateTime now, Limit limit);
+    
+    /**
+     * 처리 대상인 경우에만 망취소 작업을 처리중으로 전환 (여러 작업자/서버 간 중복 처리 방지)
+     * @return 전환된 건수 (0이면 다른 작업자가 이미 가져감)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NetCancelTask t SET t.status = com.example.payment.enums.NetCancelStatus.PROCESSING, " +
+           "t.attempts = t.attempts + 1, t.lockedUntil = :lockedUntil, t.updatedAt = :now " +
+           "WHERE t.id = :id AND ((t.status = com.example.payment.enums.NetCancelStatus.PENDING AND t.nextAttemptAt <= :now) " +
+           "OR (t.status = com.example.payment.enums.NetCancelStatus.PROCESSING AND t.lockedUntil < :now))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+    
+    /**
+     * 처리중인 망취소 작업의 처리 결과 반영
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NetCancelTask t SET t.status = :status, t.nextAttemptAt = :nextAttemptAt, t.lastError = :lastError, " +
+           "t.lockedUntil = null, t.updatedAt = :now " +
+           "WHERE t.id = :id AND t.status = com.example.payment.enums.NetCancelStatus.PROCESSING")
+    int finish(@Param("id") Long id,
+               @Param("status") NetCancelStatus status,
+               @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+               @Param("lastError") String lastError,
+               @Param("now") LocalDateTime now);
+    
+    long countByStatusIn(Collection<NetCancelStatus> statuses);
+    
+    /**
+     * 처리되지 않은 망취소 작업 중 가장 오래된 등록 시각
+     */
+    @Query("SELECT MIN(t.createdAt) FROM NetCancelTask t WHERE t.status IN :statuses")
+    LocalDateTime findOldestCreatedAt(@Param("statuses") Collection<NetCancelStatus> statuses);
+}
@@ -0,0 +1,39 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.PaymentEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PaymentEventRepository extends JpaRepository<PaymentEvent, Long> {
+    
+    /**
+     * 미발행 이벤트 조회 (이벤트 ID 순, 커밋 순서와 다를 수 있음)
+     */
+    List<PaymentEvent> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+    
+    /**
+     * 발행 완료 처리
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+    
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PaymentEvent e WHERE e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
@@ -1,27 +1,103 @@
 package com.example.payment.repository;
 
-import com.example.payment.entity.Member;
+import com.example.payment.dto.PaymentSummary;
 import com.example.payment.entity.Payment;
+import com.example.payment.enums.PaymentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     
-    List<Payment> findByOrderId(String orderId);
+    /**
+     * 결제내역 조회용 프로젝션 (회원 ID는 조인으로 함께 조회)
+     */
+    String SUMMARY_SELECT = "SELECT new com.example.payment.dto.PaymentSummary(p.id, p.orderId, p.paymentMethod, p.payType, p.pgProvider, " +
+           "p.paymentAmount, p.paymentAt, p.productName, m.memberId) " +
+           "FROM Payment p JOIN p.member m ";
+    
+    /**
+     * 주문 ID로 완료된 결제 조회 (처리중/실패 건 제외, 결제일시 내림차순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.orderId = :orderId " +
+           "AND (p.status IS NULL OR p.status = com.example.payment.enums.PaymentStatus.COMPLETED) " +
+           "ORDER BY p.paymentAt DESC, p.id DESC")
+    List<PaymentSummary> findSummariesByOrderId(@Param("orderId") String orderId);
     
     List<Payment> findByMemberId(Long id);
     
-    List<Payment> findByMemberOrderByPaymentAtDesc(Member member);
+    /**
+     * 회원의 완료된 결제 조회 (처리중/실패 건 제외, 결제일시 내림차순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE m.memberId = :memberId " +
+           "AND (p.status IS NULL OR p.status = com.example.payment.enums.PaymentStatus.COMPLETED) " +
+           "ORDER BY p.paymentAt DESC, p.id DESC")
+    List<PaymentSummary> findSummariesByMemberId(@Param("memberId") String memberId);
+    
+    /**
+     * 회원의 완료된 결제 첫 페이지 조회 (결제일시, ID 내림차순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE m.memberId = :memberId " +
+           "AND (p.status IS NULL OR p.status = com.example.payment.enums.PaymentStatus.COMPLETED) " +
+           "ORDER BY p.paymentAt DESC, p.id DESC")
+    List<PaymentSummary> findHistoryFirstPage(@Param("memberId") String memberId, Limit limit);
+    
+    /**
+     * 회원의 완료된 결제 다음 페이지 조회 - 커서(이전 페이지 마지막 결제의 결제일시, ID) 이후부터 조회
+     */
+    @Query(SUMMARY_SELECT + "WHERE m.memberId = :memberId " +
+           "AND (p.status IS NULL OR p.status = com.example.payment.enums.PaymentStatus.COMPLETED) " +
+           "AND (p.paymentAt < :paymentAt OR (p.paymentAt = :paymentAt AND p.id < :id)) " +
+           "ORDER BY p.paymentAt DESC, p.id DESC")
+    List<PaymentSummary> findHistoryPageAfter(@Param("memberId") String memberId,
+                                              @Param("paymentAt") LocalDateTime paymentAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+    
+    /**
+     * 회원의 특정 주문들의 완료된 결제 조회 (페이지 경계에 걸친 승인/취소 건 병합용)
+     */
+    @Query(SUMMARY_SELECT + "WHERE m.memberId = :memberId AND p.orderId IN :orderIds " +
+           "AND (p.status IS NULL OR p.status = com.example.payment.enums.PaymentStatus.COMPLETED) " +
+           "ORDER BY p.paymentAt DESC, p.id DESC")
+    List<PaymentSummary> findHistoryByMemberAndOrderIds(@Param("memberId") String memberId,
+                                                        @Param("orderIds") Collection<String> orderIds);
+    
+    List<Payment> findByOrderIdAndStatus(String orderId, PaymentStatus status);
+    
+    /**
+     * 일정 시간 이상 특정 상태로 남아있는 결제의 주문 ID 조회 (PENDING 복구용)
+     */
+    @Query("SELECT DISTINCT p.orderId FROM Payment p WHERE p.status = :status AND p.createdAt < :threshold")
+    List<String> findOrderIdsByStatusAndCreatedAtBefore(@Param("status") PaymentStatus status,
+                                                        @Param("threshold") LocalDateTime threshold);
+    
+    /**
+     * PENDING 상태인 경우에만 결제 상태 전환 (확정/실패/복구 간 경쟁 방지)
+     * 예약 단계에서 보관한 카드 인증결과는 더 이상 필요 없으므로 함께 비움
+     * @return 전환된 건수 (0이면 이미 다른 곳에서 처리됨)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :status, p.tid = :tid, p.authResultJson = NULL, p.updatedAt = :updatedAt " +
+           "WHERE p.id = :id AND p.status = com.example.payment.enums.PaymentStatus.PENDING")
+    int transitionFromPending(@Param("id") Long id,
+                              @Param("status") PaymentStatus status,
+                              @Param("tid") String tid,
+                              @Param("updatedAt") LocalDateTime updatedAt);
     
     /**
-     * 주문 ID로 TID가 있는 결제 조회 (취소용)
-     * payments 테이블의 모든 데이터는 성공한 결제이므로 status 체크 불필요
+     * 주문 ID로 TID가 있는 완료된 결제 조회 (취소용)
+     * 처리중(PENDING)/실패(FAILED) 결제는 제외 (status가 null인 건은 상태 도입 이전의 완료 건)
      */
-    @Query("SELECT p FROM Payment p WHERE p.orderId = :orderId AND p.tid IS NOT NULL")
+    @Query("SELECT p FROM Payment p WHERE p.orderId = :orderId AND p.tid IS NOT NULL " +
+           "AND (p.status IS NULL OR p.status = com.example.payment.enums.PaymentStatus.COMPLETED)")
     Payment findTidByOrderId(@Param("orderId") String orderId);
 }
\ No newline at end of file
@@ -3,8 +3,12 @@ package com.example.payment.repository;
 import com.example.payment.entity.PointHistory;
 import com.example.payment.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +29,23 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
     
     // 주문번호로 모든 포인트 히스토리 검색
     List<PointHistory> findByOrderIdOrderByCreatedAtDesc(String orderId);
+    
+    /**
+     * 포인트 히스토리 저장 - 회원 엔티티를 조회하지 않고 회원 ID로 바로 저장
+     * @return 저장된 건수 (0이면 회원이 없음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO point_histories (member_id, point_type, point_amount, order_id, created_at) " +
+                   "SELECT m.id, :pointType, :pointAmount, :orderId, :createdAt FROM members m WHERE m.member_id = :memberId",
+           nativeQuery = true)
+    int insertHistory(@Param("memberId") String memberId,
+                      @Param("pointType") String pointType,
+                      @Param("pointAmount") Long pointAmount,
+                      @Param("orderId") String orderId,
+                      @Param("createdAt") LocalDateTime createdAt);
+    
+    // 편의를 위한 enum 버전
+    default int insertHistory(String memberId, PointHistory.PointType pointType, Long pointAmount, String orderId) {
+        return insertHistory(memberId, pointType.name(), pointAmount, orderId, LocalDateTime.now());
+    }
 }
\ No newline at end of file
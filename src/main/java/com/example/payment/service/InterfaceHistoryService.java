@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,66 +22,58 @@ public class InterfaceHistoryService {
     private static final Logger logger = LoggerFactory.getLogger(InterfaceHistoryService.class);
     
     private final InterfaceHistoryRepository interfaceHistoryRepository;
+    private final InterfaceHistoryWriter interfaceHistoryWriter;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     /**
-     * API 요청 시작시 이력 생성
+     * API 요청 시작시 이력 생성 (DB에 저장하지 않음)
+     * 응답 완료 후 {@link #completeHistory}를 호출하면 요청/응답이 하나의 행으로 저장됨
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public InterfaceHistory createRequestHistory(String interfaceType, String apiName, String requestUrl, Object requestData, String orderId) {
-        try {
-            String requestJson = convertToJson(requestData);
-            InterfaceHistory history = InterfaceHistory.createRequest(interfaceType, apiName, requestUrl, requestJson, orderId);
-            InterfaceHistory saved = interfaceHistoryRepository.save(history);
-            
-            logger.info("인터페이스 요청 이력 생성: ID={}, Type={}, API={}, OrderId={}", 
-                saved.getId(), interfaceType, apiName, orderId);
-            
-            return saved;
-        } catch (Exception e) {
-            logger.error("인터페이스 요청 이력 생성 실패: interfaceType={}, apiName={}", interfaceType, apiName, e);
-            throw new RuntimeException("인터페이스 요청 이력 생성 실패", e);
-        }
+    public InterfaceHistory startHistory(String interfaceType, String apiName, String requestUrl, Object requestData, String orderId) {
+        String requestJson = convertToJson(requestData);
+        return InterfaceHistory.createRequest(interfaceType, apiName, requestUrl, requestJson, orderId);
     }
-    
+
     /**
-     * API 응답 완료시 이력 업데이트
+     * API 응답 완료시 이력 기록 - 저장은 InterfaceHistoryWriter에서 비동기 배치로 처리
+     * 이미 응답이 기록된 이력은 다시 기록하지 않음
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public void updateResponseHistory(Long historyId, Object responseData, String responseCode, String errorMessage) {
+    public void completeHistory(InterfaceHistory history, Object responseData, String responseCode, String errorMessage) {
         try {
-            InterfaceHistory history = interfaceHistoryRepository.findById(historyId)
-                .orElseThrow(() -> new IllegalArgumentException("인터페이스 이력을 찾을 수 없습니다: " + historyId));
-
             String responseJson = convertToJson(responseData);
-            history.completeResponse(responseJson, responseCode, errorMessage);
-
-            interfaceHistoryRepository.save(history);
+            if (!history.completeResponse(responseJson, responseCode, errorMessage)) {
+                return; // 다른 경로에서 먼저 응답을 기록한 이력
+            }
+            interfaceHistoryWriter.write(history);
 
-            logger.info("인터페이스 응답 이력 업데이트: ID={}, ResponseCode={}, ProcessingTime={}ms",
-                historyId, responseCode, history.getProcessingTimeMs());
+            logger.info("인터페이스 응답 이력 기록: Type={}, API={}, ResponseCode={}, ProcessingTime={}ms",
+                history.getInterfaceType(), history.getApiName(), responseCode, history.getProcessingTimeMs());
 
         } catch (Exception e) {
-            logger.error("인터페이스 응답 이력 업데이트 실패: historyId={}", historyId, e);
-            // 이력 업데이트 실패는 원본 처리에 영향을 주지 않도록 예외를 던지지 않음
+            logger.error("인터페이스 응답 이력 기록 실패: interfaceType={}, apiName={}", history.getInterfaceType(), history.getApiName(), e);
+            // 이력 기록 실패는 원본 처리에 영향을 주지 않도록 예외를 던지지 않음
         }
     }
-    
+
     /**
-     * API 호출 성공시 이력 업데이트 (간편 메서드)
+     * API 호출 성공시 이력 기록 (간편 메서드)
      */
-    public void updateSuccessHistory(Long historyId, Object responseData) {
-        updateResponseHistory(historyId, responseData, "0000", null);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void completeSuccessHistory(InterfaceHistory history, Object responseData) {
+        completeHistory(history, responseData, "0000", null);
     }
 
     /**
-     * API 호출 실패시 이력 업데이트 (간편 메서드)
+     * API 호출 실패시 이력 기록 (간편 메서드)
      */
-    public void updateFailureHistory(Long historyId, Object responseData, String responseCode, String errorMessage) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void completeFailureHistory(InterfaceHistory history, Object responseData, String responseCode, String errorMessage) {
         if (responseCode == null || "0000".equals(responseCode)) {
             responseCode = "9999"; // 기본 실패 코드
         }
-        updateResponseHistory(historyId, responseData, responseCode, errorMessage);
+        completeHistory(history, responseData, responseCode, errorMessage);
     }
     
     /**
@@ -118,7 +111,7 @@ public class InterfaceHistoryService {
     /**
      * 객체를 JSON 문자열로 변환
      */
-    private String convertToJson(Object data) {
+    String convertToJson(Object data) {
         if (data == null) {
             return null;
         }
@@ -126,6 +119,10 @@ public class InterfaceHistoryService {
         if (data instanceof String) {
             return (String) data;
         }
+
+        if (data instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8); // PG 응답 원문
+        }
         
         try {
             return objectMapper.writeValueAsString(data);
@@ -0,0 +1,272 @@
+package com.example.payment.service;
+
+import com.example.payment.config.InterfaceHistoryWriterConfig;
+import com.example.payment.entity.InterfaceHistory;
+import com.example.payment.metrics.PaymentMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인터페이스 이력 비동기 배치 저장
+ * 응답까지 끝난 이력을 큐에 모아 두었다가 저장 스레드에서 JDBC 배치 INSERT로 한 번에 저장
+ * (요청 시작 INSERT → 조회 → 응답 UPDATE 3번의 DB 왕복이 PG 호출 경로에서 사라짐)
+ */
+@Component
+public class InterfaceHistoryWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterfaceHistoryWriter.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO interface_histories (interface_type, api_name, request_url, request_json, response_json, response_code, " +
+            "request_time, response_time, processing_time_ms, order_id, error_message, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final InterfaceHistoryWriterConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final Scheduler blockingScheduler;
+    private final PaymentMetrics paymentMetrics;
+
+    private final List<BlockingQueue<InterfaceHistory>> queues = new ArrayList<>();
+    private final List<Thread> writerThreads = new ArrayList<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile boolean running = false;
+
+    public InterfaceHistoryWriter(InterfaceHistoryWriterConfig config, JdbcTemplate jdbcTemplate, Scheduler paymentBlockingScheduler,
+                                  PaymentMetrics paymentMetrics) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockingScheduler = paymentBlockingScheduler;
+        this.paymentMetrics = paymentMetrics;
+    }
+
+    /**
+     * 응답까지 끝난 이력 저장 요청
+     * 비동기 모드에서는 큐에 넣고 바로 반환하며, 큐가 가득 찬 경우 설정된 정책에 따라 처리
+     */
+    public void write(InterfaceHistory history) {
+        if (!running) {
+            // 동기 모드이거나 종료 중인 경우 직접 저장
+            runBlocking(() -> flush(List.of(history)));
+            return;
+        }
+
+        BlockingQueue<InterfaceHistory> queue = queueFor(history);
+        if (queue.offer(history)) {
+            // 확인 직후 종료가 시작되어 종료 시 마지막 저장 이후에 큐에 들어갔으면 직접 저장
+            if (!running && queue.remove(history)) {
+                runBlocking(() -> flush(List.of(history)));
+            }
+            return;
+        }
+
+        switch (config.getOverflowPolicy()) {
+            case BLOCK -> runBlocking(() -> offerWithTimeout(queue, history));
+            case CALLER_RUNS -> runBlocking(() -> flush(List.of(history)));
+            case DROP -> drop(history);
+        }
+    }
+
+    /**
+     * 큐가 가득 차 버려진 이력 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 저장 대기 중인 이력 수
+     */
+    public int getQueuedCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    @Override
+    public void start() {
+        if (!config.isAsync()) {
+            logger.info("인터페이스 이력 동기 저장 모드");
+            return;
+        }
+
+        int threadCount = Math.max(1, config.getWriterThreads());
+        int capacityPerThread = Math.max(1, config.getQueueCapacity() / threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            BlockingQueue<InterfaceHistory> queue = new ArrayBlockingQueue<>(capacityPerThread);
+            queues.add(queue);
+            writerThreads.add(Thread.ofPlatform()
+                    .name("interface-history-writer-" + i)
+                    .daemon(true)
+                    .unstarted(() -> drainLoop(queue)));
+        }
+
+        running = true;
+        writerThreads.forEach(Thread::start);
+
+        logger.info("인터페이스 이력 비동기 저장 시작: 저장 스레드={}개, 큐 크기={}, 배치 크기={}, 큐 초과 시={}",
+                   threadCount, config.getQueueCapacity(), config.getBatchSize(), config.getOverflowPolicy());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        if (!config.isFlushOnShutdown()) {
+            int discarded = getQueuedCount();
+            queues.forEach(BlockingQueue::clear);
+            logger.warn("종료 시 저장하지 않은 인터페이스 이력: {}건", discarded);
+        }
+
+        // 저장 스레드는 큐를 모두 비운 뒤 종료
+        long deadline = System.nanoTime() + config.getShutdownTimeout().toNanos();
+        for (Thread writerThread : writerThreads) {
+            try {
+                writerThread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // 저장 스레드 종료 직전에 큐에 들어간 이력(또는 대기 시간 내에 저장하지 못한 이력)은 직접 저장
+        int remaining = config.isFlushOnShutdown() ? flushRemaining() : 0;
+        if (remaining > 0) {
+            logger.warn("저장 스레드 종료 후 남은 인터페이스 이력 직접 저장: {}건", remaining);
+        }
+        logger.info("인터페이스 이력 비동기 저장 종료 (버려진 이력 누적 {}건)", droppedCount.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 요청 처리를 마친 뒤에 종료되도록 웹 서버보다 낮은 단계로 설정
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop(BlockingQueue<InterfaceHistory> queue) {
+        List<InterfaceHistory> batch = new ArrayList<>(config.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                InterfaceHistory first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 대기 중인 이력을 배치 크기만큼 모아서 한 번에 저장
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 큐에 남은 이력을 호출한 스레드에서 배치 크기씩 저장
+     *
+     * @return 저장한 이력 수
+     */
+    private int flushRemaining() {
+        List<InterfaceHistory> batch = new ArrayList<>(config.getBatchSize());
+        int flushed = 0;
+        for (BlockingQueue<InterfaceHistory> queue : queues) {
+            while (queue.drainTo(batch, config.getBatchSize()) > 0) {
+                flush(batch);
+                flushed += batch.size();
+                batch.clear();
+            }
+        }
+        return flushed;
+    }
+
+    private void flush(List<InterfaceHistory> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        long startTime = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, history) -> {
+                ps.setString(1, history.getInterfaceType());
+                ps.setString(2, history.getApiName());
+                ps.setString(3, history.getRequestUrl());
+                ps.setString(4, history.getRequestJson());
+                ps.setString(5, history.getResponseJson());
+                ps.setString(6, history.getResponseCode());
+                ps.setObject(7, history.getRequestTime());
+                ps.setObject(8, history.getResponseTime());
+                ps.setObject(9, history.getProcessingTimeMs());
+                ps.setString(10, history.getOrderId());
+                ps.setString(11, history.getErrorMessage());
+                ps.setObject(12, now);
+                ps.setObject(13, now);
+            });
+            paymentMetrics.record(PaymentMetrics.STAGE_HISTORY_WRITE, null, null, true, startTime);
+            logger.debug("인터페이스 이력 저장: {}건", batch.size());
+        } catch (Exception e) {
+            paymentMetrics.record(PaymentMetrics.STAGE_HISTORY_WRITE, null, null, false, startTime);
+            // 이력 저장 실패는 결제 처리에 영향을 주지 않도록 로그만 남김
+            logger.error("인터페이스 이력 저장 실패: {}건, 오류={}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    private BlockingQueue<InterfaceHistory> queueFor(InterfaceHistory history) {
+        if (queues.size() == 1) {
+            return queues.get(0);
+        }
+        return queues.get(Math.floorMod(Objects.hashCode(history.getOrderId()), queues.size()));
+    }
+
+    private void offerWithTimeout(BlockingQueue<InterfaceHistory> queue, InterfaceHistory history) {
+        try {
+            if (!queue.offer(history, config.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                drop(history);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(history);
+        }
+    }
+
+    private void drop(InterfaceHistory history) {
+        droppedCount.incrementAndGet();
+        logger.warn("인터페이스 이력 저장 큐가 가득 차 이력을 버림: Type={}, API={}, OrderId={}",
+                   history.getInterfaceType(), history.getApiName(), history.getOrderId());
+    }
+
+    /**
+     * 블로킹 작업 실행 - 논블로킹 스레드(Netty 이벤트 루프)에서 호출된 경우 블로킹 작업용 스케줄러로 넘김
+     */
+    private void runBlocking(Runnable task) {
+        if (Schedulers.isInNonBlockingThread()) {
+            blockingScheduler.schedule(task);
+        } else {
+            task.run();
+        }
+    }
+}
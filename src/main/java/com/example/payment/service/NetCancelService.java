@@ -0,0 +1,347 @@
+package com.example.payment.service;
+
+import com.example.payment.config.NetCancelConfig;
+import com.example.payment.dto.PaymentConfirmRequest;
+import com.example.payment.dto.PaymentProcessResult;
+import com.example.payment.entity.NetCancelTask;
+import com.example.payment.entity.Payment;
+import com.example.payment.enums.NetCancelStatus;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.factory.PaymentStrategyFactory;
+import com.example.payment.repository.NetCancelTaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 망취소 작업 처리
+ * 결제 실패 시 성공한 PG 결제의 망취소를 net_cancel_outbox 테이블에 등록하고 별도 작업 스레드에서 처리
+ * - 결제 승인 요청은 망취소 완료를 기다리지 않고 바로 실패 응답
+ * - 망취소 실패 시 지수 백오프로 재시도하며, 최대 시도 횟수를 넘으면 FAILED로 전환 (수동 처리 필요)
+ * - 서로 다른 주문의 망취소는 작업 스레드 수만큼 동시에 처리
+ */
+@Service
+public class NetCancelService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetCancelService.class);
+
+    private static final List<NetCancelStatus> UNFINISHED_STATUSES = List.of(NetCancelStatus.PENDING, NetCancelStatus.PROCESSING);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final NetCancelTaskRepository netCancelTaskRepository;
+    private final PaymentStrategyFactory paymentStrategyFactory;
+    private final NetCancelConfig netCancelConfig;
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService workerExecutor;
+    private final AtomicInteger inFlightTasks = new AtomicInteger();
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong oldestTaskAgeSeconds = new AtomicLong();
+    private final Counter completedCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public NetCancelService(NetCancelTaskRepository netCancelTaskRepository, PaymentStrategyFactory paymentStrategyFactory,
+                            NetCancelConfig netCancelConfig, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.netCancelTaskRepository = netCancelTaskRepository;
+        this.paymentStrategyFactory = paymentStrategyFactory;
+        this.netCancelConfig = netCancelConfig;
+        this.objectMapper = objectMapper;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workerExecutor = Executors.newFixedThreadPool(netCancelConfig.getWorkerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "net-cancel-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("payment.net_cancel.queue.depth", queueDepth, AtomicLong::get)
+                .description("처리되지 않은 망취소 작업 수 (PENDING, PROCESSING)")
+                .register(meterRegistry);
+        Gauge.builder("payment.net_cancel.queue.oldest.age", oldestTaskAgeSeconds, AtomicLong::get)
+                .description("처리되지 않은 망취소 작업 중 가장 오래된 작업의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.completedCounter = Counter.builder("payment.net_cancel.attempts").tag("result", "completed").register(meterRegistry);
+        this.retryCounter = Counter.builder("payment.net_cancel.attempts").tag("result", "retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("payment.net_cancel.attempts").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * 망취소 작업 생성 (저장 전)
+     *
+     * @param processResult 성공한 결제 처리 결과
+     * @param paymentMethod 결제수단
+     * @param itemRequest   해당 결제 항목의 결제 요청
+     * @return 망취소 작업
+     */
+    public NetCancelTask createTask(PaymentProcessResult processResult, PaymentMethod paymentMethod, PaymentConfirmRequest itemRequest) {
+        return NetCancelTask.create(
+                itemRequest.getOrderId(),
+                paymentMethod,
+                itemRequest.getPgProvider(),
+                processResult.getTid(),
+                processResult.getAmount(),
+                writeAuthResult(itemRequest.getAuthResultMap())
+        );
+    }
+
+    /**
+     * 승인 결과를 알 수 없는 PENDING PG 결제의 망취소 작업 생성 (저장 전)
+     * 예약 단계에서 보관한 카드 인증결과로 망취소 (토스는 인증결과의 paymentKey로 취소)
+     *
+     * @param payment PENDING 상태로 남아 있던 PG 결제
+     * @return 망취소 작업 (망취소에 필요한 정보가 없으면 null)
+     */
+    public NetCancelTask createTask(Payment payment) {
+        if (payment.getTid() == null && payment.getAuthResultJson() == null) {
+            return null;
+        }
+        return NetCancelTask.create(
+                payment.getOrderId(),
+                payment.getPaymentMethod(),
+                payment.getPgProvider(),
+                payment.getTid(),
+                payment.getPaymentAmount(),
+                payment.getAuthResultJson()
+        );
+    }
+
+    /**
+     * 망취소 작업 저장만 하고 바로 처리하지 않음 (호출한 쪽 트랜잭션과 함께 커밋, 다음 폴링 주기에 처리)
+     *
+     * @param tasks 망취소 작업 목록
+     */
+    public void register(List<NetCancelTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<Long> taskIds = netCancelTaskRepository.saveAll(tasks).stream()
+                .map(NetCancelTask::getId)
+                .toList();
+        logger.warn("망취소 작업 등록 (다음 주기에 처리): orderId={}, 작업 ID={}", tasks.get(0).getOrderId(), taskIds);
+    }
+
+    /**
+     * 망취소 작업 등록 후 바로 처리 시작 (처리 완료를 기다리지 않음)
+     *
+     * @param tasks 망취소 작업 목록
+     */
+    public void enqueue(List<NetCancelTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<Long> taskIds = netCancelTaskRepository.saveAll(tasks).stream()
+                .map(NetCancelTask::getId)
+                .toList();
+        logger.warn("망취소 작업 등록: orderId={}, 작업 ID={}", tasks.get(0).getOrderId(), taskIds);
+
+        dispatch(taskIds);
+    }
+
+    /**
+     * 망취소 작업을 저장하지 않고 호출한 스레드에서 바로 1회 실행 (작업 등록 실패 시 사용)
+     *
+     * @param tasks 망취소 작업 목록
+     */
+    public void executeNow(List<NetCancelTask> tasks) {
+        for (NetCancelTask task : tasks) {
+            try {
+                execute(task);
+                logger.warn("망취소 완료: orderId={}, 결제수단={}, 금액={}원", task.getOrderId(), task.getPaymentMethod(), task.getAmount());
+            } catch (Exception e) {
+                logger.error("망취소 실패 - 수동 처리 필요: orderId={}, 결제수단={}, TID={}, 금액={}원, 오류={}",
+                           task.getOrderId(), task.getPaymentMethod(), task.getTid(), task.getAmount(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 망취소 작업을 가져와 처리
+     * 작업 스레드가 처리할 수 있는 만큼만 가져오고, 처리중 기한이 지난 작업(비정상 종료)도 다시 처리
+     */
+    @Scheduled(initialDelayString = "${payment.net-cancel.poll-interval-ms:1000}",
+               fixedDelayString = "${payment.net-cancel.poll-interval-ms:1000}")
+    public void pollDueTasks() {
+        refreshQueueMetrics();
+
+        int capacity = netCancelConfig.getWorkerThreads() * 2 - inFlightTasks.get();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Long> taskIds = netCancelTaskRepository.findDueTaskIds(LocalDateTime.now(),
+                Limit.of(Math.min(netCancelConfig.getBatchSize(), capacity)));
+        dispatch(taskIds);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 처리 중이던 작업은 처리중 기한 이후 다시 처리됨
+        workerExecutor.shutdown();
+        if (!workerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            workerExecutor.shutdownNow();
+        }
+    }
+
+    private void dispatch(List<Long> taskIds) {
+        for (Long taskId : taskIds) {
+            inFlightTasks.incrementAndGet();
+            try {
+                workerExecutor.execute(() -> process(taskId));
+            } catch (Exception e) {
+                // 종료 중인 경우 - 다음 기동 후 다시 처리됨
+                inFlightTasks.decrementAndGet();
+                logger.warn("망취소 작업 실행 요청 실패 (다음 주기에 재처리): 작업 ID={}, 오류={}", taskId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 망취소 작업 1건 처리 - 작업을 선점한 뒤 망취소를 호출하고 결과에 따라 완료/재시도/실패 처리
+     */
+    private void process(Long taskId) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (netCancelTaskRepository.claim(taskId, now, now.plus(netCancelConfig.getProcessingTimeout())) == 0) {
+                return; // 다른 작업자가 이미 처리 중이거나 재시도 시각 전
+            }
+
+            NetCancelTask task = netCancelTaskRepository.findById(taskId).orElse(null);
+            if (task == null) {
+                return;
+            }
+
+            try {
+                execute(task);
+                netCancelTaskRepository.finish(taskId, NetCancelStatus.COMPLETED, task.getNextAttemptAt(), null, LocalDateTime.now());
+                completedCounter.increment();
+                logger.warn("망취소 완료: orderId={}, 결제수단={}, 금액={}원, 시도={}회",
+                           task.getOrderId(), task.getPaymentMethod(), task.getAmount(), task.getAttempts());
+            } catch (Exception e) {
+                handleFailure(task, e);
+            }
+        } catch (Exception e) {
+            logger.error("망취소 작업 처리 중 오류 발생 (처리중 기한 이후 재처리): 작업 ID={}, 오류={}", taskId, e.getMessage());
+        } finally {
+            inFlightTasks.decrementAndGet();
+        }
+    }
+
+    private void handleFailure(NetCancelTask task, Exception e) {
+        String error = truncate(e.getMessage());
+        LocalDateTime now = LocalDateTime.now();
+
+        if (task.getAttempts() >= netCancelConfig.getMaxAttempts()) {
+            netCancelTaskRepository.finish(task.getId(), NetCancelStatus.FAILED, task.getNextAttemptAt(), error, now);
+            failedCounter.increment();
+            logger.error("망취소 최종 실패 - 수동 처리 필요: orderId={}, 결제수단={}, PG사={}, TID={}, 금액={}원, 시도={}회, 오류={}",
+                       task.getOrderId(), task.getPaymentMethod(), task.getPgProvider(), task.getTid(),
+                       task.getAmount(), task.getAttempts(), error);
+            return;
+        }
+
+        Duration backoff = backoff(task.getAttempts());
+        netCancelTaskRepository.finish(task.getId(), NetCancelStatus.PENDING, now.plus(backoff), error, now);
+        retryCounter.increment();
+        logger.warn("망취소 실패 - {}ms 후 재시도: orderId={}, 결제수단={}, 시도={}회, 오류={}",
+                   backoff.toMillis(), task.getOrderId(), task.getPaymentMethod(), task.getAttempts(), error);
+    }
+
+    /**
+     * 저장된 작업 정보로 결제 요청을 다시 구성하여 결제수단별 망취소 호출
+     */
+    private void execute(NetCancelTask task) {
+        PaymentConfirmRequest request = new PaymentConfirmRequest();
+        request.setOrderId(task.getOrderId());
+        request.setAmount(task.getAmount());
+        request.setTotalAmount(task.getAmount());
+        request.setPgProvider(task.getPgProvider());
+        request.setAuthResultMap(readAuthResult(task.getAuthResultJson()));
+
+        PaymentProcessResult processResult = new PaymentProcessResult(
+                task.getPaymentMethod().name(), task.getOrderId(), task.getAmount(), task.getTid(), null);
+
+        paymentStrategyFactory.getStrategy(task.getPaymentMethod()).performNetCancellation(processResult, request);
+    }
+
+    /**
+     * 재시도 대기 시간 - 첫 대기 시간에서 시도마다 2배씩 증가 (상한 적용, 동시 재시도 분산을 위해 최대 20% 지연 추가)
+     */
+    private Duration backoff(int attempts) {
+        long initialMillis = netCancelConfig.getInitialBackoff().toMillis();
+        long maxMillis = netCancelConfig.getMaxBackoff().toMillis();
+        long backoffMillis = initialMillis << Math.min(attempts - 1, 30);
+        if (backoffMillis <= 0 || backoffMillis > maxMillis) {
+            backoffMillis = maxMillis;
+        }
+        long jitterMillis = ThreadLocalRandom.current().nextLong(backoffMillis / 5 + 1);
+        return Duration.ofMillis(backoffMillis + jitterMillis);
+    }
+
+    private void refreshQueueMetrics() {
+        try {
+            queueDepth.set(netCancelTaskRepository.countByStatusIn(UNFINISHED_STATUSES));
+            LocalDateTime oldest = netCancelTaskRepository.findOldestCreatedAt(UNFINISHED_STATUSES);
+            oldestTaskAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toSeconds());
+        } catch (Exception e) {
+            logger.warn("망취소 대기열 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카드 인증결과를 저장용 JSON으로 변환 (망취소 작업, PENDING 결제 기록에 저장)
+     */
+    public String writeAuthResult(Map<String, String> authResultMap) {
+        if (authResultMap == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(authResultMap);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("인증결과를 저장할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, String> readAuthResult(String authResultJson) {
+        if (authResultJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(authResultJson, new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 인증결과를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
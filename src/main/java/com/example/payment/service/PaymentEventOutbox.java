@@ -0,0 +1,78 @@
+package com.example.payment.service;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.entity.PaymentEvent;
+import com.example.payment.enums.PaymentEventType;
+import com.example.payment.repository.PaymentEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 이벤트 outbox 저장
+ * 결제 상태 변경과 같은 트랜잭션에서 payment_event_outbox에 이벤트를 저장하여,
+ * 결제가 커밋되면 이벤트도 반드시 남고 결제가 롤백되면 이벤트도 남지 않도록 함 (발행은 PaymentEventRelay가 처리)
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentEventOutbox {
+
+    private final PaymentEventRepository paymentEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 결제 승인 이벤트 저장 (결제 확정 트랜잭션 안에서 호출)
+     *
+     * @param payments 확정된 결제
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendApproved(List<Payment> payments) {
+        List<PaymentEvent> events = payments.stream()
+                .map(payment -> PaymentEvent.create(PaymentEventType.PAYMENT_APPROVED, payment.getOrderId(),
+                        payment.getId(), writePayload(payment, null)))
+                .toList();
+        paymentEventRepository.saveAll(events);
+    }
+
+    /**
+     * 결제 취소 이벤트 저장 (취소 내역 저장 트랜잭션 안에서 호출)
+     *
+     * @param cancelRecord      저장된 취소 내역
+     * @param originalPaymentId 취소한 원 결제 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendCanceled(Payment cancelRecord, Long originalPaymentId) {
+        paymentEventRepository.save(PaymentEvent.create(PaymentEventType.PAYMENT_CANCELED, cancelRecord.getOrderId(),
+                cancelRecord.getId(), writePayload(cancelRecord, originalPaymentId)));
+    }
+
+    private String writePayload(Payment payment, Long originalPaymentId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("paymentId", payment.getId());
+        payload.put("orderId", payment.getOrderId());
+        payload.put("memberId", payment.getMember().getMemberId());
+        payload.put("paymentMethod", payment.getPaymentMethod());
+        payload.put("payType", payment.getPayType());
+        payload.put("pgProvider", payment.getPgProvider());
+        payload.put("amount", payment.getPaymentAmount());
+        payload.put("tid", payment.getTid());
+        payload.put("productName", payment.getProductName());
+        payload.put("paymentAt", payment.getPaymentAt());
+        if (originalPaymentId != null) {
+            payload.put("originalPaymentId", originalPaymentId);
+        }
+
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 이벤트를 저장할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+}
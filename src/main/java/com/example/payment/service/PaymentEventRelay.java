@@ -0,0 +1,119 @@
+package com.example.payment.service;
+
+import com.example.payment.config.PaymentOutboxConfig;
+import com.example.payment.entity.PaymentEvent;
+import com.example.payment.outbox.PaymentEventSink;
+import com.example.payment.repository.PaymentEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 이벤트 발행
+ * outbox 테이블의 미발행 이벤트를 배치 단위로 읽어 설정된 발행 대상(payment.outbox.sink)으로 전달
+ * - 결제 승인/취소 응답은 이벤트 발행(후속 시스템 지연)을 기다리지 않음
+ * - 발행 대상이 실패하면 다음 조회에서 같은 이벤트부터 다시 발행 (최소 1회 전달)
+ * - 이벤트 ID는 커밋 순서가 아니므로 발행 순서를 보장하지 않음 (늦게 커밋된 이벤트는 다음 조회에서 발행)
+ */
+@Service
+public class PaymentEventRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentEventRelay.class);
+
+    private final PaymentEventRepository paymentEventRepository;
+    private final PaymentOutboxConfig outboxConfig;
+    private final List<PaymentEventSink> sinks;
+    private final Counter publishedCounter;
+
+    private PaymentEventSink sink;
+
+    public PaymentEventRelay(PaymentEventRepository paymentEventRepository, PaymentOutboxConfig outboxConfig,
+                             List<PaymentEventSink> sinks, MeterRegistry meterRegistry) {
+        this.paymentEventRepository = paymentEventRepository;
+        this.outboxConfig = outboxConfig;
+        this.sinks = sinks;
+        this.publishedCounter = Counter.builder("payment.outbox.published")
+                .description("발행된 결제 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void selectSink() {
+        sink = sinks.stream()
+                .filter(candidate -> candidate.getType().equalsIgnoreCase(outboxConfig.getSink()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 결제 이벤트 발행 대상입니다: " + outboxConfig.getSink()));
+        logger.info("결제 이벤트 발행 대상: {}", sink.getType());
+    }
+
+    /**
+     * 미발행 이벤트 발행 - 배치가 가득 차면 쌓인 이벤트를 연속으로 발행 (조회 1회당 최대 max-batches-per-poll 배치)
+     */
+    @Scheduled(initialDelayString = "${payment.outbox.poll-interval-ms:500}",
+               fixedDelayString = "${payment.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (!outboxConfig.isRelayEnabled()) {
+            return;
+        }
+
+        for (int batch = 0; batch < outboxConfig.getMaxBatchesPerPoll(); batch++) {
+            int published = publishNextBatch();
+            if (published < outboxConfig.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 미발행 이벤트 1배치 발행
+     * @return 발행한 이벤트 수 (실패 시 0)
+     */
+    private int publishNextBatch() {
+        List<PaymentEvent> events;
+        try {
+            events = paymentEventRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(outboxConfig.getBatchSize()));
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(events);
+        } catch (Exception e) {
+            logger.error("결제 이벤트 발행 실패 (다음 주기에 재시도): 발행 대상={}, 오류={}", sink.getType(), e.getMessage());
+            return 0;
+        }
+
+        List<Long> eventIds = events.stream().map(PaymentEvent::getId).toList();
+        try {
+            paymentEventRepository.markPublished(eventIds, LocalDateTime.now());
+        } catch (Exception e) {
+            // 발행은 되었으므로 다음 주기에 같은 이벤트가 중복 발행될 수 있음 (수신 측에서 이벤트 ID로 중복 제거)
+            logger.error("결제 이벤트 발행 완료 처리 실패 (중복 발행 가능): 이벤트 ID={}~{}, 오류={}",
+                       eventIds.get(0), eventIds.get(eventIds.size() - 1), e.getMessage());
+            return 0;
+        }
+
+        publishedCounter.increment(events.size());
+        logger.debug("결제 이벤트 발행: {}건, 이벤트 ID={}~{}", events.size(), eventIds.get(0), eventIds.get(eventIds.size() - 1));
+        return events.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 정리
+     */
+    @Scheduled(initialDelayString = "${payment.outbox.purge-interval-ms:3600000}",
+               fixedDelayString = "${payment.outbox.purge-interval-ms:3600000}")
+    public void purgePublishedEvents() {
+        int deleted = paymentEventRepository.deletePublishedBefore(LocalDateTime.now().minus(outboxConfig.getRetention()));
+        if (deleted > 0) {
+            logger.info("발행 완료된 결제 이벤트 정리: {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.payment.service;
+
+import com.example.payment.dto.PaymentDto;
+import com.example.payment.dto.PaymentSummary;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제내역 병합
+ * 동일 주문번호 + 결제수단의 승인/취소 건을 하나의 결제내역으로 병합
+ * - 가장 최근 승인건을 기준으로 하고, 취소건이 있으면 가장 최근 취소일시를 취소 정보로 설정
+ * - 승인건 없이 취소건만 있는 경우(데이터 이상) 가장 최근 취소건을 그대로 사용
+ * - 결과는 기준 결제건의 결제일시 내림차순
+ */
+@Component
+public class PaymentHistoryMerger {
+
+    /**
+     * 결제일시 내림차순으로 정렬된 결제 목록을 한 번만 순회하며 병합된 결제내역 생성
+     * 입력이 내림차순이므로 각 그룹에서 처음 만나는 승인건/취소건이 가장 최근 건이고,
+     * 기준 결제건을 만난 위치에 결제내역을 배치하면 별도 정렬 없이 결제일시 내림차순이 유지됨
+     *
+     * @param payments 결제일시 내림차순으로 정렬된 결제 목록
+     * @return 병합된 결제내역 (결제일시 내림차순)
+     */
+    public List<PaymentDto> merge(List<PaymentSummary> payments) {
+        Map<GroupKey, MergeGroup> groups = HashMap.newHashMap(payments.size());
+        PaymentDto[] slots = new PaymentDto[payments.size()];
+        int slotCount = 0;
+        int emptySlotCount = 0;
+
+        for (PaymentSummary payment : payments) {
+            MergeGroup group = groups.computeIfAbsent(
+                new GroupKey(payment.getOrderId(), payment.getPaymentMethod()), key -> new MergeGroup());
+
+            if (payment.getPayType() == PaymentType.CANCEL) {
+                if (group.cancelledAt != null) {
+                    continue; // 가장 최근 취소건만 사용
+                }
+                group.cancelledAt = payment.getPaymentAt();
+
+                if (group.approvalSlot >= 0) {
+                    markCancelled(slots[group.approvalSlot], group.cancelledAt);
+                } else {
+                    // 승인건을 만나기 전까지 취소건을 임시로 배치 (승인건이 없으면 그대로 사용)
+                    group.cancelSlot = slotCount;
+                    slots[slotCount++] = PaymentDto.from(payment);
+                }
+            } else {
+                if (group.approvalSlot >= 0) {
+                    continue; // 가장 최근 승인건만 사용
+                }
+
+                PaymentDto dto = PaymentDto.from(payment);
+                if (group.cancelledAt != null) {
+                    markCancelled(dto, group.cancelledAt);
+                }
+
+                // 임시로 배치한 취소건은 승인건 기준 결제내역으로 대체
+                if (group.cancelSlot >= 0) {
+                    slots[group.cancelSlot] = null;
+                    group.cancelSlot = -1;
+                    emptySlotCount++;
+                }
+
+                group.approvalSlot = slotCount;
+                slots[slotCount++] = dto;
+            }
+        }
+
+        List<PaymentDto> merged = new ArrayList<>(slotCount - emptySlotCount);
+        for (int i = 0; i < slotCount; i++) {
+            if (slots[i] != null) {
+                merged.add(slots[i]);
+            }
+        }
+        return merged;
+    }
+
+    private void markCancelled(PaymentDto dto, LocalDateTime cancelledAt) {
+        dto.setIsCancelled(true);
+        dto.setCancelledAt(cancelledAt);
+        dto.setPayType("CANCEL"); // 취소 완료 상태로 표시
+    }
+
+    private record GroupKey(String orderId, PaymentMethod paymentMethod) {
+    }
+
+    private static final class MergeGroup {
+        private int approvalSlot = -1;
+        private int cancelSlot = -1;
+        private LocalDateTime cancelledAt;
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.payment.service;
+
+import com.example.payment.config.IdempotencyConfig;
+import com.example.payment.dto.PaymentConfirmRequest;
+import com.example.payment.dto.PaymentConfirmResponse;
+import com.example.payment.entity.IdempotencyKey;
+import com.example.payment.enums.IdempotencyStatus;
+import com.example.payment.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 결제 승인 멱등 처리
+ * 클라이언트/프록시의 재시도가 PG 승인을 다시 호출하지 않도록 회원별 Idempotency-Key(없으면 주문 ID) 단위로 결제 응답을 재사용
+ * - 다른 회원이 같은 키를 사용해도 서로의 응답을 받지 않도록 키를 회원 ID로 구분하고, 저장된 회원/주문과 요청이 같은지 확인
+ * - 처리 중인 중복 요청: 최초 요청의 결과를 기다려 같은 응답 반환
+ * - 완료된 중복 요청: 메모리(LRU) → DB(idempotency_keys) 순으로 저장된 응답을 바로 반환
+ * - 실패한 요청: 키를 삭제하여 같은 키로 재시도 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentIdempotencyService.class);
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final PaymentTransactionService paymentTransactionService;
+    private final IdempotencyConfig idempotencyConfig;
+    private final ObjectMapper objectMapper;
+    private final Scheduler paymentBlockingScheduler;
+
+    /**
+     * 처리 중인 결제 (같은 키의 동시 요청은 이 결과를 공유)
+     */
+    private final Map<String, InFlightPayment> inFlightPayments = new ConcurrentHashMap<>();
+
+    /**
+     * 완료된 결제 응답 (접근 순서 기준 LRU, 최대 건수 초과 시 가장 오래 사용되지 않은 응답 제거)
+     */
+    private final Map<String, CachedResponse> completedResponses = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > idempotencyConfig.getMaxCachedResponses();
+                }
+            });
+
+    /**
+     * 멱등 처리를 적용하여 결제 승인 실행
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 주문 ID 사용)
+     * @param request        결제 승인 요청
+     * @param payment        실제 결제 처리 (최초 요청에서만 실행)
+     * @return 결제 승인 응답
+     */
+    public Mono<PaymentConfirmResponse> execute(String idempotencyKey, PaymentConfirmRequest request,
+                                                Supplier<Mono<PaymentConfirmResponse>> payment) {
+        return Mono.defer(() -> {
+            String key = resolveKey(idempotencyKey, request);
+            if (!idempotencyConfig.isEnabled() || key == null) {
+                return payment.get();
+            }
+
+            // 1. 메모리에 저장된 완료 응답 확인
+            CachedResponse cached = completedResponses.get(key);
+            if (cached != null && !cached.isExpired(LocalDateTime.now())) {
+                verifySameRequest(key, cached.memberId(), cached.orderId(), request);
+                logger.info("멱등 요청 - 저장된 결제 응답 반환: key={}", key);
+                return Mono.just(cached.response());
+            }
+
+            // 2. 처리 중인 동일 요청이 있으면 그 결과를 대기
+            CompletableFuture<PaymentConfirmResponse> future = new CompletableFuture<>();
+            InFlightPayment inFlight = new InFlightPayment(request.getMemberId(), request.getOrderId(), future);
+            InFlightPayment existing = inFlightPayments.putIfAbsent(key, inFlight);
+            if (existing != null) {
+                verifySameRequest(key, existing.memberId(), existing.orderId(), request);
+                logger.info("멱등 요청 - 처리 중인 결제 결과 대기: key={}", key);
+                // 대기 중인 요청이 취소되어도 공유 결과는 취소되지 않도록 복사본 구독
+                return Mono.fromFuture(existing.future().copy());
+            }
+
+            // 3. 최초 요청 - 클라이언트 연결이 끊겨도 결제와 응답 저장은 끝까지 진행
+            future.whenComplete((response, error) -> inFlightPayments.remove(key, inFlight));
+            processFirstRequest(key, request, payment)
+                    .subscribe(future::complete, future::completeExceptionally);
+            return Mono.fromFuture(future.copy());
+        });
+    }
+
+    /**
+     * DB의 멱등키를 선점한 뒤 결제를 처리하고 응답 저장
+     * 다른 서버에서 이미 완료된 키라면 결제 없이 저장된 응답 반환
+     */
+    private Mono<PaymentConfirmResponse> processFirstRequest(String key, PaymentConfirmRequest request,
+                                                             Supplier<Mono<PaymentConfirmResponse>> payment) {
+        return Mono.fromCallable(() -> claim(key, request))
+                .subscribeOn(paymentBlockingScheduler)
+                .flatMap(stored -> stored
+                        .map(response -> {
+                            logger.info("멱등 요청 - DB에 저장된 결제 응답 반환: key={}", key);
+                            return Mono.just(response);
+                        })
+                        .orElseGet(() -> payment.get()
+                                .flatMap(response -> Mono.fromCallable(() -> store(key, request, response))
+                                        .subscribeOn(paymentBlockingScheduler))
+                                .onErrorResume(e -> Mono.fromRunnable(() -> release(key))
+                                        .subscribeOn(paymentBlockingScheduler)
+                                        .then(Mono.error(e)))));
+    }
+
+    /**
+     * 멱등키 선점
+     *
+     * @return 이미 완료된 키라면 저장된 응답, 새로 선점했다면 빈 값
+     * @throws IllegalStateException 다른 요청이 같은 키로 처리 중인 경우
+     */
+    private Optional<PaymentConfirmResponse> claim(String key, PaymentConfirmRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<IdempotencyKey> existing = idempotencyKeyRepository.findByIdempotencyKey(key);
+
+        if (existing.isPresent()) {
+            IdempotencyKey record = existing.get();
+            verifySameRequest(key, record.getMemberId(), record.getOrderId(), request);
+
+            if (record.isExpired(now)) {
+                idempotencyKeyRepository.delete(record);
+            } else if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                PaymentConfirmResponse response = readResponse(record.getResponseJson());
+                completedResponses.put(key, new CachedResponse(record.getMemberId(), record.getOrderId(), response, record.getExpiresAt()));
+                return Optional.of(response);
+            } else if (record.getCreatedAt().isAfter(now.minus(idempotencyConfig.getInProgressTimeout()))) {
+                throw new IllegalStateException("동일한 결제 요청이 처리 중입니다: " + key);
+            } else {
+                // 이전 요청이 남긴 PENDING 결제를 먼저 정리 (복구 작업 주기를 기다리지 않음, PG 결제는 망취소 등록)
+                logger.warn("처리중 상태로 남은 멱등키 재처리 - 주문 복구 후 진행: key={}, orderId={}, 생성일시={}",
+                           key, record.getOrderId(), record.getCreatedAt());
+                paymentTransactionService.recoverPendingOrder(record.getOrderId());
+                idempotencyKeyRepository.delete(record);
+            }
+        }
+
+        try {
+            idempotencyKeyRepository.saveAndFlush(IdempotencyKey.start(
+                    key, request.getOrderId(), request.getMemberId(), now.plus(idempotencyConfig.getTtl())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 키를 먼저 선점한 경우
+            throw new IllegalStateException("동일한 결제 요청이 처리 중입니다: " + key);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 결제 응답을 DB와 메모리에 저장
+     */
+    private PaymentConfirmResponse store(String key, PaymentConfirmRequest request, PaymentConfirmResponse response) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            idempotencyKeyRepository.complete(key, objectMapper.writeValueAsString(response), now);
+        } catch (Exception e) {
+            // 결제는 이미 완료되었으므로 응답 저장 실패로 결제를 실패 처리하지 않음 (메모리에는 보관)
+            logger.error("멱등키 응답 저장 실패: key={}, 오류={}", key, e.getMessage());
+        }
+        completedResponses.put(key, new CachedResponse(request.getMemberId(), request.getOrderId(), response,
+                now.plus(idempotencyConfig.getTtl())));
+        return response;
+    }
+
+    /**
+     * 결제 실패 시 멱등키 해제
+     */
+    private void release(String key) {
+        try {
+            idempotencyKeyRepository.deleteInProgress(key);
+        } catch (Exception e) {
+            logger.error("멱등키 해제 실패 - 처리중 타임아웃 이후 재시도 가능: key={}, 오류={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 멱등키 정리
+     */
+    @Scheduled(initialDelayString = "${payment.idempotency.purge-interval-ms:600000}",
+               fixedDelayString = "${payment.idempotency.purge-interval-ms:600000}")
+    public void purgeExpiredKeys() {
+        if (!idempotencyConfig.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (completedResponses) {
+            completedResponses.values().removeIf(cached -> cached.isExpired(now));
+        }
+
+        int deleted = idempotencyKeyRepository.deleteExpired(now);
+        if (deleted > 0) {
+            logger.info("만료된 멱등키 정리: {}건", deleted);
+        }
+    }
+
+    /**
+     * 저장/조회에 사용할 멱등키 (회원 ID + ':' + Idempotency-Key, 헤더가 없으면 주문 ID)
+     */
+    private String resolveKey(String idempotencyKey, PaymentConfirmRequest request) {
+        String key = idempotencyKey != null && !idempotencyKey.isBlank() ? idempotencyKey.trim() : request.getOrderId();
+        if (key == null) {
+            return null;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다");
+        }
+        return Objects.requireNonNullElse(request.getMemberId(), "") + ":" + key;
+    }
+
+    private void verifySameRequest(String key, String memberId, String orderId, PaymentConfirmRequest request) {
+        if (!Objects.equals(memberId, request.getMemberId())) {
+            throw new IllegalArgumentException("다른 회원에 사용된 Idempotency-Key입니다: " + key);
+        }
+        if (!Objects.equals(orderId, request.getOrderId())) {
+            throw new IllegalArgumentException("다른 주문에 사용된 Idempotency-Key입니다: " + key);
+        }
+    }
+
+    private PaymentConfirmResponse readResponse(String responseJson) {
+        try {
+            return objectMapper.readValue(responseJson, PaymentConfirmResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 결제 응답을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private record InFlightPayment(String memberId, String orderId, CompletableFuture<PaymentConfirmResponse> future) {
+    }
+
+    private record CachedResponse(String memberId, String orderId, PaymentConfirmResponse response, LocalDateTime expiresAt) {
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
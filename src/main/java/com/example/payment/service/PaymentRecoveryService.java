@@ -0,0 +1,56 @@
+package com.example.payment.service;
+
+import com.example.payment.config.PaymentRecoveryConfig;
+import com.example.payment.enums.PaymentStatus;
+import com.example.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PENDING 결제 복구 작업
+ * 예약 후 확정/실패 처리 전에 서버가 종료되어 PENDING으로 남은 결제를 주기적으로 정리
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentRecoveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentRecoveryService.class);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentTransactionService paymentTransactionService;
+    private final PaymentRecoveryConfig recoveryConfig;
+
+    @Scheduled(initialDelayString = "${payment.recovery.interval-ms:60000}",
+               fixedDelayString = "${payment.recovery.interval-ms:60000}")
+    public void recoverPendingPayments() {
+        if (!recoveryConfig.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime threshold = LocalDateTime.now().minus(recoveryConfig.getPendingTimeout());
+        List<String> orderIds = paymentRepository.findOrderIdsByStatusAndCreatedAtBefore(PaymentStatus.PENDING, threshold);
+
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        logger.warn("=== PENDING 결제 복구 시작: {}건 ===", orderIds.size());
+
+        for (String orderId : orderIds) {
+            try {
+                paymentTransactionService.recoverPendingOrder(orderId);
+            } catch (Exception e) {
+                // 한 주문의 복구 실패가 다른 주문 복구를 막지 않도록 로그만 남기고 다음 주기에 재시도
+                logger.error("PENDING 결제 복구 실패: orderId={}, 오류={}", orderId, e.getMessage());
+            }
+        }
+
+        logger.warn("=== PENDING 결제 복구 완료 ===");
+    }
+}
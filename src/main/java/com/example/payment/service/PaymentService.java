@@ -1,25 +1,40 @@
 package com.example.payment.service;
 
+import com.example.payment.config.PaymentExecutionConfig;
 import com.example.payment.dto.*;
-import com.example.payment.entity.Member;
+import com.example.payment.entity.NetCancelTask;
 import com.example.payment.entity.Payment;
 import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentStatus;
 import com.example.payment.enums.PaymentType;
 import com.example.payment.factory.PaymentStrategyFactory;
+import com.example.payment.metrics.PaymentMetrics;
 import com.example.payment.repository.MemberRepository;
 import com.example.payment.repository.PaymentRepository;
 import com.example.payment.strategy.PaymentStrategy;
+import io.netty.handler.timeout.ReadTimeoutException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,11 +42,25 @@ public class PaymentService {
     
     private static final Logger logger = LoggerFactory.getLogger(PaymentService.class);
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final PaymentStrategyFactory paymentStrategyFactory;
     private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
+    private final PaymentTransactionService paymentTransactionService;
+    private final NetCancelService netCancelService;
+    private final PaymentEventOutbox paymentEventOutbox;
+    private final PaymentMetrics paymentMetrics;
+    private final PaymentHistoryMerger paymentHistoryMerger;
+    private final PaymentExecutionConfig executionConfig;
+    private final ExecutorService paymentGatewayExecutor;
+    private final Scheduler paymentBlockingScheduler;
     
-    @Transactional
+    /**
+     * 복합결제 승인 처리
+     * PG 호출 동안 DB 커넥션을 점유하지 않도록 예약 → PG 승인 → 확정 단계로 나누어 처리
+     * (PG 호출은 트랜잭션 밖에서 수행되고, 예약/확정/실패 처리는 각각 짧은 트랜잭션으로 실행)
+     */
     public PaymentConfirmResponse processPayment(PaymentConfirmRequest request) {
         
         // 결제 항목 목록 준비
@@ -40,87 +69,164 @@ public class PaymentService {
         // 결제 금액 검증
         validatePaymentAmount(request, paymentItems);
         
-        // 각 결제수단별 결제 처리
-        List<Map<String, Object>> paymentResults = new ArrayList<>();
-        List<Payment> paymentRecords = new ArrayList<>();
-        List<PaymentProcessResult> successfulPayments = new ArrayList<>(); // 성공한 결제 리스트
-        Long totalProcessedAmount = 0L;
+        // 결제 항목별 개별 결제 요청 생성
+        List<PaymentConfirmRequest> itemRequests = paymentItems.stream()
+                .map(item -> createItemRequest(request, item))
+                .toList();
         
+        // 1단계: 예약 (적립금 차감 + PENDING 결제 기록) - 실패 시 트랜잭션 롤백으로 정리됨
+        PaymentReservation reservation;
         try {
-            // Member 엔티티 조회
-            Member member = memberRepository.findByMemberId(request.getMemberId())
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + request.getMemberId()));
-
-            for (PaymentItem item : paymentItems) {
-                
-                // 개별 결제 요청 생성
-                PaymentConfirmRequest itemRequest = createItemRequest(request, item);
-                
-                // 전략 선택 및 결제 처리 (에러시 예외 던짐)
-                PaymentStrategy strategy = paymentStrategyFactory.getStrategy(item.getPaymentMethod());
-                PaymentProcessResult result = strategy.processPayment(itemRequest);
-
-                // 성공한 결제 결과를 리스트에 추가 (망취소용)
-                successfulPayments.add(result);
-
-                // 결과를 Map으로 변환하여 기존 로직과 호환
-                Map<String, Object> resultMap = new HashMap<>();
-                resultMap.put("paymentMethod", result.getPaymentMethod());
-                resultMap.put("amount", result.getAmount());
-                resultMap.put("tid", result.getTid());
-                resultMap.put("pgResult", result.getPgResult());
-
-                paymentResults.add(resultMap);
-                totalProcessedAmount += item.getAmount();
-                
-                // PG Provider 결정 (적립금은 null)
-                String pgProvider = item.getPaymentMethod() == PaymentMethod.POINTS ? 
-                    null : request.getPgProvider();
-                
-                Payment paymentRecord = new Payment(
-                    request.getOrderId(),
-                    member,
-                    item.getPaymentMethod(),
-                    PaymentType.APPROVE,
-                    pgProvider,
-                    item.getAmount(),
-                    request.getProductName(),
-                    result.getTid()
-                );
-                
-                // 결제 응답에서 tid 설정
-                if (result.getTid() != null) {
-                    paymentRecord.setTid(result.getTid());
-                    logger.info("결제 TID 저장: {}", result.getTid());
-                }
-                
-                paymentRecords.add(paymentRecord);
-                
-                logger.info("결제수단: {} 처리 완료", item.getPaymentMethod());
-            }
+            reservation = paymentMetrics.time(PaymentMetrics.STAGE_RESERVE, null, null,
+                    () -> paymentTransactionService.reserve(request.getMemberId(), paymentItems, itemRequests));
+        } catch (Exception e) {
+            logger.error("복합결제 예약 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("복합결제 처리 실패: " + e.getMessage(), e);
+        }
+        
+        List<PaymentProcessResult> successfulPayments = new ArrayList<>(); // 성공/응답 시간 초과한 PG 결제 리스트 (망취소용)
+        
+        try {
+            // 2단계: PG 승인 (트랜잭션 없음, 에러시 예외 던짐)
+            List<PaymentProcessResult> itemResults = executionConfig.isConcurrent()
+                    ? executePaymentItemsConcurrently(paymentItems, itemRequests, reservation, successfulPayments)
+                    : executePaymentItemsSequentially(paymentItems, itemRequests, reservation, successfulPayments);
             
-            // 모든 개별 결제가 성공한 경우에만 결제 기본 정보 일괄 저장
-            paymentRepository.saveAll(paymentRecords);
-
-            return new PaymentConfirmResponse(
-                "SUCCESS",
-                "복합결제가 성공적으로 처리되었습니다.",
-                request.getOrderId(),
-                request.getTotalAmount(),
-                totalProcessedAmount,
-                paymentResults,
-                paymentItems.size()
-            );
+            // 3단계: 확정 (모든 개별 결제가 성공한 경우에만 COMPLETED로 전환)
+            paymentMetrics.time(PaymentMetrics.STAGE_COMPLETE, null, null,
+                    () -> paymentTransactionService.complete(reservation, itemResults));
+
+            return createConfirmResponse(request, paymentItems, itemResults);
             
         } catch (Exception e) {
-            logger.error("복합결제 처리 중 오류 발생: {}", e.getMessage());
+            throw handlePaymentFailure(e, successfulPayments, paymentItems, request, reservation);
+        }
+    }
+
+    /**
+     * 복합결제 승인 처리 (논블로킹)
+     * PG 승인은 논블로킹 클라이언트로 호출하고, 예약/확정/실패 처리처럼 JDBC를 사용하는 단계만 블로킹 작업용 스케줄러에서 실행
+     * 처리 단계와 실패 시 보상 처리는 {@link #processPayment(PaymentConfirmRequest)}와 동일
+     */
+    public Mono<PaymentConfirmResponse> processPaymentAsync(PaymentConfirmRequest request) {
+        return Mono.defer(() -> {
 
-            // 망취소 처리: 성공한 결제수단들을 각각 망취소
-            performNetCancellation(successfulPayments, paymentItems, request);
+            // 결제 항목 목록 준비
+            List<PaymentItem> paymentItems = preparePaymentItems(request);
 
-            // 트랜잭션이 롤백되므로 이미 처리된 결제들도 자동으로 롤백됩니다
-            throw new RuntimeException("복합결제 처리 실패: " + e.getMessage(), e);
+            // 결제 금액 검증
+            validatePaymentAmount(request, paymentItems);
+
+            // 결제 항목별 개별 결제 요청 생성
+            List<PaymentConfirmRequest> itemRequests = paymentItems.stream()
+                    .map(item -> createItemRequest(request, item))
+                    .toList();
+
+            // 1단계: 예약 (적립금 차감 + PENDING 결제 기록)
+            return Mono.fromCallable(() -> paymentMetrics.time(PaymentMetrics.STAGE_RESERVE, null, null,
+                            () -> paymentTransactionService.reserve(request.getMemberId(), paymentItems, itemRequests)))
+                    .subscribeOn(paymentBlockingScheduler)
+                    .onErrorMap(e -> {
+                        logger.error("복합결제 예약 중 오류 발생: {}", e.getMessage());
+                        return new RuntimeException("복합결제 처리 실패: " + e.getMessage(), e);
+                    })
+                    .flatMap(reservation -> approveAndComplete(request, paymentItems, itemRequests, reservation));
+        });
+    }
+
+    /**
+     * 논블로킹 PG 승인 → 확정 처리, 실패 시 망취소 및 예약 건 실패 처리
+     */
+    private Mono<PaymentConfirmResponse> approveAndComplete(PaymentConfirmRequest request, List<PaymentItem> paymentItems,
+                                                            List<PaymentConfirmRequest> itemRequests, PaymentReservation reservation) {
+        List<PaymentProcessResult> results = new ArrayList<>(reservation.getLocalResults());
+        // 성공/응답 시간 초과한 PG 결제 리스트 (망취소용, 동시 처리 시 여러 스레드에서 추가)
+        List<PaymentProcessResult> successfulPayments = Collections.synchronizedList(new ArrayList<>());
+
+        // 예약 단계에서 처리되지 않은 항목만 PG 승인 대상
+        List<Integer> pgItemIndexes = IntStream.range(0, itemRequests.size())
+                .filter(i -> results.get(i) == null)
+                .boxed()
+                .toList();
+
+        // 2단계: PG 승인
+        // - 동시 처리: 모든 PG 호출을 동시에 시작하고, 실패가 있어도 나머지 결과를 끝까지 수집 (망취소 대상 확보)
+        // - 순차 처리: 항목 순서대로 호출하고 실패 시 이후 항목은 호출하지 않음
+        Flux<Map.Entry<Integer, PaymentProcessResult>> approvals = executionConfig.isConcurrent()
+                ? Flux.fromIterable(pgItemIndexes).flatMapDelayError(i -> executePaymentItemAsync(i, paymentItems.get(i), itemRequests.get(i), successfulPayments),
+                        Math.max(1, pgItemIndexes.size()), Queues.XS_BUFFER_SIZE)
+                : Flux.fromIterable(pgItemIndexes).concatMap(i -> executePaymentItemAsync(i, paymentItems.get(i), itemRequests.get(i), successfulPayments));
+
+        return approvals
+                .doOnNext(approval -> {
+                    successfulPayments.add(approval.getValue());
+                    results.set(approval.getKey(), approval.getValue());
+                })
+                // 3단계: 확정 (모든 개별 결제가 성공한 경우에만 COMPLETED로 전환)
+                .then(Mono.fromCallable(() -> {
+                    paymentMetrics.time(PaymentMetrics.STAGE_COMPLETE, null, null,
+                            () -> paymentTransactionService.complete(reservation, results));
+                    return createConfirmResponse(request, paymentItems, results);
+                }).subscribeOn(paymentBlockingScheduler))
+                .onErrorResume(e -> Mono.fromCallable(() -> handlePaymentFailure(
+                                Exceptions.unwrapMultiple(e).get(0), successfulPayments, paymentItems, request, reservation))
+                        .subscribeOn(paymentBlockingScheduler)
+                        .flatMap(Mono::error));
+    }
+
+    /**
+     * 결제 실패 처리 - 성공한 PG 결제 망취소 후 예약 건 실패 처리
+     * @return 호출하는 쪽에서 던질 예외
+     */
+    private RuntimeException handlePaymentFailure(Throwable e, List<PaymentProcessResult> successfulPayments, List<PaymentItem> paymentItems,
+                                                  PaymentConfirmRequest request, PaymentReservation reservation) {
+        logger.error("복합결제 처리 중 오류 발생: {}", e.getMessage());
+
+        // 망취소 처리: 성공한 PG 결제수단들을 각각 망취소
+        performNetCancellation(successfulPayments, paymentItems, request);
+
+        // 예약 건 실패 처리 (적립금 환원 포함) - 실패해도 복구 작업에서 다시 정리됨
+        try {
+            paymentMetrics.time(PaymentMetrics.STAGE_FAIL, null, null, () -> paymentTransactionService.fail(reservation));
+        } catch (Exception failException) {
+            logger.error("결제 실패 처리 중 오류 발생 (복구 작업에서 재처리): orderId={}, 오류={}",
+                       request.getOrderId(), failException.getMessage());
+        }
+
+        return new RuntimeException("복합결제 처리 실패: " + e.getMessage(), e);
+    }
+    
+    /**
+     * 결제 승인 응답 생성
+     */
+    private PaymentConfirmResponse createConfirmResponse(PaymentConfirmRequest request, List<PaymentItem> paymentItems,
+                                                         List<PaymentProcessResult> itemResults) {
+        List<Map<String, Object>> paymentResults = new ArrayList<>();
+        Long totalProcessedAmount = 0L;
+        
+        for (int i = 0; i < paymentItems.size(); i++) {
+            PaymentProcessResult result = itemResults.get(i);
+            
+            // 결과를 Map으로 변환하여 기존 로직과 호환
+            Map<String, Object> resultMap = new HashMap<>();
+            resultMap.put("paymentMethod", result.getPaymentMethod());
+            resultMap.put("amount", result.getAmount());
+            resultMap.put("tid", result.getTid());
+            resultMap.put("pgResult", result.getPgResult());
+            
+            paymentResults.add(resultMap);
+            totalProcessedAmount += paymentItems.get(i).getAmount();
         }
+        
+        return new PaymentConfirmResponse(
+            "SUCCESS",
+            "복합결제가 성공적으로 처리되었습니다.",
+            request.getOrderId(),
+            request.getTotalAmount(),
+            totalProcessedAmount,
+            paymentResults,
+            paymentItems.size()
+        );
     }
     
     @Transactional
@@ -138,6 +244,11 @@ public class PaymentService {
                 throw new IllegalStateException("이미 취소된 결제입니다: " + paymentId);
             }
             
+            // 완료되지 않은 결제(처리중/실패)는 취소 불가
+            if (originalPayment.getStatus() != null && originalPayment.getStatus() != PaymentStatus.COMPLETED) {
+                throw new IllegalStateException("완료되지 않은 결제는 취소할 수 없습니다: " + paymentId);
+            }
+            
             logger.info("결제수단: {}, PG사: {}, 금액: {}원 취소 시작", 
                 originalPayment.getPaymentMethod(), 
                 originalPayment.getPgProvider(), 
@@ -163,6 +274,7 @@ public class PaymentService {
             );
             
             paymentRepository.save(cancelRecord);
+            paymentEventOutbox.appendCanceled(cancelRecord, paymentId);
             
             // 전체 결과 구성
             Map<String, Object> response = new HashMap<>();
@@ -184,6 +296,143 @@ public class PaymentService {
         }
     }
     
+    /**
+     * PG 결제 항목 순차 처리 - 항목 순서대로 결제하고 실패 시 즉시 예외를 던짐
+     * @return 결제 항목 순서의 처리 결과 (예약 단계에서 처리된 항목 포함)
+     */
+    private List<PaymentProcessResult> executePaymentItemsSequentially(List<PaymentItem> paymentItems, List<PaymentConfirmRequest> itemRequests,
+                                                                       PaymentReservation reservation, List<PaymentProcessResult> successfulPayments) {
+        List<PaymentProcessResult> results = new ArrayList<>(reservation.getLocalResults());
+
+        for (int i = 0; i < itemRequests.size(); i++) {
+            if (results.get(i) != null) {
+                continue; // 예약 단계에서 처리된 항목 (적립금)
+            }
+            PaymentProcessResult result;
+            try {
+                result = executePaymentItem(paymentItems.get(i), itemRequests.get(i));
+            } catch (RuntimeException e) {
+                addIfOutcomeUnknown(e, paymentItems.get(i), itemRequests.get(i), successfulPayments);
+                throw e;
+            }
+
+            // 성공한 결제 결과를 리스트에 추가 (망취소용)
+            successfulPayments.add(result);
+            results.set(i, result);
+        }
+
+        return results;
+    }
+
+    /**
+     * PG 결제 항목 동시 처리 - 모든 PG 호출을 가상 스레드에서 동시에 실행
+     * 모든 항목이 끝날 때까지 기다린 후 하나라도 실패했으면 첫 번째 오류를 던짐 (성공한 항목은 망취소 대상)
+     * @return 결제 항목 순서의 처리 결과 (예약 단계에서 처리된 항목 포함)
+     */
+    private List<PaymentProcessResult> executePaymentItemsConcurrently(List<PaymentItem> paymentItems, List<PaymentConfirmRequest> itemRequests,
+                                                                       PaymentReservation reservation, List<PaymentProcessResult> successfulPayments) {
+        List<PaymentProcessResult> results = new ArrayList<>(reservation.getLocalResults());
+        List<Future<PaymentProcessResult>> futures = new ArrayList<>(Collections.nCopies(itemRequests.size(), null));
+        RuntimeException firstFailure = null;
+
+        // PG 호출 항목을 모두 동시에 시작
+        for (int i = 0; i < itemRequests.size(); i++) {
+            if (results.get(i) == null) {
+                PaymentItem item = paymentItems.get(i);
+                PaymentConfirmRequest itemRequest = itemRequests.get(i);
+                futures.set(i, paymentGatewayExecutor.submit(() -> executePaymentItem(item, itemRequest)));
+            }
+        }
+
+        // 모든 PG 호출 완료 대기 (실패가 있어도 나머지 결과를 끝까지 수집해야 망취소 가능)
+        for (int i = 0; i < itemRequests.size(); i++) {
+            Future<PaymentProcessResult> future = futures.get(i);
+            if (future == null) {
+                continue;
+            }
+            try {
+                PaymentProcessResult result = future.get();
+                successfulPayments.add(result);
+                results.set(i, result);
+            } catch (ExecutionException e) {
+                addIfOutcomeUnknown(e.getCause(), paymentItems.get(i), itemRequests.get(i), successfulPayments);
+                if (firstFailure == null) {
+                    firstFailure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new RuntimeException(e.getCause().getMessage(), e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (firstFailure == null) {
+                    firstFailure = new RuntimeException("결제 처리 대기 중 인터럽트 발생", e);
+                }
+            }
+        }
+
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+
+        return results;
+    }
+
+    /**
+     * 단일 결제 항목 처리 - 결제수단별 전략 선택 후 결제 실행
+     */
+    private PaymentProcessResult executePaymentItem(PaymentItem item, PaymentConfirmRequest itemRequest) {
+        // 전략 선택 및 결제 처리 (에러시 예외 던짐)
+        PaymentStrategy strategy = paymentStrategyFactory.getStrategy(item.getPaymentMethod());
+        PaymentProcessResult result = paymentMetrics.time(PaymentMetrics.STAGE_PAYMENT_ITEM,
+                item.getPaymentMethod(), itemRequest.getPgProvider(), () -> strategy.processPayment(itemRequest));
+
+        logger.info("결제수단: {} 처리 완료", item.getPaymentMethod());
+        return result;
+    }
+
+    /**
+     * 단일 결제 항목 처리 (논블로킹) - 결과를 결제 항목 순번과 함께 반환
+     * 응답 시간 초과로 실패한 항목은 망취소 대상에 추가
+     */
+    private Mono<Map.Entry<Integer, PaymentProcessResult>> executePaymentItemAsync(int index, PaymentItem item, PaymentConfirmRequest itemRequest,
+                                                                                  List<PaymentProcessResult> successfulPayments) {
+        return paymentMetrics.time(PaymentMetrics.STAGE_PAYMENT_ITEM, item.getPaymentMethod(), itemRequest.getPgProvider(),
+                Mono.defer(() -> {
+                    PaymentStrategy strategy = paymentStrategyFactory.getStrategy(item.getPaymentMethod());
+                    return strategy.processPaymentAsync(itemRequest);
+                })).map(result -> {
+            logger.info("결제수단: {} 처리 완료", item.getPaymentMethod());
+            return Map.entry(index, result);
+        }).doOnError(e -> addIfOutcomeUnknown(e, item, itemRequest, successfulPayments));
+    }
+
+    /**
+     * 승인 응답을 받지 못한 PG 결제(응답 시간 초과)는 PG에서 승인되었을 수 있으므로 망취소 대상에 추가
+     * 거래 ID를 모르므로 망취소는 결제 요청의 인증결과로 처리 (토스: paymentKey, 이니시스: netCancelUrl/authToken)
+     */
+    private void addIfOutcomeUnknown(Throwable e, PaymentItem item, PaymentConfirmRequest itemRequest,
+                                     List<PaymentProcessResult> successfulPayments) {
+        if (!isResponseTimeout(e)) {
+            return;
+        }
+
+        logger.warn("PG 승인 응답 시간 초과 - 승인 여부를 알 수 없어 망취소 대상에 추가: orderId={}, 결제수단={}, PG사={}",
+                   itemRequest.getOrderId(), item.getPaymentMethod(), itemRequest.getPgProvider());
+        successfulPayments.add(new PaymentProcessResult(item.getPaymentMethod().name(), itemRequest.getOrderId(),
+                itemRequest.getAmount(), null, null));
+    }
+
+    /**
+     * 응답 시간 초과 여부 (PG 타임아웃 정책의 TimeoutException, HTTP 클라이언트의 응답 대기 시간 초과)
+     */
+    private boolean isResponseTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof ReadTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private PaymentCancelRequest createCancelRequest(Payment originalPayment) {
         PaymentCancelRequest.PaymentCancelRequestBuilder builder = PaymentCancelRequest.builder()
                 .orderId(originalPayment.getOrderId())
@@ -274,112 +523,20 @@ public class PaymentService {
         return itemRequest;
     }
     
-    // Entity 리스트를 DTO 리스트로 변환하는 메서드 (병합 로직 포함)
-    private List<PaymentDto> convertToDtoList(List<Payment> paymentList) {
-        return mergePaymentsByOrderIdAndMethod(paymentList).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-    }
-    
-    // 동일 주문번호 + 결제수단의 승인/취소 건을 병합하는 메서드
-    private List<Payment> mergePaymentsByOrderIdAndMethod(List<Payment> payments) {
-        // 주문번호 + 결제수단을 키로 그룹화
-        Map<String, List<Payment>> paymentGroups = payments.stream()
-                .collect(Collectors.groupingBy(p -> p.getOrderId() + "_" + p.getPaymentMethod()));
-        
-        List<Payment> mergedPayments = new ArrayList<>();
-        
-        // 각 그룹별로 병합 처리
-        for (List<Payment> paymentGroup : paymentGroups.values()) {
-            // 승인건과 취소건 분류
-            List<Payment> approvePayments = paymentGroup.stream()
-                    .filter(p -> p.getPayType() == null || p.getPayType().name().equals("APPROVE"))
-                    .toList();
-            List<Payment> cancelPayments = paymentGroup.stream()
-                    .filter(p -> p.getPayType() != null && p.getPayType().name().equals("CANCEL"))
-                    .toList();
-            
-            if (!approvePayments.isEmpty()) {
-                // 승인건을 기준으로 함 (가장 최근 것)
-                Payment basePayment = approvePayments.stream().min((a, b) -> b.getPaymentAt().compareTo(a.getPaymentAt()))
-                        .get();
-                
-                // 취소건이 있으면 취소 정보 추가
-                if (!cancelPayments.isEmpty()) {
-                    Payment cancelPayment = cancelPayments.stream().min((a, b) -> b.getPaymentAt().compareTo(a.getPaymentAt()))
-                            .get();
-                    
-                    // 가상의 병합된 Payment 객체 생성 (취소 정보 포함)
-                    Payment mergedPayment = createMergedPayment(basePayment, cancelPayment);
-                    mergedPayments.add(mergedPayment);
-                } else {
-                    // 취소건이 없으면 승인 상태 그대로
-                    mergedPayments.add(basePayment);
-                }
-            } else if (!cancelPayments.isEmpty()) {
-                // 승인건 없이 취소건만 있는 경우 (데이터 이상)
-                Payment cancelPayment = cancelPayments.get(0);
-                mergedPayments.add(cancelPayment);
-            }
-        }
-        
-        // 결제일시 기준 내림차순 정렬
-        return mergedPayments.stream()
-                .sorted((a, b) -> b.getPaymentAt().compareTo(a.getPaymentAt()))
-                .collect(Collectors.toList());
-    }
-    
-    // 승인건과 취소건을 병합한 가상의 Payment 객체 생성
-    private Payment createMergedPayment(Payment approvePayment, Payment cancelPayment) {
-        Payment merged = new Payment();
-        
-        // 승인건 정보 복사
-        merged.setId(approvePayment.getId());
-        merged.setOrderId(approvePayment.getOrderId());
-        merged.setMember(approvePayment.getMember());
-        merged.setPaymentMethod(approvePayment.getPaymentMethod());
-        merged.setPayType(approvePayment.getPayType());
-        merged.setPgProvider(approvePayment.getPgProvider());
-        merged.setPaymentAmount(approvePayment.getPaymentAmount());
-        merged.setProductName(approvePayment.getProductName());
-        merged.setTid(approvePayment.getTid());
-        merged.setPaymentAt(approvePayment.getPaymentAt());
-        merged.setCreatedAt(approvePayment.getCreatedAt());
-        merged.setUpdatedAt(approvePayment.getUpdatedAt());
-        
-        // 취소 정보를 별도 필드로 저장 (Payment 엔티티에는 없지만 DTO 변환시 사용)
-        merged.setCancelledAt(cancelPayment.getPaymentAt());
-        
-        return merged;
-    }
-    
-    // Payment를 PaymentDto로 변환 (병합 정보 포함)
-    private PaymentDto convertToDto(Payment payment) {
-        PaymentDto dto = PaymentDto.from(payment);
-        
-        // 취소 정보가 있으면 설정
-        if (payment.getCancelledAt() != null) {
-            dto.setIsCancelled(true);
-            dto.setCancelledAt(payment.getCancelledAt());
-            dto.setPayType("CANCEL"); // 취소 완료 상태로 표시
-        }
-        
-        return dto;
-    }
-    
     public PaymentHistoryResponse getPaymentHistory(String memberId) {
         logger.info("=== 결제내역 조회 시작 ===");
         logger.info("회원ID: {}", memberId);
         
-        // 회원 존재 여부 확인
-        Member member = memberRepository.findByMemberId(memberId)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + memberId));
+        // 해당 회원의 모든 결제 내역 조회 (회원 ID까지 한 번의 쿼리로 조회)
+        List<PaymentSummary> paymentList = paymentRepository.findSummariesByMemberId(memberId);
         
-        // 해당 회원의 모든 결제 내역 조회
-        List<Payment> paymentList = paymentRepository.findByMemberOrderByPaymentAtDesc(member);
+        // 결제 내역이 없으면 회원 존재 여부 확인
+        if (paymentList.isEmpty()) {
+            validateMemberExists(memberId);
+        }
         
-        // Entity를 DTO로 변환
-        List<PaymentDto> paymentDtoList = convertToDtoList(paymentList);
+        // DTO로 변환 (동일 주문번호 + 결제수단의 승인/취소 건 병합)
+        List<PaymentDto> paymentDtoList = paymentHistoryMerger.merge(paymentList);
         
         logger.info("조회된 결제내역 수: {}건", paymentList.size());
         
@@ -393,12 +550,110 @@ public class PaymentService {
         );
     }
     
+    /**
+     * 회원별 결제내역 페이지 조회 (커서 기반)
+     *
+     * @param memberId 회원 ID
+     * @param cursor   이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기 (결제 기록 수 기준, 최대 100)
+     */
+    public PaymentHistoryPageResponse getPaymentHistoryPage(String memberId, String cursor, int size) {
+        logger.info("=== 결제내역 페이지 조회 시작 ===");
+        logger.info("회원ID: {}, 커서: {}, 페이지 크기: {}", memberId, cursor, size);
+        
+        PaymentHistoryCursor historyCursor = PaymentHistoryCursor.decode(cursor);
+        PaymentHistoryPage page = loadPaymentHistoryPage(memberId, historyCursor, size);
+        
+        // 첫 페이지가 비어 있으면 회원 존재 여부 확인
+        if (historyCursor == null && page.payments().isEmpty() && page.nextCursor() == null) {
+            validateMemberExists(memberId);
+        }
+        String nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+        
+        logger.info("=== 결제내역 페이지 조회 완료: {}건, 다음 커서: {} ===", page.payments().size(), nextCursor);
+        return new PaymentHistoryPageResponse(
+            "SUCCESS",
+            "결제내역 조회가 완료되었습니다.",
+            memberId,
+            page.payments().size(),
+            page.payments(),
+            nextCursor,
+            nextCursor != null
+        );
+    }
+    
+    /**
+     * 회원별 결제내역 스트리밍 조회 - 전체 결제내역을 메모리에 올리지 않고 페이지 단위로 조회하며 전송
+     *
+     * @param memberId 회원 ID
+     * @param pageSize DB 조회 페이지 크기 (최대 100)
+     */
+    public Flux<PaymentDto> streamPaymentHistory(String memberId, int pageSize) {
+        return Mono.fromRunnable(() -> validateMemberExists(memberId))
+                .subscribeOn(paymentBlockingScheduler)
+                .thenMany(loadPaymentHistoryPageAsync(memberId, null, pageSize)
+                    .expand(page -> page.nextCursor() != null
+                            ? loadPaymentHistoryPageAsync(memberId, page.nextCursor(), pageSize)
+                            : Mono.empty())
+                    .concatMapIterable(PaymentHistoryPage::payments));
+    }
+    
+    private Mono<PaymentHistoryPage> loadPaymentHistoryPageAsync(String memberId, PaymentHistoryCursor cursor, int size) {
+        return Mono.fromCallable(() -> loadPaymentHistoryPage(memberId, cursor, size))
+                .subscribeOn(paymentBlockingScheduler);
+    }
+    
+    /**
+     * 결제내역 한 페이지 조회 및 병합
+     * 페이지는 결제 기록 (결제일시, ID) 내림차순 기준으로 나누고, 병합된 결제내역은 기준 결제건(가장 최근 승인건)이 속한 페이지에 포함
+     * 승인건과 취소건이 서로 다른 페이지에 있어도 병합되도록 페이지에 포함된 주문의 결제 기록을 모두 조회해서 병합
+     * (페이지에 취소건만 있는 경우처럼 결제내역 수가 페이지 크기보다 적을 수 있음)
+     */
+    private PaymentHistoryPage loadPaymentHistoryPage(String memberId, PaymentHistoryCursor cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<PaymentSummary> rows = cursor == null
+            ? paymentRepository.findHistoryFirstPage(memberId, Limit.of(pageSize + 1))
+            : paymentRepository.findHistoryPageAfter(memberId, cursor.getPaymentAt(), cursor.getId(), Limit.of(pageSize + 1));
+        
+        if (rows.isEmpty()) {
+            return new PaymentHistoryPage(List.of(), null);
+        }
+        
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        
+        PaymentSummary lastRow = rows.get(rows.size() - 1);
+        PaymentHistoryCursor lastKey = new PaymentHistoryCursor(lastRow.getPaymentAt(), lastRow.getId());
+        
+        // 페이지에 포함된 주문의 결제 기록을 모두 조회해서 병합
+        List<String> orderIds = rows.stream().map(PaymentSummary::getOrderId).distinct().toList();
+        List<PaymentSummary> orderRows = paymentRepository.findHistoryByMemberAndOrderIds(memberId, orderIds);
+        
+        // 기준 결제건이 이 페이지 범위(커서 이후 ~ 마지막 결제 기록)에 있는 결제내역만 포함
+        List<PaymentDto> payments = paymentHistoryMerger.merge(orderRows).stream()
+            .filter(dto -> !lastKey.isBefore(dto.getPaymentAt(), dto.getId()))
+            .filter(dto -> cursor == null || cursor.isBefore(dto.getPaymentAt(), dto.getId()))
+            .toList();
+        
+        return new PaymentHistoryPage(payments, hasNext ? lastKey : null);
+    }
+    
+    /**
+     * 결제내역 페이지 조회 결과
+     */
+    private record PaymentHistoryPage(List<PaymentDto> payments, PaymentHistoryCursor nextCursor) {
+    }
+    
     public PaymentOrderResponse getPaymentByOrderId(String orderId) {
         logger.info("=== 주문번호로 결제정보 조회 시작 ===");
         logger.info("주문번호: {}", orderId);
         
-        // 해당 주문번호의 모든 결제 내역 조회
-        List<Payment> paymentList = paymentRepository.findByOrderId(orderId);
+        // 해당 주문번호의 모든 결제 내역 조회 (회원 ID까지 한 번의 쿼리로 조회)
+        List<PaymentSummary> paymentList = paymentRepository.findSummariesByOrderId(orderId);
         
         if (paymentList.isEmpty()) {
             throw new IllegalArgumentException("해당 주문번호로 결제 내역을 찾을 수 없습니다: " + orderId);
@@ -406,12 +661,12 @@ public class PaymentService {
         
         logger.info("조회된 결제내역 수: {}건", paymentList.size());
         
-        // Entity를 DTO로 변환
-        List<PaymentDto> paymentDtoList = convertToDtoList(paymentList);
+        // DTO로 변환 (동일 주문번호 + 결제수단의 승인/취소 건 병합)
+        List<PaymentDto> paymentDtoList = paymentHistoryMerger.merge(paymentList);
         
         // 총 결제금액 계산 (payments 테이블의 모든 데이터는 성공한 결제)
         Long totalAmount = paymentList.stream()
-            .mapToLong(Payment::getPaymentAmount)
+            .mapToLong(PaymentSummary::getPaymentAmount)
             .sum();
         
         // 상품명은 첫 번째 결제 기록에서 가져옴 (모든 결제가 같은 상품이므로)
@@ -429,10 +684,17 @@ public class PaymentService {
         );
     }
 
+    private void validateMemberExists(String memberId) {
+        if (!memberRepository.existsByMemberId(memberId)) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다: " + memberId);
+        }
+    }
+
     /**
-     * 망취소 처리 - 성공한 결제수단들을 전략 패턴으로 각각 망취소
+     * 망취소 처리 - 성공한(또는 응답 시간 초과로 승인 여부를 알 수 없는) 결제수단들의 망취소 작업을 등록하고 처리를 기다리지 않음
+     * 망취소는 NetCancelService의 작업 스레드에서 재시도를 포함하여 처리됨
      *
-     * @param successfulPayments 성공한 결제 결과 리스트
+     * @param successfulPayments 망취소 대상 결제 결과 리스트
      * @param paymentItems       결제 항목 리스트 (전략 선택용)
      * @param request            원본 결제 요청
      */
@@ -442,36 +704,30 @@ public class PaymentService {
             return;
         }
 
-        logger.warn("=== 망취소 처리 시작 ===");
         logger.warn("망취소 대상 결제수단 수: {}", successfulPayments.size());
 
+        List<NetCancelTask> tasks = new ArrayList<>();
         for (PaymentProcessResult successfulPayment : successfulPayments) {
-            try {
-                // 해당 결제수단의 PaymentItem 찾기 (전략 선택을 위해)
-                PaymentItem correspondingItem = findCorrespondingPaymentItem(successfulPayment, paymentItems);
-                if (correspondingItem == null) {
-                    logger.warn("망취소할 결제수단의 PaymentItem을 찾을 수 없습니다: {}", successfulPayment.getPaymentMethod());
-                    continue;
-                }
-
-                // 개별 결제 요청 재생성 (망취소용)
-                PaymentConfirmRequest itemRequest = createItemRequest(request, correspondingItem);
-
-                // 전략 선택 및 망취소 호출
-                PaymentStrategy strategy = paymentStrategyFactory.getStrategy(correspondingItem.getPaymentMethod());
-                strategy.performNetCancellation(successfulPayment, itemRequest);
-
-                logger.warn("망취소 완료: 결제수단={}, 금액={}원",
-                           successfulPayment.getPaymentMethod(), successfulPayment.getAmount());
-
-            } catch (Exception netCancelException) {
-                // 망취소 실패는 로그만 남기고 원본 예외를 우선시함
-                logger.error("망취소 실패 (원본 결제 실패가 더 중요함): 결제수단={}, 오류={}",
-                           successfulPayment.getPaymentMethod(), netCancelException.getMessage());
+            // 해당 결제수단의 PaymentItem 찾기 (전략 선택을 위해)
+            PaymentItem correspondingItem = findCorrespondingPaymentItem(successfulPayment, paymentItems);
+            if (correspondingItem == null) {
+                logger.warn("망취소할 결제수단의 PaymentItem을 찾을 수 없습니다: {}", successfulPayment.getPaymentMethod());
+                continue;
             }
+
+            // 개별 결제 요청 재생성 (망취소용)
+            PaymentConfirmRequest itemRequest = createItemRequest(request, correspondingItem);
+            tasks.add(netCancelService.createTask(successfulPayment, correspondingItem.getPaymentMethod(), itemRequest));
         }
 
-        logger.warn("=== 망취소 처리 완료 ===");
+        try {
+            netCancelService.enqueue(tasks);
+        } catch (Exception enqueueException) {
+            // 작업 등록 실패 시 재시도 없이 바로 1회 망취소 (원본 결제 실패가 더 중요함)
+            logger.error("망취소 작업 등록 실패 - 바로 망취소 실행: orderId={}, 오류={}",
+                       request.getOrderId(), enqueueException.getMessage());
+            netCancelService.executeNow(tasks);
+        }
     }
 
     /**
@@ -0,0 +1,215 @@
+package com.example.payment.service;
+
+import com.example.payment.dto.PaymentConfirmRequest;
+import com.example.payment.dto.PaymentItem;
+import com.example.payment.dto.PaymentProcessResult;
+import com.example.payment.dto.PaymentReservation;
+import com.example.payment.entity.Member;
+import com.example.payment.entity.NetCancelTask;
+import com.example.payment.entity.Payment;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentStatus;
+import com.example.payment.enums.PaymentType;
+import com.example.payment.factory.PaymentStrategyFactory;
+import com.example.payment.metrics.PaymentMetrics;
+import com.example.payment.repository.MemberRepository;
+import com.example.payment.repository.PaymentRepository;
+import com.example.payment.strategy.PaymentStrategy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 단계별 트랜잭션 처리
+ * PG 호출 동안 DB 커넥션을 점유하지 않도록 결제를 예약 → (트랜잭션 밖 PG 호출) → 확정/실패의 짧은 트랜잭션으로 분리
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentTransactionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentTransactionService.class);
+
+    private final PaymentStrategyFactory paymentStrategyFactory;
+    private final PaymentRepository paymentRepository;
+    private final MemberRepository memberRepository;
+    private final PaymentEventOutbox paymentEventOutbox;
+    private final NetCancelService netCancelService;
+    private final PaymentMetrics paymentMetrics;
+
+    /**
+     * 예약 단계 - 적립금 차감과 PENDING 결제 기록 저장을 하나의 트랜잭션으로 처리
+     *
+     * @param memberId     회원 ID
+     * @param paymentItems 결제 항목 목록
+     * @param itemRequests 결제 항목별 요청 (결제 항목 순서)
+     * @return 예약 결과
+     */
+    @Transactional
+    public PaymentReservation reserve(String memberId, List<PaymentItem> paymentItems, List<PaymentConfirmRequest> itemRequests) {
+        Member member = paymentMetrics.time(PaymentMetrics.STAGE_MEMBER_LOOKUP, null, null,
+                        () -> memberRepository.findByMemberId(memberId))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + memberId));
+
+        List<PaymentProcessResult> localResults = new ArrayList<>();
+        List<Payment> pendingRecords = new ArrayList<>();
+
+        for (int i = 0; i < itemRequests.size(); i++) {
+            PaymentItem item = paymentItems.get(i);
+            PaymentConfirmRequest itemRequest = itemRequests.get(i);
+            PaymentProcessResult localResult = null;
+
+            // 적립금은 DB 작업이므로 예약 트랜잭션 안에서 바로 처리
+            if (item.getPaymentMethod() == PaymentMethod.POINTS) {
+                PaymentStrategy strategy = paymentStrategyFactory.getStrategy(PaymentMethod.POINTS);
+                localResult = paymentMetrics.time(PaymentMetrics.STAGE_PAYMENT_ITEM, PaymentMethod.POINTS, null,
+                        () -> strategy.processPayment(itemRequest));
+            }
+            localResults.add(localResult);
+
+            // PG Provider 결정 (적립금은 null)
+            String pgProvider = item.getPaymentMethod() == PaymentMethod.POINTS ?
+                null : itemRequest.getPgProvider();
+
+            Payment pendingRecord = new Payment(
+                itemRequest.getOrderId(),
+                member,
+                item.getPaymentMethod(),
+                PaymentType.APPROVE,
+                pgProvider,
+                itemRequest.getAmount(),
+                itemRequest.getProductName(),
+                null
+            );
+            pendingRecord.setStatus(PaymentStatus.PENDING);
+            if (pgProvider != null) {
+                // 비정상 종료로 승인 결과를 알 수 없게 되면 복구 작업에서 이 인증결과로 망취소
+                pendingRecord.setAuthResultJson(netCancelService.writeAuthResult(itemRequest.getAuthResultMap()));
+            }
+            pendingRecords.add(pendingRecord);
+        }
+
+        List<Long> paymentIds = paymentMetrics.time(PaymentMetrics.STAGE_PAYMENT_SAVE, null, null,
+                        () -> paymentRepository.saveAll(pendingRecords)).stream()
+                .map(Payment::getId)
+                .toList();
+
+        String orderId = itemRequests.isEmpty() ? null : itemRequests.get(0).getOrderId();
+        logger.info("결제 예약 완료: orderId={}, 결제 ID={}", orderId, paymentIds);
+
+        return new PaymentReservation(orderId, paymentIds, localResults);
+    }
+
+    /**
+     * 확정 단계 - PENDING 결제를 COMPLETED로 전환하고 PG 거래 ID 저장, 같은 트랜잭션에서 결제 승인 이벤트 저장
+     *
+     * @param reservation 예약 결과
+     * @param results     결제 항목별 처리 결과 (결제 항목 순서)
+     * @throws IllegalStateException 복구 작업 등으로 이미 PENDING이 아닌 결제가 있는 경우
+     */
+    @Transactional
+    public void complete(PaymentReservation reservation, List<PaymentProcessResult> results) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> paymentIds = reservation.getPaymentIds();
+
+        for (int i = 0; i < paymentIds.size(); i++) {
+            String tid = results.get(i).getTid();
+            int updated = paymentRepository.transitionFromPending(paymentIds.get(i), PaymentStatus.COMPLETED, tid, now);
+            if (updated == 0) {
+                throw new IllegalStateException("처리중 상태가 아닌 결제입니다: " + paymentIds.get(i));
+            }
+            if (tid != null) {
+                logger.info("결제 TID 저장: {}", tid);
+            }
+        }
+
+        // 확정된 결제 기준으로 승인 이벤트 저장 (확정과 함께 커밋/롤백)
+        paymentEventOutbox.appendApproved(paymentRepository.findAllById(paymentIds));
+
+        logger.info("결제 확정 완료: orderId={}", reservation.getOrderId());
+    }
+
+    /**
+     * 실패 단계 - PENDING 결제를 FAILED로 전환하고 예약 단계에서 차감한 적립금 환원
+     * PG 승인 건의 망취소는 호출하는 쪽에서 처리
+     *
+     * @param reservation 예약 결과
+     */
+    @Transactional
+    public void fail(PaymentReservation reservation) {
+        Map<Long, Payment> payments = paymentRepository.findAllById(reservation.getPaymentIds()).stream()
+                .collect(Collectors.toMap(Payment::getId, Function.identity()));
+
+        for (Long paymentId : reservation.getPaymentIds()) {
+            Payment payment = payments.get(paymentId);
+            if (payment != null) {
+                failPendingPayment(payment);
+            }
+        }
+
+        logger.warn("결제 실패 처리 완료: orderId={}", reservation.getOrderId());
+    }
+
+    /**
+     * 복구 단계 - 비정상 종료로 PENDING 상태에 남은 주문의 결제를 FAILED로 정리
+     * PG 결제는 승인 여부를 알 수 없으므로 망취소 작업을 같은 트랜잭션에서 등록 (NetCancelService 작업 스레드가 재시도 포함 처리)
+     *
+     * @param orderId 주문 ID
+     */
+    @Transactional
+    public void recoverPendingOrder(String orderId) {
+        List<Payment> pendingPayments = paymentRepository.findByOrderIdAndStatus(orderId, PaymentStatus.PENDING);
+        List<NetCancelTask> netCancelTasks = new ArrayList<>();
+
+        for (Payment payment : pendingPayments) {
+            if (!failPendingPayment(payment) || payment.getPaymentMethod() == PaymentMethod.POINTS) {
+                continue;
+            }
+
+            NetCancelTask task = netCancelService.createTask(payment);
+            if (task == null) {
+                // 인증결과를 보관하기 전에 저장된 결제 - PG사 거래내역과 대사 필요
+                logger.error("PG 승인 결과를 확인할 수 없고 망취소 정보도 없는 결제 - PG사 거래 대사 필요: paymentId={}, orderId={}, PG사={}, 금액={}원",
+                           payment.getId(), orderId, payment.getPgProvider(), payment.getPaymentAmount());
+                continue;
+            }
+            netCancelTasks.add(task);
+        }
+
+        netCancelService.register(netCancelTasks);
+
+        logger.warn("PENDING 결제 복구 완료: orderId={}, 대상 {}건, 망취소 등록 {}건", orderId, pendingPayments.size(), netCancelTasks.size());
+    }
+
+    /**
+     * PENDING 결제를 FAILED로 전환하고, 적립금 결제였다면 차감한 적립금 환원
+     * @return 전환 여부 (이미 다른 곳에서 처리된 경우 false)
+     */
+    private boolean failPendingPayment(Payment payment) {
+        int updated = paymentRepository.transitionFromPending(payment.getId(), PaymentStatus.FAILED, null, LocalDateTime.now());
+        if (updated == 0) {
+            return false;
+        }
+
+        if (payment.getPaymentMethod() == PaymentMethod.POINTS) {
+            PaymentConfirmRequest refundRequest = new PaymentConfirmRequest();
+            refundRequest.setOrderId(payment.getOrderId());
+            refundRequest.setMemberId(payment.getMember().getMemberId());
+
+            PaymentProcessResult usedPoints = new PaymentProcessResult(
+                "POINTS", payment.getOrderId(), payment.getPaymentAmount(), null, null);
+
+            paymentStrategyFactory.getStrategy(PaymentMethod.POINTS).performNetCancellation(usedPoints, refundRequest);
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.payment.service;
+
+import com.example.payment.client.InicisApiClient;
+import com.example.payment.client.PgWebClientFactory;
+import com.example.payment.client.TossApiClient;
+import com.example.payment.config.InicisConfig;
+import com.example.payment.config.PgWarmupConfig;
+import com.example.payment.config.TossConfig;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 기동 시 PG 커넥션 미리 열기
+ * 배포 직후 첫 결제 승인이 DNS 조회, TCP 연결, TLS 핸드셰이크 시간을 부담하지 않도록 PG 호스트별 커넥션을 풀에 미리 열어둠
+ * ApplicationRunner는 준비 상태(readiness)가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로 완료 후 트래픽을 받음
+ */
+@Service
+@RequiredArgsConstructor
+public class PgConnectionWarmupService implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgConnectionWarmupService.class);
+
+    private final PgWebClientFactory pgWebClientFactory;
+    private final PgWarmupConfig warmupConfig;
+    private final TossConfig tossConfig;
+    private final InicisConfig inicisConfig;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmupConfig.isEnabled()) {
+            return;
+        }
+
+        Map<String, List<String>> targets = new LinkedHashMap<>();
+        targets.put(TossApiClient.POOL_NAME, warmupUrls(tossConfig.getHttp().getWarmupUrls(),
+                tossConfig.getExecuteUrl(), tossConfig.getCancelUrl()));
+        targets.put(InicisApiClient.POOL_NAME, warmupUrls(inicisConfig.getHttp().getWarmupUrls(),
+                inicisConfig.getRefundUrl()));
+
+        logger.info("=== PG 커넥션 미리 열기 시작: 호스트별 {}개 ===", warmupConfig.getConnectionsPerHost());
+        long startTime = System.currentTimeMillis();
+
+        Long opened = Flux.fromIterable(targets.entrySet())
+                .flatMap(target -> pgWebClientFactory.warmUp(target.getKey(), target.getValue(),
+                        connectionsPerHost(target.getKey())))
+                .reduce(0L, Long::sum)
+                .timeout(warmupConfig.getTimeout())
+                .onErrorResume(e -> {
+                    // 커넥션 미리 열기 실패로 기동을 막지 않음 (첫 요청에서 커넥션 생성)
+                    logger.warn("PG 커넥션 미리 열기 중단: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .block();
+
+        logger.info("=== PG 커넥션 미리 열기 완료: {}개, {}ms ===",
+                opened != null ? opened : 0, System.currentTimeMillis() - startTime);
+    }
+
+    private int connectionsPerHost(String pgName) {
+        int maxConnections = TossApiClient.POOL_NAME.equals(pgName)
+                ? tossConfig.getHttp().getMaxConnections()
+                : inicisConfig.getHttp().getMaxConnections();
+        return Math.min(warmupConfig.getConnectionsPerHost(), maxConnections);
+    }
+
+    /**
+     * 미리 열 URL 목록 (설정하지 않은 URL은 제외 - null이 있으면 Flux.fromIterable이 실패하여 전체 미리 열기가 중단됨)
+     */
+    private List<String> warmupUrls(List<String> extraUrls, String... apiUrls) {
+        List<String> urls = new ArrayList<>(Arrays.asList(apiUrls));
+        urls.addAll(extraUrls);
+        urls.removeIf(Objects::isNull);
+        return urls;
+    }
+}
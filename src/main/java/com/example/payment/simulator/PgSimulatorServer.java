@@ -0,0 +1,369 @@
+package com.example.payment.simulator;
+
+import com.example.payment.config.PgSimulatorConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import jakarta.annotation.PostConstruct;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 부하/지연 테스트용 PG 시뮬레이터 (pg-simulator 프로파일)
+ * 토스/이니시스 샌드박스 대신 TossApiClient, InicisApiClient가 호출하는 API를 같은 요청/응답 형식으로 제공
+ * - 토스: POST /v1/payments/confirm, POST /v1/payments/{paymentKey}/cancel
+ * - 이니시스: POST /api/payAuth (authUrl), POST /v2/pg/refund, POST /api/netCancel (netCancelUrl)
+ * API별 응답 지연(로그정규분포), 오류/거절/지연 응답 비율은 pg-simulator.endpoints 설정으로 조절
+ * 지연은 타이머로 처리하여 동시 요청이 많아도 스레드를 점유하지 않음
+ */
+@Component
+@Profile("pg-simulator")
+public class PgSimulatorServer implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgSimulatorServer.class);
+
+    public static final String TOSS_CONFIRM = "toss-confirm";
+    public static final String TOSS_CANCEL = "toss-cancel";
+    public static final String INICIS_APPROVAL = "inicis-approval";
+    public static final String INICIS_REFUND = "inicis-refund";
+    public static final String INICIS_NET_CANCEL = "inicis-netcancel";
+
+    private static final double Z_99 = 2.3263; // 표준정규분포 99 백분위
+
+    private static final DateTimeFormatter INICIS_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter INICIS_TIME = DateTimeFormatter.ofPattern("HHmmss");
+    private static final DateTimeFormatter INICIS_TID_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final PgSimulatorConfig simulatorConfig;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Counter> requestCounters = new ConcurrentHashMap<>();
+
+    private DisposableServer server;
+
+    public PgSimulatorServer(PgSimulatorConfig simulatorConfig, MeterRegistry meterRegistry) {
+        this.simulatorConfig = simulatorConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 애플리케이션 기동(PG 커넥션 미리 열기) 전에 시뮬레이터를 먼저 띄움
+     */
+    @PostConstruct
+    public void start() {
+        server = HttpServer.create()
+                .port(simulatorConfig.getPort())
+                .route(routes -> routes
+                        .post("/v1/payments/confirm", (request, response) ->
+                                handle(TOSS_CONFIRM, request, response, this::tossConfirm))
+                        .post("/v1/payments/{paymentKey}/cancel", (request, response) ->
+                                handle(TOSS_CANCEL, request, response, body -> tossCancel(request.param("paymentKey"), body)))
+                        .post("/api/payAuth", (request, response) ->
+                                handle(INICIS_APPROVAL, request, response, this::inicisApproval))
+                        .post("/v2/pg/refund", (request, response) ->
+                                handle(INICIS_REFUND, request, response, this::inicisRefund))
+                        .post("/api/netCancel", (request, response) ->
+                                handle(INICIS_NET_CANCEL, request, response, this::inicisNetCancel)))
+                .bindNow();
+
+        logger.info("PG 시뮬레이터 기동: port={}, API별 설정={}", server.port(), simulatorConfig.getEndpoints().keySet());
+    }
+
+    /**
+     * 요청 본문을 읽고 설정된 비율에 따라 정상/거절/오류/지연 응답 결정
+     */
+    private Publisher<Void> handle(String endpoint, HttpServerRequest request, HttpServerResponse response,
+                                   Function<String, SimulatedResponse> approve) {
+        PgSimulatorConfig.Behavior behavior = simulatorConfig.getBehavior(endpoint);
+
+        return request.receive().aggregate().asString(StandardCharsets.UTF_8)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    if (endpoint.startsWith("toss") && !hasBasicAuthorization(request)) {
+                        return new SimulatedResponse("unauthorized", HttpResponseStatus.UNAUTHORIZED,
+                                tossError("UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다."), sampleLatency(behavior));
+                    }
+
+                    double random = ThreadLocalRandom.current().nextDouble();
+                    if (random < behavior.getErrorRate()) {
+                        return error(endpoint, behavior);
+                    }
+                    random -= behavior.getErrorRate();
+                    if (random < behavior.getDeclineRate()) {
+                        return decline(endpoint, behavior);
+                    }
+                    random -= behavior.getDeclineRate();
+                    if (random < behavior.getTimeoutRate()) {
+                        return approve.apply(body).delayed("timeout", behavior.getTimeoutDelay());
+                    }
+                    return approve.apply(body).delayed("success", sampleLatency(behavior));
+                })
+                .flatMap(simulated -> Mono.delay(simulated.latency())
+                        .then(Mono.fromCallable(() -> toJson(simulated.body())))
+                        .flatMap(json -> {
+                            countRequest(endpoint, simulated.outcome());
+                            return response.status(simulated.status())
+                                    .header(HttpHeaderNames.CONTENT_TYPE, "application/json; charset=UTF-8")
+                                    .sendString(Mono.just(json), StandardCharsets.UTF_8)
+                                    .then();
+                        }));
+    }
+
+    /**
+     * 로그정규분포에서 응답 지연 추출 (중앙값과 p99로 분포 결정)
+     */
+    private Duration sampleLatency(PgSimulatorConfig.Behavior behavior) {
+        double medianMillis = behavior.getLatencyMedian().toNanos() / 1_000_000.0;
+        double p99Millis = behavior.getLatencyP99().toNanos() / 1_000_000.0;
+        if (medianMillis <= 0) {
+            return Duration.ZERO;
+        }
+
+        double sigma = p99Millis > medianMillis ? Math.log(p99Millis / medianMillis) / Z_99 : 0.0;
+        double latencyMillis = medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        return Duration.ofNanos((long) (latencyMillis * 1_000_000));
+    }
+
+    private SimulatedResponse tossConfirm(String body) {
+        Map<String, Object> request = readJson(body);
+        Object amount = request.getOrDefault("amount", 0);
+        String now = OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+        Map<String, Object> card = new LinkedHashMap<>();
+        card.put("issuerCode", "71");
+        card.put("acquirerCode", "71");
+        card.put("number", "12345678****000*");
+        card.put("installmentPlanMonths", 0);
+        card.put("approveNo", randomDigits(8));
+        card.put("cardType", "신용");
+        card.put("ownerType", "개인");
+        card.put("acquireStatus", "READY");
+        card.put("amount", amount);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mId", "tosspayments");
+        result.put("lastTransactionKey", randomHex(32));
+        result.put("paymentKey", request.get("paymentKey"));
+        result.put("orderId", request.get("orderId"));
+        result.put("orderName", "PG 시뮬레이터 결제");
+        result.put("status", "DONE");
+        result.put("requestedAt", now);
+        result.put("approvedAt", now);
+        result.put("type", "NORMAL");
+        result.put("method", "카드");
+        result.put("card", card);
+        result.put("currency", "KRW");
+        result.put("totalAmount", amount);
+        result.put("balanceAmount", amount);
+        result.put("version", "2022-11-16");
+        return SimulatedResponse.ok(result);
+    }
+
+    private SimulatedResponse tossCancel(String paymentKey, String body) {
+        Map<String, Object> request = readJson(body);
+        String now = OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+        Map<String, Object> cancel = new LinkedHashMap<>();
+        cancel.put("transactionKey", randomHex(32));
+        cancel.put("cancelReason", request.get("cancelReason"));
+        cancel.put("canceledAt", now);
+        cancel.put("cancelStatus", "DONE");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mId", "tosspayments");
+        result.put("paymentKey", paymentKey);
+        result.put("status", "CANCELED");
+        result.put("method", "카드");
+        result.put("cancels", List.of(cancel));
+        result.put("balanceAmount", 0);
+        result.put("version", "2022-11-16");
+        return SimulatedResponse.ok(result);
+    }
+
+    private SimulatedResponse inicisApproval(String body) {
+        Map<String, String> form = readForm(body);
+        LocalDateTime now = LocalDateTime.now();
+        String mid = form.getOrDefault("mid", "INIpayTest");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("resultCode", "0000");
+        result.put("resultMsg", "정상처리되었습니다.");
+        result.put("tid", "StdpayCARD" + mid + now.format(INICIS_TID_TIME) + randomDigits(6));
+        result.put("mid", mid);
+        result.put("payMethod", "Card");
+        result.put("applDate", now.format(INICIS_DATE));
+        result.put("applTime", now.format(INICIS_TIME));
+        result.put("applNum", randomDigits(8));
+        result.put("CARD_Num", "12345678****000*");
+        result.put("CARD_Quota", "00");
+        result.put("CARD_Code", "11");
+        result.put("currency", "WON");
+        return SimulatedResponse.ok(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SimulatedResponse inicisRefund(String body) {
+        Map<String, Object> request = readJson(body);
+        Object data = request.get("data");
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("resultCode", "00");
+        result.put("resultMsg", "정상처리되었습니다.");
+        result.put("tid", data instanceof Map ? ((Map<String, Object>) data).get("tid") : null);
+        result.put("cancelDate", now.format(INICIS_DATE));
+        result.put("cancelTime", now.format(INICIS_TIME));
+        return SimulatedResponse.ok(result);
+    }
+
+    private SimulatedResponse inicisNetCancel(String body) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("resultCode", "0000");
+        result.put("resultMsg", "망취소 성공");
+        return SimulatedResponse.ok(result);
+    }
+
+    /**
+     * PG 내부 오류 응답 (HTTP 500)
+     */
+    private SimulatedResponse error(String endpoint, PgSimulatorConfig.Behavior behavior) {
+        Object body = endpoint.startsWith("toss")
+                ? tossError("FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다. 잠시 후 다시 시도해주세요.")
+                : inicisResult("9999", "시스템 오류");
+        return new SimulatedResponse("error", HttpResponseStatus.INTERNAL_SERVER_ERROR, body, sampleLatency(behavior));
+    }
+
+    /**
+     * 결제 거절 응답 (토스: HTTP 400 에러 코드, 이니시스: HTTP 200 실패 resultCode)
+     */
+    private SimulatedResponse decline(String endpoint, PgSimulatorConfig.Behavior behavior) {
+        Duration latency = sampleLatency(behavior);
+        return switch (endpoint) {
+            case TOSS_CONFIRM -> new SimulatedResponse("decline", HttpResponseStatus.BAD_REQUEST,
+                    tossError("REJECT_CARD_COMPANY", "카드사에서 결제를 거절했습니다."), latency);
+            case TOSS_CANCEL -> new SimulatedResponse("decline", HttpResponseStatus.BAD_REQUEST,
+                    tossError("NOT_CANCELABLE_PAYMENT", "취소 할 수 없는 결제 입니다."), latency);
+            case INICIS_REFUND -> new SimulatedResponse("decline", HttpResponseStatus.OK,
+                    inicisResult("01", "취소 불가 거래입니다."), latency);
+            default -> new SimulatedResponse("decline", HttpResponseStatus.OK,
+                    inicisResult("V801", "카드사 승인 거절"), latency);
+        };
+    }
+
+    private Map<String, Object> tossError(String code, String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("code", code);
+        error.put("message", message);
+        return error;
+    }
+
+    private Map<String, Object> inicisResult(String resultCode, String resultMsg) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("resultCode", resultCode);
+        result.put("resultMsg", resultMsg);
+        return result;
+    }
+
+    private boolean hasBasicAuthorization(HttpServerRequest request) {
+        String authorization = request.requestHeaders().get(HttpHeaderNames.AUTHORIZATION);
+        return authorization != null && authorization.startsWith("Basic ");
+    }
+
+    private Map<String, Object> readJson(String body) {
+        if (body.isBlank()) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            return new HashMap<>();
+        }
+    }
+
+    private Map<String, String> readForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            if (keyValue.length == 2) {
+                form.put(URLDecoder.decode(keyValue[0], StandardCharsets.UTF_8),
+                        URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private String toJson(Object body) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private void countRequest(String endpoint, String outcome) {
+        requestCounters.computeIfAbsent(endpoint + ":" + outcome, key -> Counter.builder("pg.simulator.requests")
+                        .description("PG 시뮬레이터 응답 수")
+                        .tag("endpoint", endpoint)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static String randomDigits(int length) {
+        StringBuilder digits = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            digits.append(ThreadLocalRandom.current().nextInt(10));
+        }
+        return digits.toString();
+    }
+
+    private static String randomHex(int length) {
+        StringBuilder hex = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            hex.append(Character.toUpperCase(Character.forDigit(ThreadLocalRandom.current().nextInt(16), 16)));
+        }
+        return hex.toString();
+    }
+
+    @Override
+    public void destroy() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private record SimulatedResponse(String outcome, HttpResponseStatus status, Object body, Duration latency) {
+
+        static SimulatedResponse ok(Object body) {
+            return new SimulatedResponse("success", HttpResponseStatus.OK, body, Duration.ZERO);
+        }
+
+        SimulatedResponse delayed(String outcome, Duration latency) {
+            return new SimulatedResponse(outcome, status, body, latency);
+        }
+    }
+}
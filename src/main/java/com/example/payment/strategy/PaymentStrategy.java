@@ -4,11 +4,24 @@ import com.example.payment.dto.PaymentConfirmRequest;
 import com.example.payment.dto.PaymentCancelRequest;
 import com.example.payment.dto.PaymentProcessResult;
 import com.example.payment.dto.PaymentCancelResult;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public interface PaymentStrategy {
 
     PaymentProcessResult processPayment(PaymentConfirmRequest request);
 
+    /**
+     * 결제 처리 (논블로킹)
+     * 기본 구현은 블로킹 처리를 별도 스레드에서 실행하며, 외부 호출이 논블로킹인 결제수단은 재정의
+     * @param request 결제 요청 정보
+     * @return 결제 처리 결과
+     */
+    default Mono<PaymentProcessResult> processPaymentAsync(PaymentConfirmRequest request) {
+        return Mono.fromCallable(() -> processPayment(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     PaymentCancelResult cancelPayment(PaymentCancelRequest request);
 
     /**
@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.HashMap;
@@ -31,6 +32,23 @@ public class CardPaymentStrategy implements PaymentStrategy {
         PaymentGatewayStrategy gatewayStrategy = gatewayStrategyFactory.getStrategy(request.getPgProvider());
         PaymentGatewayResponse gatewayResponse = gatewayStrategy.processApproval(request);
 
+        return toProcessResult(request, gatewayResponse);
+    }
+
+    @Override
+    public Mono<PaymentProcessResult> processPaymentAsync(PaymentConfirmRequest request) {
+        return Mono.defer(() -> {
+            // PG 전략 선택 및 논블로킹 승인 실행
+            PaymentGatewayStrategy gatewayStrategy = gatewayStrategyFactory.getStrategy(request.getPgProvider());
+            return gatewayStrategy.processApprovalAsync(request)
+                    .map(gatewayResponse -> toProcessResult(request, gatewayResponse));
+        });
+    }
+
+    /**
+     * PG 승인 결과를 결제 처리 결과로 변환
+     */
+    private PaymentProcessResult toProcessResult(PaymentConfirmRequest request, PaymentGatewayResponse gatewayResponse) {
         // 각 PG사에서 이미 tid를 세팅해서 왔으므로 바로 사용
         String tid = gatewayResponse.getTid();
         Long amount = request.getTotalAmount() != null ? request.getTotalAmount() : request.getAmount();
@@ -104,7 +122,8 @@ public class CardPaymentStrategy implements PaymentStrategy {
             logger.warn("=== 카드결제 망취소 완료 ===");
         } catch (Exception e) {
             logger.error("카드결제 망취소 실패: {}", e.getMessage());
-            // 망취소 실패는 로그만 남기고 예외를 던지지 않음 (원본 예외가 더 중요)
+            // 망취소 작업에서 재시도할 수 있도록 실패를 전달
+            throw new RuntimeException("카드결제 망취소 실패: " + e.getMessage(), e);
         }
     }
 }
\ No newline at end of file
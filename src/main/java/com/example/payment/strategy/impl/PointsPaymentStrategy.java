@@ -4,7 +4,6 @@ import com.example.payment.dto.PaymentConfirmRequest;
 import com.example.payment.dto.PaymentCancelRequest;
 import com.example.payment.dto.PaymentProcessResult;
 import com.example.payment.dto.PaymentCancelResult;
-import com.example.payment.entity.Member;
 import com.example.payment.entity.PointHistory;
 import com.example.payment.repository.MemberRepository;
 import com.example.payment.repository.PointHistoryRepository;
@@ -13,7 +12,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,48 +30,41 @@ public class PointsPaymentStrategy implements PaymentStrategy {
     private PointHistoryRepository pointHistoryRepository;
     
     @Override
+    @Transactional
     public PaymentProcessResult processPayment(PaymentConfirmRequest request) {
         logger.info("=== 적립금 결제 승인 처리 시작 ===");
         
         Long paymentAmount = request.getTotalAmount() != null ? request.getTotalAmount() : request.getAmount();
         
-        // 1. 회원 정보 조회
+        // 1. 회원 ID 확인
         if (request.getMemberId() == null || request.getMemberId().trim().isEmpty()) {
             throw new IllegalArgumentException("적립금 결제를 위해서는 회원 ID가 필요합니다.");
         }
         
-        Member member = memberRepository.findByMemberId(request.getMemberId())
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + request.getMemberId()));
-        
-        // 2. 적립금 잔액 확인
-        if (member.getPoints() < paymentAmount) {
-            logger.warn("적립금 잔액 부족 - 보유: {}원, 요청: {}원", member.getPoints(), paymentAmount);
+        // 2. 적립금 차감 처리 - 잔액 확인과 차감을 하나의 조건부 UPDATE로 처리 (동시 결제 시 초과 사용 방지)
+        int deducted = memberRepository.deductPoints(request.getMemberId(), paymentAmount, LocalDateTime.now());
+        if (deducted == 0) {
+            // 차감 실패 시에만 원인 확인용으로 잔액 조회
+            Long currentPoints = memberRepository.findPointsByMemberId(request.getMemberId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + request.getMemberId()));
+            
+            logger.warn("적립금 잔액 부족 - 보유: {}원, 요청: {}원", currentPoints, paymentAmount);
             throw new IllegalArgumentException(
                 String.format("적립금 잔액이 부족합니다. 보유: %d원, 결제요청: %d원", 
-                             member.getPoints(), paymentAmount));
+                             currentPoints, paymentAmount));
         }
         
-        // 3. 적립금 차감 처리
-        member.usePoints(paymentAmount);
-        memberRepository.save(member);
-        
-        logger.info("적립금 차감 완료 - 차감금액: {}원, 잔여적립금: {}원", paymentAmount, member.getPoints());
-        
-        // 4. 포인트 히스토리 저장
-        PointHistory pointHistory = new PointHistory(
-            member,
-            PointHistory.PointType.USE,
-            paymentAmount,
-            request.getOrderId()
-        );
-        pointHistoryRepository.save(pointHistory);
+        // 3. 포인트 히스토리 저장
+        pointHistoryRepository.insertHistory(request.getMemberId(), PointHistory.PointType.USE, paymentAmount, request.getOrderId());
         
-        logger.info("포인트 히스토리 저장 완료");
+        // 응답의 잔여 적립금(pgResult.remainingPoints)용 조회 - 같은 트랜잭션에서 차감한 행을 읽음
+        Long remainingPoints = memberRepository.findPointsByMemberId(request.getMemberId()).orElse(0L);
+        logger.info("적립금 차감 완료 - 차감금액: {}원, 잔여적립금: {}원", paymentAmount, remainingPoints);
         
-        // 5. 적립금 결과 데이터 구성
+        // 4. 적립금 결과 데이터 구성
         Map<String, Object> pgResult = new HashMap<>();
         pgResult.put("memberId", request.getMemberId());
-        pgResult.put("remainingPoints", member.getPoints());
+        pgResult.put("remainingPoints", remainingPoints);
         pgResult.put("usedPoints", paymentAmount);
         
         logger.info("=== 적립금 결제 승인 처리 완료 ===");
@@ -79,6 +73,7 @@ public class PointsPaymentStrategy implements PaymentStrategy {
     }
     
     @Override
+    @Transactional
     public PaymentCancelResult cancelPayment(PaymentCancelRequest request) {
         logger.info("=== 적립금 결제 취소 처리 시작 ===");
         logger.info("주문번호: {}", request.getOrderId());
@@ -87,14 +82,11 @@ public class PointsPaymentStrategy implements PaymentStrategy {
 
         Long cancelAmount = request.getAmount();
 
-        // 1. 회원 정보 조회
+        // 1. 회원 ID 확인
         if (request.getMemberId() == null || request.getMemberId().trim().isEmpty()) {
             throw new IllegalArgumentException("적립금 취소를 위해서는 회원 ID가 필요합니다.");
         }
 
-        Member member = memberRepository.findByMemberId(request.getMemberId())
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + request.getMemberId()));
-
         // 2. 기존 사용 내역 확인 (검증용)
         PointHistory existingUseHistory = pointHistoryRepository.findByOrderIdAndPointType(
             request.getOrderId(), PointHistory.PointType.USE)
@@ -124,27 +116,16 @@ public class PointsPaymentStrategy implements PaymentStrategy {
                              cancelAmount, originalUsedAmount));
         }
 
-        member.addPoints(cancelAmount);
-        memberRepository.save(member);
-
-        logger.info("적립금 환원 완료 - 환원금액: {}원, 현재적립금: {}원", cancelAmount, member.getPoints());
-
-        // 5. 포인트 히스토리 저장 (환불 타입으로)
-        PointHistory refundHistory = new PointHistory(
-            member,
-            PointHistory.PointType.REFUND,
-            cancelAmount,
-            request.getOrderId()
-        );
-        pointHistoryRepository.save(refundHistory);
+        restorePoints(request.getMemberId(), cancelAmount, request.getOrderId());
 
-        logger.info("포인트 히스토리 저장 완료 (환불)");
+        Long currentPoints = memberRepository.findPointsByMemberId(request.getMemberId()).orElse(0L);
+        logger.info("적립금 환원 완료 - 환원금액: {}원, 현재적립금: {}원", cancelAmount, currentPoints);
 
-        // 6. 취소 결과 데이터 구성
+        // 5. 취소 결과 데이터 구성
         Map<String, Object> pgResult = new HashMap<>();
         pgResult.put("memberId", request.getMemberId());
         pgResult.put("refundedPoints", cancelAmount);
-        pgResult.put("currentPoints", member.getPoints());
+        pgResult.put("currentPoints", currentPoints);
         pgResult.put("canceledAt", java.time.LocalDateTime.now());
 
         logger.info("=== 적립금 결제 취소 처리 완료 ===");
@@ -153,9 +134,26 @@ public class PointsPaymentStrategy implements PaymentStrategy {
     }
 
     @Override
+    @Transactional
     public void performNetCancellation(PaymentProcessResult processResult, PaymentConfirmRequest request) {
-        // 적립금 결제는 DB 트랜잭션 롤백으로 자동 처리되므로 별도 망취소 불필요
-        logger.info("적립금 결제 망취소: DB 트랜잭션 롤백으로 자동 처리됩니다. orderId={}, amount={}",
+        // 적립금 차감은 예약 트랜잭션에서 이미 커밋되었으므로 차감한 적립금을 환원
+        logger.warn("=== 적립금 결제 망취소 시작 === orderId={}, amount={}",
                    processResult.getOrderId(), processResult.getAmount());
+
+        restorePoints(request.getMemberId(), processResult.getAmount(), processResult.getOrderId());
+
+        logger.warn("=== 적립금 결제 망취소 완료 - 환원금액: {}원 ===", processResult.getAmount());
+    }
+
+    /**
+     * 적립금 환원 - 조건 없는 UPDATE로 환원하고 환불 히스토리 저장
+     */
+    private void restorePoints(String memberId, Long amount, String orderId) {
+        int restored = memberRepository.restorePoints(memberId, amount, LocalDateTime.now());
+        if (restored == 0) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다: " + memberId);
+        }
+
+        pointHistoryRepository.insertHistory(memberId, PointHistory.PointType.REFUND, amount, orderId);
     }
 }
\ No newline at end of file
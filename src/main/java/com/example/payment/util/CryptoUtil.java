@@ -3,10 +3,6 @@ package com.example.payment.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
 public class CryptoUtil {
     
     private static final Logger logger = LoggerFactory.getLogger(CryptoUtil.class);
@@ -17,27 +13,9 @@ public class CryptoUtil {
      * @return SHA256 해시 문자열 (소문자)
      */
     public static String generateSHA256(String data) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data.getBytes(StandardCharsets.UTF_8));
-            
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            
-            String result = hexString.toString();
-            logger.debug("SHA256 해시 생성 - 원본: {}, 해시: {}", data, result);
-            return result;
-            
-        } catch (NoSuchAlgorithmException e) {
-            logger.error("SHA-256 알고리즘을 찾을 수 없습니다: {}", e.getMessage());
-            throw new RuntimeException("SHA-256 해시 생성 실패", e);
-        }
+        String result = Hashing.sha256Hex(data);
+        logger.debug("SHA256 해시 생성 - 원본: {}, 해시: {}", data, result);
+        return result;
     }
     
     /**
@@ -46,27 +24,9 @@ public class CryptoUtil {
      * @return SHA512 해시 문자열 (소문자)
      */
     public static String generateSHA512(String data) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-512");
-            byte[] hash = digest.digest(data.getBytes(StandardCharsets.UTF_8));
-            
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            
-            String result = hexString.toString();
-            logger.debug("SHA512 해시 생성 - 원본: {}, 해시: {}", data, result);
-            return result;
-            
-        } catch (NoSuchAlgorithmException e) {
-            logger.error("SHA-512 알고리즘을 찾을 수 없습니다: {}", e.getMessage());
-            throw new RuntimeException("SHA-512 해시 생성 실패", e);
-        }
+        String result = Hashing.sha512Hex(data);
+        logger.debug("SHA512 해시 생성 - 원본: {}, 해시: {}", data, result);
+        return result;
     }
     
     /**
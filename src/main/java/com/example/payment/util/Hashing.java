@@ -0,0 +1,174 @@
+package com.example.payment.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SHA-256/SHA-512 해시 생성 (소문자 hex 문자열)
+ * MessageDigest와 입력/해시/hex 버퍼를 재사용하여 호출마다 결과 문자열 외에는 객체를 만들지 않음
+ * - 플랫폼 스레드: 스레드별(ThreadLocal) 재사용
+ * - 가상 스레드: 요청마다 스레드가 새로 만들어지므로 공용 풀에서 빌려 쓰고 반납
+ */
+public final class Hashing {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 재사용하는 입력 버퍼 최대 크기 (더 긴 입력은 호출마다 버퍼 생성)
+     */
+    private static final int MAX_RETAINED_INPUT = 8 * 1024;
+
+    /**
+     * 가상 스레드용 풀에 보관하는 최대 엔진 수 (알고리즘별)
+     */
+    private static final int MAX_POOLED_ENGINES = 64;
+
+    private static final Algorithm SHA_256 = new Algorithm("SHA-256");
+    private static final Algorithm SHA_512 = new Algorithm("SHA-512");
+
+    private Hashing() {
+    }
+
+    /**
+     * SHA-256 해시 (UTF-8 인코딩)
+     * @return 64자리 소문자 hex 문자열
+     */
+    public static String sha256Hex(String data) {
+        return hashHex(SHA_256, data);
+    }
+
+    /**
+     * SHA-512 해시 (UTF-8 인코딩)
+     * @return 128자리 소문자 hex 문자열
+     */
+    public static String sha512Hex(String data) {
+        return hashHex(SHA_512, data);
+    }
+
+    private static String hashHex(Algorithm algorithm, String data) {
+        boolean virtual = Thread.currentThread().isVirtual();
+        Engine engine = virtual ? algorithm.borrow() : algorithm.threadLocal.get();
+        try {
+            return engine.hashHex(data);
+        } finally {
+            if (virtual) {
+                algorithm.giveBack(engine);
+            }
+        }
+    }
+
+    /**
+     * 알고리즘별 엔진 보관 (스레드별 + 가상 스레드용 풀)
+     */
+    private static final class Algorithm {
+        private final String name;
+        private final ThreadLocal<Engine> threadLocal;
+        private final Queue<Engine> pool = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pooled = new AtomicInteger();
+
+        Algorithm(String name) {
+            this.name = name;
+            this.threadLocal = ThreadLocal.withInitial(() -> new Engine(name));
+        }
+
+        Engine borrow() {
+            Engine engine = pool.poll();
+            if (engine == null) {
+                return new Engine(name);
+            }
+            pooled.decrementAndGet();
+            return engine;
+        }
+
+        void giveBack(Engine engine) {
+            if (pooled.incrementAndGet() <= MAX_POOLED_ENGINES) {
+                pool.offer(engine);
+            } else {
+                pooled.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * MessageDigest와 재사용 버퍼 (한 번에 한 스레드만 사용)
+     */
+    private static final class Engine {
+        private final MessageDigest digest;
+        private final byte[] hash;
+        private final byte[] hex;
+        private byte[] input = new byte[256];
+
+        Engine(String algorithm) {
+            try {
+                this.digest = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(algorithm + " 알고리즘을 찾을 수 없습니다", e);
+            }
+            this.hash = new byte[digest.getDigestLength()];
+            this.hex = new byte[hash.length * 2];
+        }
+
+        String hashHex(String data) {
+            int maxLength = data.length() * 3; // UTF-8 최대 길이 (서로게이트 쌍은 2글자에 4바이트)
+            byte[] buffer = input;
+            if (maxLength > buffer.length) {
+                buffer = new byte[maxLength];
+                if (maxLength <= MAX_RETAINED_INPUT) {
+                    input = buffer;
+                }
+            }
+
+            try {
+                digest.update(buffer, 0, encodeUtf8(data, buffer));
+                digest.digest(hash, 0, hash.length);
+            } catch (DigestException e) {
+                digest.reset();
+                throw new IllegalStateException(digest.getAlgorithm() + " 해시 생성 실패", e);
+            }
+
+            for (int i = 0; i < hash.length; i++) {
+                hex[i * 2] = HEX[(hash[i] >> 4) & 0x0f];
+                hex[i * 2 + 1] = HEX[hash[i] & 0x0f];
+            }
+            return new String(hex, StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * UTF-8 인코딩 (String.getBytes(UTF_8)와 같은 결과, 짝이 없는 서로게이트는 '?')
+         * @return 인코딩된 바이트 수
+         */
+        private static int encodeUtf8(String data, byte[] out) {
+            int length = data.length();
+            int position = 0;
+            for (int i = 0; i < length; i++) {
+                char c = data.charAt(i);
+                if (c < 0x80) {
+                    out[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    out[position++] = (byte) (0xc0 | (c >> 6));
+                    out[position++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                        out[position++] = (byte) (0xf0 | (codePoint >> 18));
+                        out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                        out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                        out[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                    } else {
+                        out[position++] = '?';
+                    }
+                } else {
+                    out[position++] = (byte) (0xe0 | (c >> 12));
+                    out[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    out[position++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+-- 초기 스키마 (ddl-auto: update로 관리하던 스키마)
+-- 기존 DB에도 적용할 수 있도록 이미 있는 객체는 건너뜀
+
+CREATE SEQUENCE IF NOT EXISTS members_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS payments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS payment_event_outbox_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS net_cancel_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS members (
+    id BIGINT NOT NULL,
+    member_id VARCHAR(50) NOT NULL UNIQUE,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) UNIQUE,
+    phone VARCHAR(20),
+    points BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS payments (
+    id BIGINT NOT NULL,
+    order_id VARCHAR(100) NOT NULL,
+    member_id BIGINT NOT NULL,
+    payment_method ENUM ('CARD', 'POINTS') NOT NULL,
+    pay_type ENUM ('APPROVE', 'CANCEL'),
+    status ENUM ('COMPLETED', 'FAILED', 'PENDING'),
+    pg_provider VARCHAR(50),
+    payment_amount BIGINT NOT NULL,
+    product_name VARCHAR(255),
+    tid VARCHAR(100),
+    payment_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS point_histories (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    member_id BIGINT NOT NULL,
+    point_type VARCHAR(20) NOT NULL,
+    point_amount BIGINT NOT NULL,
+    order_id VARCHAR(100),
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS interface_histories (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    interface_type VARCHAR(50) NOT NULL,
+    api_name VARCHAR(100) NOT NULL,
+    request_url VARCHAR(500),
+    request_json TEXT,
+    response_json TEXT,
+    response_code VARCHAR(10),
+    error_message TEXT,
+    order_id VARCHAR(100),
+    request_time TIMESTAMP(6) NOT NULL,
+    response_time TIMESTAMP(6),
+    processing_time_ms BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    idempotency_key VARCHAR(100) NOT NULL UNIQUE,
+    order_id VARCHAR(100) NOT NULL,
+    member_id VARCHAR(50),
+    status ENUM ('COMPLETED', 'IN_PROGRESS') NOT NULL,
+    response_json TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    completed_at TIMESTAMP(6),
+    expires_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS net_cancel_outbox (
+    id BIGINT NOT NULL,
+    order_id VARCHAR(100) NOT NULL,
+    payment_method ENUM ('CARD', 'POINTS') NOT NULL,
+    pg_provider VARCHAR(50),
+    tid VARCHAR(100),
+    amount BIGINT NOT NULL,
+    auth_result_json TEXT,
+    status ENUM ('COMPLETED', 'FAILED', 'PENDING', 'PROCESSING') NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    locked_until TIMESTAMP(6),
+    last_error TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS payment_event_outbox (
+    id BIGINT NOT NULL,
+    event_type ENUM ('PAYMENT_APPROVED', 'PAYMENT_CANCELED') NOT NULL,
+    order_id VARCHAR(100) NOT NULL,
+    payment_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_payments_member_payment_at ON payments (member_id, payment_at, id);
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+CREATE INDEX IF NOT EXISTS idx_net_cancel_outbox_status_next ON net_cancel_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_payment_event_outbox_published ON payment_event_outbox (published_at, id);
+
+-- 외래키 이름은 ddl-auto: update가 생성한 이름과 동일하게 유지 (기존 DB에서 중복 생성 방지)
+ALTER TABLE payments ADD CONSTRAINT IF NOT EXISTS FKtvbq19graff4nnoqpngbe762
+    FOREIGN KEY (member_id) REFERENCES members (id);
+ALTER TABLE point_histories ADD CONSTRAINT IF NOT EXISTS FK4nvhu288s9kbuynnin38cv0g5
+    FOREIGN KEY (member_id) REFERENCES members (id);
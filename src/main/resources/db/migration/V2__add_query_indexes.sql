@@ -0,0 +1,17 @@
+-- 조회 조건/정렬에 맞춘 인덱스 (데이터가 늘어도 전체 테이블 스캔 없이 조회)
+
+-- 주문별 결제 조회 (findSummariesByOrderId, findByOrderIdAndStatus, 망취소/취소 대상 조회)
+CREATE INDEX IF NOT EXISTS idx_payments_order_payment_at ON payments (order_id, payment_at, id);
+-- PENDING 결제 복구 대상 조회 (findOrderIdsByStatusAndCreatedAtBefore)
+CREATE INDEX IF NOT EXISTS idx_payments_status_created_at ON payments (status, created_at);
+
+-- 주문별 적립금 사용/환원 이력 조회 (findByOrderIdAndPointType)
+CREATE INDEX IF NOT EXISTS idx_point_histories_order_type ON point_histories (order_id, point_type);
+-- 회원별 적립금 이력 조회 (findByMemberOrderByCreatedAtDesc)
+CREATE INDEX IF NOT EXISTS idx_point_histories_member_created ON point_histories (member_id, created_at);
+
+-- 인터페이스 이력 조회 (주문별, PG사별, 응답코드별, 기간별)
+CREATE INDEX IF NOT EXISTS idx_interface_histories_order_time ON interface_histories (order_id, request_time);
+CREATE INDEX IF NOT EXISTS idx_interface_histories_type_time ON interface_histories (interface_type, request_time);
+CREATE INDEX IF NOT EXISTS idx_interface_histories_code_time ON interface_histories (response_code, request_time);
+CREATE INDEX IF NOT EXISTS idx_interface_histories_time ON interface_histories (request_time);
@@ -0,0 +1,3 @@
+-- PG 승인 전 PENDING 결제의 카드 인증결과 (승인 결과를 알 수 없는 결제를 복구 작업에서 망취소하기 위해 보관)
+-- 확정/실패로 전환되면 비움
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS auth_result_json TEXT;
@@ -0,0 +1,5 @@
+-- 멱등키를 회원 단위로 구분 (저장 키: 회원 ID + ':' + Idempotency-Key, 회원 ID 50자 + 구분자 + 키 100자)
+ALTER TABLE idempotency_keys ALTER COLUMN idempotency_key SET DATA TYPE VARCHAR(160);
+
+-- 이미 저장된 키도 같은 형식으로 변환 (배포 전 요청의 재시도도 저장된 응답을 찾을 수 있도록)
+UPDATE idempotency_keys SET idempotency_key = COALESCE(member_id, '') || ':' || idempotency_key;
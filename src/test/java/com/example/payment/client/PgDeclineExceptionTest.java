@@ -0,0 +1,28 @@
+package com.example.payment.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatusCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 거절로 볼 HTTP 상태 (서킷브레이커 실패율 집계 제외 대상)
+ */
+class PgDeclineExceptionTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 402, 404, 409, 422})
+    @DisplayName("4xx 응답은 결제 거절")
+    void treatsClientErrorAsDecline(int status) {
+        assertThat(PgDeclineException.isDeclineStatus(HttpStatusCode.valueOf(status))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {401, 403, 408, 429, 500, 503, 200})
+    @DisplayName("인증 실패/권한 없음/요청 시간 초과/요청 수 제한과 4xx가 아닌 응답은 결제 거절이 아님 (PG 장애로 집계)")
+    void treatsAuthTimeoutAndThrottlingAsFailure(int status) {
+        assertThat(PgDeclineException.isDeclineStatus(HttpStatusCode.valueOf(status))).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적립금 차감/환원 UPDATE (실제 H2 + Flyway 스키마)
+ * 동시 차감 검증을 위해 테스트 트랜잭션 없이 스레드마다 별도 트랜잭션으로 실행
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRepositoryTest {
+
+    private static final String MEMBER_ID = "points-member";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("잔액이 충분하면 차감하고, 부족하거나 회원이 없으면 0건")
+    void deductsOnlyWhenBalanceIsSufficient() {
+        createMember(1000L);
+
+        assertThat(deduct(MEMBER_ID, 600L)).isEqualTo(1);
+        assertThat(deduct(MEMBER_ID, 600L)).isZero();
+        assertThat(deduct("unknown-member", 1L)).isZero();
+        assertThat(memberRepository.findPointsByMemberId(MEMBER_ID)).contains(400L);
+    }
+
+    @Test
+    @DisplayName("동시에 차감해도 잔액이 음수가 되지 않고 잔액만큼만 차감됨")
+    void concurrentDeductionsNeverOverdraw() throws Exception {
+        long balance = 10_000L;
+        long amount = 700L;
+        int threads = 32;
+        createMember(balance);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return deduct(MEMBER_ID, amount);
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Integer> result : results) {
+                succeeded += result.get();
+            }
+
+            long expectedSucceeded = balance / amount;
+            assertThat(succeeded).isEqualTo(expectedSucceeded);
+            assertThat(memberRepository.findPointsByMemberId(MEMBER_ID))
+                .contains(balance - expectedSucceeded * amount);
+        }
+    }
+
+    private int deduct(String memberId, long amount) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+            memberRepository.deductPoints(memberId, amount, LocalDateTime.now()));
+    }
+
+    private void createMember(long points) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberRepository.save(new Member(MEMBER_ID, "적립금 회원", "points@example.com", "010-0000-0000"));
+            memberRepository.restorePoints(MEMBER_ID, points, LocalDateTime.now());
+        });
+    }
+}
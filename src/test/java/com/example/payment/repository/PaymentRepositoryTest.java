@@ -0,0 +1,107 @@
+package com.example.payment.repository;
+
+import com.example.payment.config.IdSequenceInitializer;
+import com.example.payment.entity.Member;
+import com.example.payment.entity.Payment;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 ID 시퀀스 할당과 INSERT 배치 전송 (실제 H2 + Flyway 스키마)
+ * Hibernate 통계로 JDBC 구문 준비 횟수를 세어 건별 INSERT가 아닌 배치로 전송되는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(IdSequenceInitializer.class) // flywayInitializer 이후 생성되는지 함께 확인
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentRepositoryTest {
+
+    private static final String MEMBER_ID = "batch-member";
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long memberPk;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        memberPk = memberRepository.save(new Member(MEMBER_ID, "배치 회원", "batch@example.com", "010-0000-0000")).getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("결제 여러 건 저장 시 시퀀스 1번 조회 + INSERT 배치 1번으로 전송")
+    void batchesPaymentInserts() {
+        int count = 10;
+
+        List<Payment> saved = new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = memberRepository.getReferenceById(memberPk);
+            List<Payment> payments = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                payments.add(new Payment("ORDER_BATCH", member, PaymentMethod.CARD, PaymentType.APPROVE,
+                        "TOSS", 1000L, "상품", "tid-" + i));
+            }
+            return paymentRepository.saveAll(payments);
+        });
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(count);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 시퀀스 조회 1 + 배치 INSERT 1
+        assertThat(saved).extracting(Payment::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("시퀀스 도입 전에 저장된 ID가 있으면 시퀀스를 최대 ID 다음 값으로 이동")
+    void alignsSequencePastExistingIds() {
+        long existingId = 100_000L;
+        jdbcTemplate.update("INSERT INTO payments (id, order_id, member_id, payment_method, pay_type, payment_amount, "
+                + "payment_at, created_at, updated_at) VALUES (?, 'ORDER_LEGACY', ?, 'CARD', 'APPROVE', 1000, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", existingId, memberPk);
+
+        idSequenceInitializer.alignSequences();
+
+        Long nextValue = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR payments_seq", Long.class);
+        assertThat(nextValue).isGreaterThan(existingId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.payment.service;
+
+import com.example.payment.entity.InterfaceHistory;
+import com.example.payment.repository.InterfaceHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class InterfaceHistoryServiceTest {
+
+    private final InterfaceHistoryWriter interfaceHistoryWriter = mock(InterfaceHistoryWriter.class);
+    private final InterfaceHistoryService interfaceHistoryService =
+            new InterfaceHistoryService(mock(InterfaceHistoryRepository.class), interfaceHistoryWriter);
+
+    @Test
+    @DisplayName("응답 기록은 처음 한 번만 반영하고 이후 호출은 무시")
+    void completesOnlyOnce() {
+        InterfaceHistory history = interfaceHistoryService.startHistory("TOSS", "confirm", "https://pg.test/confirm", null, "ORDER_1");
+
+        interfaceHistoryService.completeSuccessHistory(history, null);
+        interfaceHistoryService.completeFailureHistory(history, null, "9999", "응답 시간 초과");
+
+        assertThat(history.getResponseCode()).isEqualTo("0000");
+        assertThat(history.getErrorMessage()).isNull();
+        verify(interfaceHistoryWriter, times(1)).write(history);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 응답을 기록해도 이력은 한 번만 저장")
+    void completesOnlyOnceConcurrently() throws Exception {
+        int threads = 8;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int round = 0; round < 200; round++) {
+                InterfaceHistory history = interfaceHistoryService.startHistory("TOSS", "confirm", "https://pg.test/confirm", null, "ORDER_" + round);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    String responseCode = "100" + i;
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        interfaceHistoryService.completeFailureHistory(history, null, responseCode, "오류 " + responseCode);
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> result : results) {
+                    result.get();
+                }
+
+                verify(interfaceHistoryWriter, times(1)).write(any());
+                // 저장된 이력의 응답 코드와 오류 메시지는 같은 호출에서 기록된 값
+                assertThat(history.getErrorMessage()).isEqualTo("오류 " + history.getResponseCode());
+                clearInvocations(interfaceHistoryWriter);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.payment.service;
+
+import com.example.payment.config.InterfaceHistoryWriterConfig;
+import com.example.payment.entity.InterfaceHistory;
+import com.example.payment.metrics.PaymentMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인터페이스 이력 비동기 저장 종료 처리
+ * JDBC 배치 저장은 저장된 이력을 기록하는 것으로 대체
+ */
+class InterfaceHistoryWriterTest {
+
+    private final Set<InterfaceHistory> saved = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch writerThreadRelease = new CountDownLatch(1);
+    private final CountDownLatch writerThreadBlocked = new CountDownLatch(1);
+
+    private final InterfaceHistoryWriterConfig config = new InterfaceHistoryWriterConfig();
+    private InterfaceHistoryWriter writer;
+    private boolean blockWriterThread;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            if (blockWriterThread && Thread.currentThread().getName().startsWith("interface-history-writer")) {
+                writerThreadBlocked.countDown();
+                writerThreadRelease.await(10, TimeUnit.SECONDS);
+            }
+            saved.addAll(invocation.getArgument(1, Collection.class));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        config.setQueueCapacity(100_000);
+        writer = new InterfaceHistoryWriter(config, jdbcTemplate, Schedulers.immediate(), mock(PaymentMetrics.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writerThreadRelease.countDown();
+    }
+
+    @Test
+    @DisplayName("저장 스레드가 종료 대기 시간 내에 끝나지 않으면 큐에 남은 이력을 종료 시 직접 저장")
+    void flushesRemainingHistoriesWhenWriterThreadDoesNotFinish() throws Exception {
+        config.setShutdownTimeout(Duration.ofMillis(100));
+        blockWriterThread = true;
+        writer.start();
+
+        writer.write(history("ORDER_1"));
+        assertThat(writerThreadBlocked.await(5, TimeUnit.SECONDS)).isTrue(); // 저장 스레드가 첫 이력을 저장하는 중
+        InterfaceHistory queued1 = history("ORDER_2");
+        InterfaceHistory queued2 = history("ORDER_3");
+        writer.write(queued1);
+        writer.write(queued2);
+
+        writer.stop();
+
+        assertThat(saved).contains(queued1, queued2);
+        assertThat(writer.getQueuedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 저장 요청이 들어와도 모든 이력 저장 (유실 없음)")
+    void savesAllHistoriesWrittenWhileStopping() throws Exception {
+        config.setWriterThreads(2);
+        config.setBatchSize(10);
+        writer.start();
+
+        int producers = 8;
+        int perProducer = 2_000;
+        CountDownLatch started = new CountDownLatch(producers);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    for (int i = 0; i < perProducer; i++) {
+                        writer.write(history("ORDER_" + producer + "_" + i));
+                    }
+                }));
+            }
+            started.await();
+            writer.stop();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        assertThat(saved).hasSize(producers * perProducer);
+        assertThat(writer.getQueuedCount()).isZero();
+    }
+
+    private InterfaceHistory history(String orderId) {
+        InterfaceHistory history = InterfaceHistory.createRequest("TOSS", "confirm", "https://pg.test/confirm", "{}", orderId);
+        history.completeResponse("{}", "0000", null);
+        return history;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.payment.service;
+
+import com.example.payment.dto.PaymentDto;
+import com.example.payment.dto.PaymentSummary;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentHistoryMergerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 10, 18, 12, 0);
+
+    private final PaymentHistoryMerger merger = new PaymentHistoryMerger();
+
+    @Test
+    @DisplayName("승인건과 취소건을 승인건 기준으로 병합하고 가장 최근 취소일시를 설정")
+    void mergesApprovalWithLatestCancel() {
+        List<PaymentDto> merged = merger.merge(List.of(
+            summary(4L, "ORDER_A", PaymentMethod.CARD, PaymentType.CANCEL, BASE.plusMinutes(30)),
+            summary(3L, "ORDER_A", PaymentMethod.CARD, PaymentType.CANCEL, BASE.plusMinutes(20)),
+            summary(2L, "ORDER_B", PaymentMethod.CARD, PaymentType.APPROVE, BASE.plusMinutes(10)),
+            summary(1L, "ORDER_A", PaymentMethod.CARD, PaymentType.APPROVE, BASE)
+        ));
+
+        assertThat(merged).extracting(PaymentDto::getId).containsExactly(2L, 1L);
+
+        PaymentDto cancelled = merged.get(1);
+        assertThat(cancelled.getIsCancelled()).isTrue();
+        assertThat(cancelled.getCancelledAt()).isEqualTo(BASE.plusMinutes(30));
+        assertThat(cancelled.getPayType()).isEqualTo("CANCEL");
+        assertThat(cancelled.getPaymentAt()).isEqualTo(BASE);
+
+        assertThat(merged.get(0).getIsCancelled()).isFalse();
+        assertThat(merged.get(0).getPayType()).isEqualTo("APPROVE");
+    }
+
+    @Test
+    @DisplayName("같은 주문이라도 결제수단이 다르면 별도 결제내역")
+    void groupsByOrderAndPaymentMethod() {
+        List<PaymentDto> merged = merger.merge(List.of(
+            summary(3L, "ORDER_A", PaymentMethod.POINTS, PaymentType.CANCEL, BASE.plusMinutes(5)),
+            summary(2L, "ORDER_A", PaymentMethod.POINTS, PaymentType.APPROVE, BASE),
+            summary(1L, "ORDER_A", PaymentMethod.CARD, PaymentType.APPROVE, BASE)
+        ));
+
+        assertThat(merged).extracting(PaymentDto::getId).containsExactly(2L, 1L);
+        assertThat(merged).extracting(PaymentDto::getIsCancelled).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("같은 그룹에 승인건이 여러 개면 가장 최근 승인건만 사용")
+    void usesLatestApproval() {
+        List<PaymentDto> merged = merger.merge(List.of(
+            summary(2L, "ORDER_A", PaymentMethod.CARD, PaymentType.APPROVE, BASE.plusMinutes(1)),
+            summary(1L, "ORDER_A", PaymentMethod.CARD, PaymentType.APPROVE, BASE)
+        ));
+
+        assertThat(merged).extracting(PaymentDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("취소건만 있는 그룹은 가장 최근 취소건을 그대로 사용")
+    void keepsLatestCancelWhenNoApproval() {
+        List<PaymentDto> merged = merger.merge(List.of(
+            summary(5L, "ORDER_A", PaymentMethod.CARD, PaymentType.CANCEL, BASE.plusMinutes(20)),
+            summary(4L, "ORDER_B", PaymentMethod.CARD, PaymentType.APPROVE, BASE.plusMinutes(15)),
+            summary(3L, "ORDER_A", PaymentMethod.CARD, PaymentType.CANCEL, BASE.plusMinutes(10))
+        ));
+
+        assertThat(merged).extracting(PaymentDto::getId).containsExactly(5L, 4L);
+
+        PaymentDto cancelOnly = merged.get(0);
+        assertThat(cancelOnly.getPayType()).isEqualTo("CANCEL");
+        assertThat(cancelOnly.getPaymentAt()).isEqualTo(BASE.plusMinutes(20));
+        assertThat(cancelOnly.getIsCancelled()).isFalse();
+        assertThat(cancelOnly.getCancelledAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("취소건이 먼저 배치되어도 승인건을 만나면 승인건 위치로 대체 (결제일시 내림차순 유지)")
+    void replacesPlacedCancelWithApproval() {
+        List<PaymentDto> merged = merger.merge(List.of(
+            summary(4L, "ORDER_A", PaymentMethod.CARD, PaymentType.CANCEL, BASE.plusMinutes(30)),
+            summary(3L, "ORDER_B", PaymentMethod.CARD, PaymentType.APPROVE, BASE.plusMinutes(20)),
+            summary(2L, "ORDER_C", PaymentMethod.CARD, PaymentType.APPROVE, BASE.plusMinutes(10)),
+            summary(1L, "ORDER_A", PaymentMethod.CARD, PaymentType.APPROVE, BASE)
+        ));
+
+        assertThat(merged).extracting(PaymentDto::getId).containsExactly(3L, 2L, 1L);
+        assertThat(merged.get(2).getIsCancelled()).isTrue();
+        assertThat(merged.get(2).getCancelledAt()).isEqualTo(BASE.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("결제일시가 같은 결제는 입력 순서(ID 내림차순)를 유지하고 같은 시각의 승인/취소도 병합")
+    void keepsInputOrderForEqualPaymentAt() {
+        List<PaymentDto> merged = merger.merge(List.of(
+            summary(5L, "ORDER_A", PaymentMethod.CARD, PaymentType.CANCEL, BASE),
+            summary(4L, "ORDER_C", PaymentMethod.CARD, PaymentType.APPROVE, BASE),
+            summary(3L, "ORDER_B", PaymentMethod.CARD, PaymentType.APPROVE, BASE),
+            summary(2L, "ORDER_A", PaymentMethod.CARD, PaymentType.APPROVE, BASE)
+        ));
+
+        assertThat(merged).extracting(PaymentDto::getId).containsExactly(4L, 3L, 2L);
+        assertThat(merged.get(2).getIsCancelled()).isTrue();
+        assertThat(merged.get(2).getCancelledAt()).isEqualTo(BASE);
+    }
+
+    @Test
+    @DisplayName("빈 목록")
+    void mergesEmptyList() {
+        assertThat(merger.merge(List.of())).isEmpty();
+    }
+
+    static PaymentSummary summary(Long id, String orderId, PaymentMethod method, PaymentType payType,
+                                  LocalDateTime paymentAt) {
+        return new PaymentSummary(id, orderId, method, payType, method == PaymentMethod.CARD ? "TOSS" : null,
+                10000L, paymentAt, "상품", "member1");
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.payment.service;
+
+import com.example.payment.config.PaymentExecutionConfig;
+import com.example.payment.dto.PaymentDto;
+import com.example.payment.dto.PaymentHistoryPageResponse;
+import com.example.payment.dto.PaymentSummary;
+import com.example.payment.enums.PaymentMethod;
+import com.example.payment.enums.PaymentType;
+import com.example.payment.factory.PaymentStrategyFactory;
+import com.example.payment.metrics.PaymentMetrics;
+import com.example.payment.repository.MemberRepository;
+import com.example.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.example.payment.service.PaymentHistoryMergerTest.summary;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제내역 페이지 조회 (PaymentService.getPaymentHistoryPage)
+ * PaymentRepository 결제내역 조회는 실제 쿼리와 같은 조건/정렬/건수 제한으로 메모리의 결제 기록에서 조회
+ */
+class PaymentServiceHistoryPageTest {
+
+    private static final String MEMBER_ID = "member1";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 10, 18, 12, 0);
+
+    private static final Comparator<PaymentSummary> HISTORY_ORDER = Comparator
+        .comparing(PaymentSummary::getPaymentAt).thenComparing(PaymentSummary::getId).reversed();
+
+    private final List<PaymentSummary> rows = new ArrayList<>();
+    private final PaymentHistoryMerger merger = new PaymentHistoryMerger();
+
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        PaymentRepository paymentRepository = mock(PaymentRepository.class);
+        when(paymentRepository.findHistoryFirstPage(anyString(), any(Limit.class)))
+            .thenAnswer(invocation -> history(row -> true, invocation.getArgument(1)));
+        when(paymentRepository.findHistoryPageAfter(anyString(), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+            .thenAnswer(invocation -> {
+                LocalDateTime paymentAt = invocation.getArgument(1);
+                Long id = invocation.getArgument(2);
+                return history(row -> row.getPaymentAt().isBefore(paymentAt)
+                    || (row.getPaymentAt().equals(paymentAt) && row.getId() < id), invocation.getArgument(3));
+            });
+        when(paymentRepository.findHistoryByMemberAndOrderIds(anyString(), anyCollection()))
+            .thenAnswer(invocation -> {
+                Collection<String> orderIds = invocation.getArgument(1);
+                return history(row -> orderIds.contains(row.getOrderId()), Limit.unlimited());
+            });
+
+        paymentService = new PaymentService(mock(PaymentStrategyFactory.class), paymentRepository,
+            mock(MemberRepository.class), mock(PaymentTransactionService.class), mock(NetCancelService.class),
+            mock(PaymentEventOutbox.class), mock(PaymentMetrics.class), merger, new PaymentExecutionConfig(),
+            mock(ExecutorService.class), mock(Scheduler.class));
+    }
+
+    @Test
+    @DisplayName("취소건과 승인건이 다른 페이지에 있으면 승인건이 있는 페이지에 취소된 결제내역으로 한 번만 포함")
+    void mergesApprovalAndCancelOnDifferentPages() {
+        add(1L, "ORDER_A", PaymentType.APPROVE, BASE);
+        add(2L, "ORDER_B", PaymentType.APPROVE, BASE.plusMinutes(1));
+        add(3L, "ORDER_C", PaymentType.APPROVE, BASE.plusMinutes(2));
+        add(4L, "ORDER_A", PaymentType.CANCEL, BASE.plusMinutes(3));
+
+        PaymentHistoryPageResponse first = paymentService.getPaymentHistoryPage(MEMBER_ID, null, 2);
+        assertThat(first.getPaymentList()).extracting(PaymentDto::getId).containsExactly(3L);
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(BASE.plusMinutes(2) + "_3");
+
+        PaymentHistoryPageResponse second = paymentService.getPaymentHistoryPage(MEMBER_ID, first.getNextCursor(), 2);
+        assertThat(second.getPaymentList()).extracting(PaymentDto::getId).containsExactly(2L, 1L);
+        assertThat(second.getHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+
+        PaymentDto cancelled = second.getPaymentList().get(1);
+        assertThat(cancelled.getIsCancelled()).isTrue();
+        assertThat(cancelled.getCancelledAt()).isEqualTo(BASE.plusMinutes(3));
+    }
+
+    @Test
+    @DisplayName("취소건만 있는 주문은 가장 최근 취소건이 있는 페이지에 한 번만 포함")
+    void includesCancelOnlyGroupOnce() {
+        add(1L, "ORDER_A", PaymentType.CANCEL, BASE);
+        add(2L, "ORDER_B", PaymentType.APPROVE, BASE.plusMinutes(1));
+        add(3L, "ORDER_A", PaymentType.CANCEL, BASE.plusMinutes(2));
+
+        List<List<Long>> pages = pageIds(1);
+
+        assertThat(pages).containsExactly(List.of(3L), List.of(2L), List.of());
+    }
+
+    @Test
+    @DisplayName("결제일시가 같은 결제가 페이지 경계에 걸쳐도 ID로 이어서 조회 (누락/중복 없음)")
+    void pagesThroughEqualPaymentAt() {
+        add(1L, "ORDER_A", PaymentType.APPROVE, BASE);
+        add(2L, "ORDER_B", PaymentType.APPROVE, BASE);
+        add(3L, "ORDER_A", PaymentType.CANCEL, BASE);
+        add(4L, "ORDER_C", PaymentType.APPROVE, BASE);
+        add(5L, "ORDER_D", PaymentType.APPROVE, BASE);
+
+        List<List<Long>> pages = pageIds(2);
+
+        // 첫 페이지의 ORDER_A 취소건(3)은 승인건(1)이 있는 마지막 페이지에 병합되어 포함
+        assertThat(pages).containsExactly(List.of(5L, 4L), List.of(2L), List.of(1L));
+    }
+
+    @Test
+    @DisplayName("모든 페이지를 이어 붙이면 전체 결제 기록을 한 번에 병합한 결과와 같음")
+    void concatenatedPagesMatchFullMerge() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            rows.clear();
+            long id = 1;
+            int orders = 1 + random.nextInt(8);
+            for (int i = 0; i < 3 + random.nextInt(15); i++) {
+                String orderId = "ORDER_" + random.nextInt(orders);
+                PaymentType payType = random.nextInt(3) == 0 ? PaymentType.CANCEL : PaymentType.APPROVE;
+                add(id++, orderId, payType, BASE.plusMinutes(random.nextInt(4)));
+            }
+            List<Long> expected = merger.merge(history(row -> true, Limit.unlimited())).stream()
+                .map(PaymentDto::getId).toList();
+
+            for (int size = 1; size <= 5; size++) {
+                assertThat(pageIds(size).stream().flatMap(List::stream).toList())
+                    .as("round %d, size %d, rows %s", round, size, rows.stream().map(this::describe).toList())
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    private List<List<Long>> pageIds(int size) {
+        List<List<Long>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaymentHistoryPageResponse page = paymentService.getPaymentHistoryPage(MEMBER_ID, cursor, size);
+            pages.add(page.getPaymentList().stream().map(PaymentDto::getId).toList());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private void add(Long id, String orderId, PaymentType payType, LocalDateTime paymentAt) {
+        rows.add(summary(id, orderId, PaymentMethod.CARD, payType, paymentAt));
+    }
+
+    /**
+     * 결제내역 조회 쿼리와 같은 순서로 조건에 맞는 결제 기록 조회 (조건 적용 후 건수 제한)
+     */
+    private List<PaymentSummary> history(Predicate<PaymentSummary> condition, Limit limit) {
+        Stream<PaymentSummary> matched = rows.stream().filter(condition).sorted(HISTORY_ORDER);
+        return (limit.isLimited() ? matched.limit(limit.max()) : matched).toList();
+    }
+
+    private String describe(PaymentSummary row) {
+        return row.getId() + ":" + row.getOrderId() + ":" + row.getPayType() + ":" + row.getPaymentAt().getMinute();
+    }
+}
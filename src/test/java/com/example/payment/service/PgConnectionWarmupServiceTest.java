@@ -0,0 +1,173 @@
+package com.example.payment.service;
+
+import com.example.payment.client.InicisApiClient;
+import com.example.payment.client.PgWebClientFactory;
+import com.example.payment.client.TossApiClient;
+import com.example.payment.config.InicisConfig;
+import com.example.payment.config.PgHttpClientProperties;
+import com.example.payment.config.PgWarmupConfig;
+import com.example.payment.config.TossConfig;
+import io.netty.channel.ChannelId;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import javax.net.ssl.KeyManagerFactory;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PG 커넥션 미리 열기 (사설 인증서를 사용하는 로컬 HTTPS 스텁 서버)
+ * 스텁 서버는 요청을 받은 커넥션을 기록하여 미리 열린 커넥션 수와 이후 요청의 커넥션 재사용을 확인
+ */
+class PgConnectionWarmupServiceTest {
+
+    private static final char[] PASSWORD = "changeit".toCharArray();
+    private static final int CONNECTIONS_PER_HOST = 3;
+
+    @TempDir
+    static Path tempDir;
+
+    private static Path serverKeyStore;
+    private static Path trustStore;
+
+    private final Set<ChannelId> servedConnections = ConcurrentHashMap.newKeySet();
+    private DisposableServer server;
+    private PgWebClientFactory pgWebClientFactory;
+
+    /**
+     * 스텁 서버 인증서(localhost, 자체 서명) 생성 후 인증서만 담은 트러스트스토어 생성
+     */
+    @BeforeAll
+    static void createCertificates() throws Exception {
+        serverKeyStore = tempDir.resolve("pg-stub.p12");
+        Process keytool = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+                "-genkeypair", "-alias", "pg-stub", "-keyalg", "EC", "-groupname", "secp256r1",
+                "-dname", "CN=localhost", "-ext", "SAN=dns:localhost,ip:127.0.0.1", "-validity", "1",
+                "-storetype", "PKCS12", "-keystore", serverKeyStore.toString(), "-storepass", new String(PASSWORD))
+                .redirectErrorStream(true)
+                .start();
+        assertThat(keytool.waitFor(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(keytool.exitValue()).as(new String(keytool.getInputStream().readAllBytes())).isZero();
+
+        KeyStore trusted = KeyStore.getInstance("PKCS12");
+        trusted.load(null, null);
+        trusted.setCertificateEntry("pg-stub", loadKeyStore(serverKeyStore).getCertificate("pg-stub"));
+        trustStore = tempDir.resolve("pg-truststore.p12");
+        try (OutputStream outputStream = Files.newOutputStream(trustStore)) {
+            trusted.store(outputStream, PASSWORD);
+        }
+    }
+
+    @BeforeEach
+    void startServer() throws Exception {
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(loadKeyStore(serverKeyStore), PASSWORD);
+        SslContext serverSslContext = SslContextBuilder.forServer(keyManagerFactory).build();
+
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .secure(spec -> spec.sslContext(serverSslContext))
+                .handle((request, response) -> {
+                    request.withConnection(connection -> servedConnections.add(connection.channel().id()));
+                    return response.status(200).send();
+                })
+                .bindNow();
+        pgWebClientFactory = new PgWebClientFactory();
+    }
+
+    @AfterEach
+    void stopServer() {
+        pgWebClientFactory.destroy();
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("트러스트스토어를 지정하면 HTTPS 스텁 서버에 호스트별 설정 수만큼 커넥션을 미리 열고, 이후 요청은 열어둔 커넥션 재사용")
+    void opensConfiguredConnectionsWithTrustStore() {
+        PgHttpClientProperties http = new PgHttpClientProperties();
+        http.setTrustStore(new FileSystemResource(trustStore));
+        http.setTrustStorePassword(new String(PASSWORD));
+        TossConfig tossConfig = tossConfig(http);
+        WebClient tossWebClient = pgWebClientFactory.create(TossApiClient.POOL_NAME, http);
+        InicisConfig inicisConfig = inicisConfig();
+
+        // ApplicationRunner는 준비 상태 전환 전에 실행되므로 run() 반환 시점이 트래픽 수신 이전
+        warmupService(tossConfig, inicisConfig).run(null);
+
+        assertThat(servedConnections).hasSize(CONNECTIONS_PER_HOST);
+
+        String status = tossWebClient.get().uri(tossConfig.getExecuteUrl())
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().toString()))
+                .block(Duration.ofSeconds(5));
+        assertThat(status).startsWith("200");
+        assertThat(servedConnections).hasSize(CONNECTIONS_PER_HOST);
+    }
+
+    @Test
+    @DisplayName("인증서를 검증할 수 없으면 커넥션을 열지 못해도 기동을 막지 않음")
+    void continuesWhenCertificateIsNotTrusted() {
+        PgHttpClientProperties http = new PgHttpClientProperties(); // JVM 기본 트러스트스토어 (스텁 인증서 없음)
+        TossConfig tossConfig = tossConfig(http);
+        pgWebClientFactory.create(TossApiClient.POOL_NAME, http);
+        InicisConfig inicisConfig = inicisConfig();
+
+        warmupService(tossConfig, inicisConfig).run(null);
+
+        assertThat(servedConnections).isEmpty();
+    }
+
+    private PgConnectionWarmupService warmupService(TossConfig tossConfig, InicisConfig inicisConfig) {
+        PgWarmupConfig warmupConfig = new PgWarmupConfig();
+        warmupConfig.setConnectionsPerHost(CONNECTIONS_PER_HOST);
+        warmupConfig.setTimeout(Duration.ofSeconds(10));
+        return new PgConnectionWarmupService(pgWebClientFactory, warmupConfig, tossConfig, inicisConfig);
+    }
+
+    private TossConfig tossConfig(PgHttpClientProperties http) {
+        String baseUrl = "https://localhost:" + server.port();
+        TossConfig tossConfig = new TossConfig();
+        tossConfig.setExecuteUrl(baseUrl + "/v1/payments/confirm");
+        tossConfig.setCancelUrl(baseUrl + "/v1/payments/{paymentKey}/cancel");
+        tossConfig.setHttp(http);
+        return tossConfig;
+    }
+
+    /**
+     * 이니시스 풀은 생성만 하고 미리 열 호스트는 없음
+     */
+    private InicisConfig inicisConfig() {
+        InicisConfig inicisConfig = new InicisConfig();
+        inicisConfig.setRefundUrl(null);
+        pgWebClientFactory.create(InicisApiClient.POOL_NAME, inicisConfig.getHttp());
+        return inicisConfig;
+    }
+
+    private static KeyStore loadKeyStore(Path path) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            keyStore.load(inputStream, PASSWORD);
+        }
+        return keyStore;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.payment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hashing 결과가 MessageDigest + String.getBytes(UTF_8)와 같은지 확인
+ */
+class HashingTest {
+
+    static Stream<String> inputs() {
+        return Stream.of(
+                "",
+                "ORDER_20241018_000123",
+                "한글 결제 취소 사유",
+                "é¢ñ",                                  // 2바이트 문자
+                "😀 이모지 💳",                           // 서로게이트 쌍
+                "\uD83D",                               // 짝이 없는 상위 서로게이트 (끝)
+                "\uD83Dabc",                            // 짝이 없는 상위 서로게이트 (중간)
+                "abc\uDE00",                            // 짝이 없는 하위 서로게이트
+                "\uDE00\uD83D",                         // 순서가 뒤바뀐 서로게이트
+                "\uFFFF\u0800\u07FF\u0080\u007F",       // 인코딩 길이 경계
+                "a".repeat(8 * 1024 + 1),               // 재사용 버퍼보다 긴 ASCII
+                "결".repeat(3000),                      // 재사용 버퍼보다 긴 한글 (9000바이트)
+                "😀".repeat(2048) + "\uD83D"            // 재사용 버퍼보다 긴 서로게이트 쌍 + 짝 없는 서로게이트
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    @DisplayName("SHA-256/SHA-512 결과가 MessageDigest와 같음")
+    void matchesMessageDigest(String input) {
+        assertThat(Hashing.sha256Hex(input)).isEqualTo(expected("SHA-256", input));
+        assertThat(Hashing.sha512Hex(input)).isEqualTo(expected("SHA-512", input));
+    }
+
+    @Test
+    @DisplayName("긴 입력 이후 짧은 입력도 같은 결과 (재사용 버퍼에 이전 입력이 남지 않음)")
+    void reusesBufferAcrossInputs() {
+        List<String> sequence = List.of("가".repeat(2000), "a", "😀".repeat(100), "", "b".repeat(10000), "결제");
+        for (String input : sequence) {
+            assertThat(Hashing.sha256Hex(input)).isEqualTo(expected("SHA-256", input));
+            assertThat(Hashing.sha512Hex(input)).isEqualTo(expected("SHA-512", input));
+        }
+    }
+
+    @Test
+    @DisplayName("임의 문자열 (서로게이트 포함)")
+    void matchesMessageDigestForRandomInputs() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            String input = randomString(random);
+            assertThat(Hashing.sha256Hex(input)).as("input #%d", i).isEqualTo(expected("SHA-256", input));
+            assertThat(Hashing.sha512Hex(input)).as("input #%d", i).isEqualTo(expected("SHA-512", input));
+        }
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 동시에 호출해도 같은 결과 (공용 엔진 풀)")
+    void matchesMessageDigestOnVirtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                String input = randomString(new Random(i));
+                results.add(executor.submit(() -> Hashing.sha256Hex(input).equals(expected("SHA-256", input))
+                        && Hashing.sha512Hex(input).equals(expected("SHA-512", input))));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+
+    private static String expected(String algorithm, String input) {
+        try {
+            byte[] hash = MessageDigest.getInstance(algorithm).digest(input.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * ASCII, 2/3바이트 문자, 한글, 이모지, 짝이 없는 서로게이트를 섞은 문자열 (10%는 8KB 초과)
+     */
+    private static String randomString(Random random) {
+        int length = random.nextInt(random.nextInt(10) == 0 ? 20000 : 300);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(6)) {
+                case 0 -> builder.append((char) random.nextInt(0x80));
+                case 1 -> builder.append((char) (0x80 + random.nextInt(0x780)));
+                case 2 -> builder.append((char) ('가' + random.nextInt(11172)));
+                case 3 -> builder.append("😀");
+                case 4 -> builder.append((char) (Character.MIN_SURROGATE + random.nextInt(0x800)));
+                default -> builder.append((char) random.nextInt(0x10000));
+            }
+        }
+        return builder.toString();
+    }
+}